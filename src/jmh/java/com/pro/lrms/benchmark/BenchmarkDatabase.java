@@ -0,0 +1,92 @@
+package com.pro.lrms.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.pro.lrms.LrmsApplication;
+
+/**
+ * Application context on an embedded H2 database seeded with datasetSize lawyers, shared by all benchmark
+ * threads of a trial. Select the dataset sizes with -p datasetSize=1000,100000.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+    private static final String INSERT_SQL = "INSERT INTO lawyerrecord (lawyerid, lawyername, lawyerphonenumber, "
+            + "lawyeraddress, lawyerdomain, lawyercase, lawyerexperience, lawyerwr, lawyerlicense, lawyerstatus) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String[] DOMAINS = {"Civil", "Criminal", "Corporate", "Family", "Tax", "Property"};
+    private static final int SEED_BATCH = 10_000;
+
+    @Param({"1000", "100000", "1000000"})
+    public int datasetSize;
+
+    ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(LrmsApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:lrms-bench;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.devtools.restart.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH);
+        for (int i = 0; i < datasetSize; i++) {
+            int cases = random.nextInt(500);
+            batch.add(new Object[] {
+                    lawyerID(i), "Lawyer " + i, String.format("98%08d", i), i + " Court Road",
+                    DOMAINS[i % DOMAINS.length], cases, random.nextInt(40), random.nextFloat(),
+                    "LIC" + i, i % 5 == 0 ? "Inactive" : "Active"});
+            if (batch.size() == SEED_BATCH) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * @return The ID of a uniformly chosen seeded lawyer.
+     */
+    String randomLawyerID() {
+        return lawyerID(ThreadLocalRandom.current().nextInt(datasetSize));
+    }
+
+    static String lawyerID(int i) {
+        return String.format("LID%07d", i);
+    }
+}
@@ -0,0 +1,92 @@
+package com.pro.lrms.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.pro.lrms.dto.LawyerPage;
+import com.pro.lrms.entity.LawyerRecord;
+
+/**
+ * Encode and decode time of a /getlawyer page in each negotiable encoding (JSON, Smile, CBOR).
+ * Payload sizes, plain and gzip-compressed, are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LawyerEncodingBenchmark {
+
+    private static final TypeReference<LawyerPage<LawyerRecord>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    @Param({"50", "500"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private LawyerPage<LawyerRecord> page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+        objectMapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+        List<LawyerRecord> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            LawyerRecord lawyer = new LawyerRecord(BenchmarkDatabase.lawyerID(i), "Lawyer " + i, String.format("98%08d", i),
+                    i + " Court Road,Bengaluru", i % 2 == 0 ? "Civil" : "Criminal", 10 + i % 300, i % 40,
+                    (i % 100) / 100f, "KA" + (100000 + i), i % 5 == 0 ? "Inactive" : "Active");
+            lawyer.setLawyerVersion((long) i % 3);
+            content.add(lawyer);
+        }
+        page = new LawyerPage<>(content, pageSize, "aWQ6TElEMDAwMDA0OQ", "/lrms/lawyers/getlawyer?cursor=aWQ6TElEMDAwMDA0OQ&size=" + pageSize);
+        encoded = objectMapper.writeValueAsBytes(page);
+        System.out.printf("%n%s, %d lawyers: %d bytes, %d bytes gzip%n", format, pageSize, encoded.length, gzipSize(encoded));
+    }
+
+    private static int gzipSize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public LawyerPage<LawyerRecord> decode() throws IOException {
+        return objectMapper.readValue(encoded, PAGE_TYPE);
+    }
+}
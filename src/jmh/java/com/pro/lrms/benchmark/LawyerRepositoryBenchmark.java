@@ -0,0 +1,53 @@
+package com.pro.lrms.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.repository.LawyerRepository;
+
+/**
+ * Repository queries without the service layer's cache, each in its own read-only transaction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class LawyerRepositoryBenchmark {
+
+    private LawyerRepository lawyerRepo;
+    private TransactionTemplate readOnlyTx;
+
+    @Setup
+    public void setUp(BenchmarkDatabase database) {
+        lawyerRepo = database.bean(LawyerRepository.class);
+        readOnlyTx = new TransactionTemplate(database.bean(PlatformTransactionManager.class));
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @Benchmark
+    public LawyerRecord findByLawyerID(BenchmarkDatabase database) {
+        String lawyerID = database.randomLawyerID();
+        return readOnlyTx.execute(status -> lawyerRepo.findByLawyerID(lawyerID));
+    }
+
+    @Benchmark
+    public List<LawyerRecord> findPageAfter(BenchmarkDatabase database) {
+        String afterID = database.randomLawyerID();
+        return readOnlyTx.execute(status -> lawyerRepo.findPageAfter(afterID, Limit.of(51)));
+    }
+}
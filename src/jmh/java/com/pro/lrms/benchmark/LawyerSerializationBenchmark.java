@@ -0,0 +1,70 @@
+package com.pro.lrms.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pro.lrms.dto.LawyerPage;
+import com.pro.lrms.entity.LawyerRecord;
+
+/**
+ * JSON serialisation of LawyerRecord with the ObjectMapper configuration Spring MVC uses.
+ * Needs no database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LawyerSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private LawyerRecord lawyer;
+    private LawyerPage<LawyerRecord> page;
+    private byte[] lawyerJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        lawyer = lawyer(0);
+        List<LawyerRecord> content = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            content.add(lawyer(i));
+        }
+        page = new LawyerPage<>(content, 50, "aWQ6TElEMDAwMDA0OQ", "/lrms/lawyers/getlawyer?cursor=aWQ6TElEMDAwMDA0OQ&size=50");
+        lawyerJson = objectMapper.writeValueAsBytes(lawyer);
+    }
+
+    private static LawyerRecord lawyer(int i) {
+        return new LawyerRecord(BenchmarkDatabase.lawyerID(i), "Lawyer " + i, String.format("98%08d", i),
+                i + " Court Road", "Civil", 120, 12, 0.64f, "LIC" + i, "Active");
+    }
+
+    @Benchmark
+    public byte[] serializeLawyer() throws IOException {
+        return objectMapper.writeValueAsBytes(lawyer);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public LawyerRecord deserializeLawyer() throws IOException {
+        return objectMapper.readValue(lawyerJson, LawyerRecord.class);
+    }
+}
@@ -0,0 +1,62 @@
+package com.pro.lrms.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.pro.lrms.dto.LawyerPage;
+import com.pro.lrms.dto.LawyerSummary;
+import com.pro.lrms.dto.PageCursor;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.service.LawyerService;
+
+/**
+ * Service-layer hot paths, including the lookup cache and transaction handling.
+ * Throughput and SampleTime (latency percentiles) are both reported; run with -prof gc for allocations per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class LawyerServiceBenchmark {
+
+    private LawyerService lawyerService;
+
+    @Setup
+    public void setUp(BenchmarkDatabase database) {
+        lawyerService = database.bean(LawyerService.class);
+    }
+
+    @Benchmark
+    public LawyerRecord getLawyerByID(BenchmarkDatabase database) {
+        return lawyerService.getLawyerByID(database.randomLawyerID());
+    }
+
+    @Benchmark
+    public LawyerPage<LawyerRecord> getAllLawyerFirstPage() {
+        return lawyerService.getAllLawyer(null, 50);
+    }
+
+    /**
+     * A page starting at a random position, which keyset pagination should serve as fast as the first one.
+     */
+    @Benchmark
+    public LawyerPage<LawyerRecord> getAllLawyerRandomPage(BenchmarkDatabase database) {
+        return lawyerService.getAllLawyer(PageCursor.encode(database.randomLawyerID()), 50);
+    }
+
+    @Benchmark
+    public List<LawyerSummary> getLawyerSummary() {
+        return lawyerService.getLawyerSummary();
+    }
+}
@@ -0,0 +1,73 @@
+package com.pro.lrms.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.pro.lrms.dto.AnalyticsFilter;
+import com.pro.lrms.dto.AnalyticsGroup;
+import com.pro.lrms.stats.ColumnarLawyers;
+
+/**
+ * Analytics queries over the columnar snapshot, at the BenchmarkDatabase dataset sizes.
+ * Needs no database; the snapshot's footprint is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LawyerSnapshotBenchmark {
+
+    private static final String[] DOMAINS = {"Civil", "Criminal", "Family", "Corporate", "Tax"};
+
+    @Param({"1000", "100000", "1000000"})
+    public int datasetSize;
+
+    private ColumnarLawyers columns;
+    private AnalyticsFilter activeCriminal;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        columns = new ColumnarLawyers(datasetSize);
+        for (int i = 0; i < datasetSize; i++) {
+            columns.put(BenchmarkDatabase.lawyerID(i), 0, DOMAINS[i % DOMAINS.length], i % 5 == 0 ? "Inactive" : "Active",
+                    random.nextInt(300), random.nextInt(40), random.nextFloat());
+        }
+        activeCriminal = new AnalyticsFilter("Criminal", "Active", null, null, null, null, null, null);
+        System.out.printf("%n%d lawyers: snapshot %d KB%n", datasetSize, columns.estimatedBytes() / 1024);
+    }
+
+    @Benchmark
+    public List<AnalyticsGroup> caseLoadPerDomain() {
+        return columns.groupBy(ColumnarLawyers.GroupBy.DOMAIN, 5, ColumnarLawyers.Metric.CASES, null);
+    }
+
+    @Benchmark
+    public List<AnalyticsGroup> winRatioByExperienceBand() {
+        return columns.groupBy(ColumnarLawyers.GroupBy.EXPERIENCE, 5, ColumnarLawyers.Metric.WIN_RATIO, activeCriminal);
+    }
+
+    @Benchmark
+    public Map<String, Long> winRatioHistogram() {
+        return columns.histogram(ColumnarLawyers.Metric.WIN_RATIO, 0.1, activeCriminal);
+    }
+
+    @Benchmark
+    public Map<String, Double> casePercentiles() {
+        return columns.percentiles(ColumnarLawyers.Metric.CASES, new double[] {0.5, 0.9, 0.99}, null);
+    }
+}
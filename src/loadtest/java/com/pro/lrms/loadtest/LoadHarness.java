@@ -0,0 +1,280 @@
+package com.pro.lrms.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pro.lrms.LrmsApplication;
+import com.pro.lrms.dto.ImportReport;
+import com.pro.lrms.loadtest.LoadProfile.Operation;
+import com.pro.lrms.service.LawyerImportService;
+
+/**
+ * Load and soak harness for /lrms/lawyers. Starts the application on an embedded H2 database, imports a
+ * synthetic dataset and drives an open-loop workload: requests are issued on a fixed schedule whatever the
+ * response times, and latency is measured from the scheduled start, so queueing delay is not hidden
+ * (no coordinated omission).
+ * <p>
+ * Rates are run as consecutive stages. A stage passes when it sustains at least 95% of its target rate with
+ * p99 and error rate within limits; the ramp stops at the first failing stage. Requests still unanswered 30s
+ * after the stage ends are cancelled and recorded as errors with their latency so far, and fail the stage. The process exits with 1 when
+ * the highest passing rate is below min-throughput.
+ * <p>
+ * Usage: mvn -Pload test-compile exec:exec -Dload.args="dataset=100000 rates=500,1000 mix=get:90,post:5,status:5"
+ */
+public final class LoadHarness {
+
+    private static final String BASE = "/lrms/lawyers";
+    private static final double SUSTAINED_FRACTION = 0.95;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadProfile profile;
+    private final SyntheticLawyers lawyers;
+    private final ObjectMapper objectMapper;
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Operation[] schedule;
+    private final AtomicLong nextSequence;
+
+    private LoadHarness(LoadProfile profile, SyntheticLawyers lawyers, ObjectMapper objectMapper, int port) {
+        this.profile = profile;
+        this.lawyers = lawyers;
+        this.objectMapper = objectMapper;
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = "http://localhost:" + port + BASE;
+        this.schedule = schedule(profile.mix());
+        this.nextSequence = new AtomicLong(profile.dataset());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile = LoadProfile.parse(args);
+        // DevTools would restart the application in a new class loader, re-running main without its arguments
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(LrmsApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:lrms-load;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        // All load comes from one client, so its rate limits would cap the measured throughput
+                        "lrms.admission.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        int exitCode;
+        try {
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            SyntheticLawyers lawyers = new SyntheticLawyers(profile.sample(), objectMapper);
+
+            long seedStart = System.nanoTime();
+            ImportReport seeded = context.getBean(LawyerImportService.class).importLawyers(lawyers.dataset(profile.dataset(), 42));
+            System.out.printf("Seeded %d lawyers in %d ms%n", seeded.getCreated(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart));
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            exitCode = new LoadHarness(profile, lawyers, objectMapper, port).run();
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private int run() throws IOException {
+        Files.createDirectories(profile.reportDir());
+        int sustained = 0;
+        for (int rate : profile.rates()) {
+            if (!stage(rate)) {
+                break;
+            }
+            sustained = rate;
+        }
+        System.out.printf("%nHighest sustained rate: %d req/s (required: %.0f req/s)%n", sustained, profile.minThroughput());
+        if (sustained < profile.minThroughput()) {
+            System.out.println("FAILED: no stage at or above min-throughput met the latency and error limits");
+            return 1;
+        }
+        System.out.println("PASSED");
+        return 0;
+    }
+
+    /**
+     * Runs one stage at a fixed rate and prints its report.
+     *
+     * @return Whether the stage met its targets.
+     */
+    private boolean stage(int rate) throws IOException {
+        Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : profile.mix().keySet()) {
+            recorders.put(operation, new Recorder(3));
+        }
+        AtomicLong errors = new AtomicLong();
+        Map<Long, CompletableFuture<HttpResponse<Void>>> inFlight = new ConcurrentHashMap<>();
+        SplittableRandom random = new SplittableRandom(rate);
+
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long warmupNanos = profile.warmup().toNanos();
+        long totalNanos = warmupNanos + profile.duration().toNanos();
+        long start = System.nanoTime();
+        boolean measuring = false;
+        for (long i = 0; ; i++) {
+            long intended = start + i * interval;
+            if (intended - start >= totalNanos) {
+                break;
+            }
+            if (!measuring && intended - start >= warmupNanos) {
+                // Drop everything recorded during warm-up
+                recorders.values().forEach(Recorder::reset);
+                errors.set(0);
+                measuring = true;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = schedule[random.nextInt(schedule.length)];
+            Recorder recorder = recorders.get(operation);
+            long id = i;
+            CompletableFuture<HttpResponse<Void>> response =
+                    client.sendAsync(request(operation, random), HttpResponse.BodyHandlers.discarding());
+            inFlight.put(id, response);
+            // Runs exactly once: on the response, on a failure, or when cancelled at the drain deadline
+            response.whenComplete((result, failure) -> {
+                recorder.recordValue(System.nanoTime() - intended);
+                if (failure != null || result.statusCode() >= 500) {
+                    errors.incrementAndGet();
+                }
+                inFlight.remove(id);
+            });
+        }
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (!inFlight.isEmpty() && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        // A request that never returns would otherwise leave no trace in the latency or the error rate
+        long timedOut = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : inFlight.values()) {
+            if (response.cancel(true)) {
+                timedOut++;
+            }
+        }
+        double seconds = (System.nanoTime() - start - warmupNanos) / 1e9;
+
+        return report(rate, recorders, errors.get(), timedOut, seconds);
+    }
+
+    private boolean report(int rate, Map<Operation, Recorder> recorders, long errors, long timedOut, double seconds)
+            throws IOException {
+        Histogram all = new Histogram(3);
+        System.out.printf("%nStage %d req/s%n%-8s %9s %9s %9s %9s %9s %9s%n", rate,
+                "op", "count", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<Operation, Recorder> entry : recorders.entrySet()) {
+            Histogram histogram = entry.getValue().getIntervalHistogram();
+            all.add(histogram);
+            printRow(entry.getKey().name().toLowerCase(), histogram);
+            writeReport(rate, entry.getKey().name().toLowerCase(), histogram);
+        }
+        printRow("all", all);
+        writeReport(rate, "all", all);
+
+        double throughput = all.getTotalCount() / seconds;
+        double errorRate = all.getTotalCount() == 0 ? 1 : (double) errors / all.getTotalCount();
+        long p99 = all.getValueAtPercentile(99);
+        boolean sustainedRate = throughput >= SUSTAINED_FRACTION * rate;
+        boolean latencyOk = p99 <= profile.maxP99().toNanos();
+        boolean errorsOk = errorRate <= profile.maxErrorRate();
+        boolean drained = timedOut == 0;
+        System.out.printf("throughput %.1f req/s%s, p99 %.2f ms%s, errors %.3f%%%s%s%n",
+                throughput, sustainedRate ? "" : " (below target)",
+                p99 / 1e6, latencyOk ? "" : " (above max-p99 " + profile.maxP99().toMillis() + " ms)",
+                100 * errorRate, errorsOk ? "" : " (above max-error-rate)",
+                drained ? "" : ", " + timedOut + " requests unanswered after " + DRAIN_TIMEOUT.toSeconds() + " s");
+        return sustainedRate && latencyOk && errorsOk && drained;
+    }
+
+    private static void printRow(String name, Histogram histogram) {
+        System.out.printf("%-8s %9d %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50) / 1e6, histogram.getValueAtPercentile(90) / 1e6,
+                histogram.getValueAtPercentile(99) / 1e6, histogram.getValueAtPercentile(99.9) / 1e6,
+                histogram.getMaxValue() / 1e6);
+    }
+
+    /**
+     * Writes the full percentile distribution in HdrHistogram's .hgrm format, in milliseconds.
+     */
+    private void writeReport(int rate, String name, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(profile.reportDir().resolve(rate + "-" + name + ".hgrm")))) {
+            histogram.outputPercentileDistribution(out, 1e6);
+        }
+    }
+
+    private HttpRequest request(Operation operation, SplittableRandom random) {
+        return switch (operation) {
+            case GET -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + randomSeededID(random))).GET().build();
+            case PAGE -> HttpRequest.newBuilder(URI.create(baseUrl + "/getlawyer?size=50")).GET().build();
+            case SEARCH -> HttpRequest.newBuilder(URI.create(baseUrl + "/search?status=Active&size=50&domain="
+                    + lawyers.domains().get(random.nextInt(lawyers.domains().size())))).GET().build();
+            case POST -> HttpRequest.newBuilder(URI.create(baseUrl + "/postdata"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(json(lawyers.lawyer(nextSequence.getAndIncrement(), random))))
+                    .build();
+            case STATUS -> HttpRequest.newBuilder(URI.create(baseUrl + "/status/" + randomSeededID(random)))
+                    .PUT(HttpRequest.BodyPublishers.noBody()).build();
+        };
+    }
+
+    private String randomSeededID(SplittableRandom random) {
+        return SyntheticLawyers.lawyerID(random.nextLong(profile.dataset()));
+    }
+
+    private byte[] json(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Expands the mix weights into a lookup table, so picking an operation is one random index.
+     */
+    private static Operation[] schedule(Map<Operation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        if (total <= 0) {
+            throw new IllegalArgumentException("The mix needs at least one positive weight");
+        }
+        Operation[] schedule = new Operation[total];
+        int i = 0;
+        for (Map.Entry<Operation, Integer> weight : mix.entrySet()) {
+            for (int n = 0; n < weight.getValue(); n++) {
+                schedule[i++] = weight.getKey();
+            }
+        }
+        return schedule;
+    }
+}
@@ -0,0 +1,77 @@
+package com.pro.lrms.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Settings of a load run, read from key=value program arguments.
+ *
+ * @param dataset Number of lawyers seeded before the run.
+ * @param rates Target request rates (req/s), run as consecutive stages until one fails.
+ * @param duration Measured length of each stage.
+ * @param warmup Unmeasured load at the start of each stage.
+ * @param mix Relative weight of each operation.
+ * @param maxP99 Highest acceptable 99th percentile latency.
+ * @param maxErrorRate Highest acceptable fraction of failed requests.
+ * @param minThroughput Lowest acceptable sustained rate (req/s); the run fails below it.
+ * @param sample Sample file the synthetic dataset is shaped after.
+ * @param reportDir Directory for the HdrHistogram percentile reports.
+ */
+record LoadProfile(long dataset, List<Integer> rates, Duration duration, Duration warmup, Map<Operation, Integer> mix,
+                   Duration maxP99, double maxErrorRate, double minThroughput, Path sample, Path reportDir) {
+
+    static LoadProfile parse(String[] args) {
+        Map<String, String> settings = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            settings.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+
+        List<Integer> rates = new ArrayList<>();
+        for (String rate : settings.getOrDefault("rates", "200,400,800").split(",")) {
+            rates.add(Integer.parseInt(rate.trim()));
+        }
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : settings.getOrDefault("mix", "get:90,post:5,status:5").split(",")) {
+            String[] weight = entry.split(":");
+            mix.put(Operation.valueOf(weight[0].trim().toUpperCase()), Integer.parseInt(weight[1].trim()));
+        }
+
+        return new LoadProfile(
+                Long.parseLong(settings.getOrDefault("dataset", "100000")),
+                rates,
+                DurationStyle.detectAndParse(settings.getOrDefault("duration", "60s")),
+                DurationStyle.detectAndParse(settings.getOrDefault("warmup", "10s")),
+                mix,
+                DurationStyle.detectAndParse(settings.getOrDefault("max-p99", "50ms")),
+                Double.parseDouble(settings.getOrDefault("max-error-rate", "0.01")),
+                Double.parseDouble(settings.getOrDefault("min-throughput", "0")),
+                Path.of(settings.getOrDefault("sample", "lawyer_record.json")),
+                Path.of(settings.getOrDefault("report-dir", "target/loadtest")));
+    }
+
+    /**
+     * Operations a workload can mix, keyed by their lower-case name in the mix setting.
+     */
+    enum Operation {
+        /** GET /{lawyerID} of a random seeded lawyer. */
+        GET,
+        /** GET /getlawyer first page. */
+        PAGE,
+        /** GET /search by a random domain among active lawyers. */
+        SEARCH,
+        /** POST /postdata of a new lawyer. */
+        POST,
+        /** PUT /status/{lawyerID} of a random seeded lawyer. */
+        STATUS
+    }
+}
@@ -0,0 +1,108 @@
+package com.pro.lrms.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pro.lrms.entity.LawyerRecord;
+
+/**
+ * Generates LawyerRecord datasets shaped like a sample file (lawyer_record.json): names, addresses, domains
+ * and statuses are drawn from the sample's values with the sample's frequencies, and case counts, experience
+ * and win ratios from the sample's ranges. IDs and license numbers are sequential, so every record is unique.
+ */
+class SyntheticLawyers {
+
+    private final List<String> firstNames = new ArrayList<>();
+    private final List<String> lastNames = new ArrayList<>();
+    private final List<String> streets = new ArrayList<>();
+    private final List<String> cities = new ArrayList<>();
+    private final List<String> domains = new ArrayList<>();
+    private final List<String> statuses = new ArrayList<>();
+    private final String licensePrefix;
+    private int minCases = Integer.MAX_VALUE, maxCases;
+    private int minExperience = Integer.MAX_VALUE, maxExperience;
+    private float minWinRatio = 1, maxWinRatio;
+
+    SyntheticLawyers(Path sample, ObjectMapper objectMapper) throws IOException {
+        LawyerRecord[] records = objectMapper.readValue(Files.readAllBytes(sample), LawyerRecord[].class);
+        if (records.length == 0) {
+            throw new IllegalArgumentException("Sample " + sample + " contains no lawyers");
+        }
+        for (LawyerRecord record : records) {
+            String[] name = record.getLawyerName().split(" ", 2);
+            firstNames.add(name[0]);
+            lastNames.add(name.length > 1 ? name[1] : name[0]);
+            String[] address = record.getLaywerAddress().split(",", 2);
+            streets.add(address[0]);
+            cities.add(address.length > 1 ? address[1] : address[0]);
+            domains.add(record.getLawyerDomain());
+            statuses.add(record.getLawyerStatus());
+            minCases = Math.min(minCases, record.getLaywerCase());
+            maxCases = Math.max(maxCases, record.getLaywerCase());
+            minExperience = Math.min(minExperience, record.getLawyerExperienece());
+            maxExperience = Math.max(maxExperience, record.getLawyerExperienece());
+            minWinRatio = Math.min(minWinRatio, record.getLawyerWinRatio());
+            maxWinRatio = Math.max(maxWinRatio, record.getLawyerWinRatio());
+        }
+        licensePrefix = records[0].getLawyerLicenseNumber().replaceAll("[0-9]", "");
+    }
+
+    /**
+     * @param sequence Position of the lawyer in the dataset; equal sequences give equal IDs and licenses.
+     * @param random Source of the sampled values.
+     * @return A new lawyer record.
+     */
+    LawyerRecord lawyer(long sequence, SplittableRandom random) {
+        return new LawyerRecord(lawyerID(sequence),
+                pick(firstNames, random) + " " + pick(lastNames, random),
+                String.format("9%09d", random.nextLong(1_000_000_000L)),
+                pick(streets, random) + "," + pick(cities, random),
+                pick(domains, random),
+                random.nextInt(minCases, maxCases + 1),
+                random.nextInt(minExperience, maxExperience + 1),
+                minWinRatio + (float) random.nextDouble() * (maxWinRatio - minWinRatio),
+                String.format("%s%08d", licensePrefix, sequence),
+                pick(statuses, random));
+    }
+
+    /**
+     * @return The lawyers with sequences 0 to count - 1, generated lazily.
+     */
+    Iterator<LawyerRecord> dataset(long count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        return new Iterator<>() {
+            private long next;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public LawyerRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return lawyer(next++, random);
+            }
+        };
+    }
+
+    static String lawyerID(long sequence) {
+        return String.format("LID%08d", sequence);
+    }
+
+    private static String pick(List<String> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    List<String> domains() {
+        return domains;
+    }
+}
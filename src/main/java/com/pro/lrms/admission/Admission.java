@@ -0,0 +1,17 @@
+package com.pro.lrms.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the cost class of a controller method for admission control. Methods without it count as
+ * {@link RequestClass#LIST}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Admission {
+
+    RequestClass value();
+}
@@ -0,0 +1,23 @@
+package com.pro.lrms.admission;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Puts admission control in front of the lawyer API, including its asynchronous variants.
+ */
+@Configuration
+public class AdmissionConfiguration implements WebMvcConfigurer {
+
+    private final AdmissionControl admissionControl;
+
+    public AdmissionConfiguration(AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionControl).addPathPatterns("/lrms/lawyers/**");
+    }
+}
@@ -0,0 +1,183 @@
+package com.pro.lrms.admission;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import com.pro.lrms.dto.AdmissionStatistics;
+import com.pro.lrms.exception.AdmissionRejectedException;
+
+/**
+ * Admission control in front of the lawyer API. Each request is classified by the {@link Admission} annotation
+ * of its controller method, then has to pass the client's token bucket for that class (otherwise 429) and get
+ * a slot under the adaptive concurrency limit (otherwise 503). Rejected requests fail immediately with a
+ * Retry-After header instead of waiting for a database connection.
+ * <p>
+ * A slot is held until the response is complete, including asynchronous and streamed responses; event
+ * streams ({@link RequestClass#STREAM}) take none. Outcomes are counted in lrms.admission.requests.
+ * <p>
+ * Clients are told apart by their remote address. The client header is only believed when the request comes
+ * from one of the lrms.admission.trusted-proxies, which set it themselves; from anyone else it would let a
+ * client pick a fresh identity, and a fresh bucket, for every request.
+ */
+@Component
+public class AdmissionControl implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT = AdmissionControl.class.getName() + ".PERMIT";
+    private static final RequestClass[] CLASSES = RequestClass.values();
+
+    private static final int ADMITTED = 0;
+    private static final int THROTTLED = 1;
+    private static final int SHED = 2;
+    private static final String[] OUTCOMES = {"admitted", "throttled", "shed"};
+
+    private final ClientRateLimiter rateLimiter;
+    private final ConcurrencyLimit concurrencyLimit;
+    private final boolean enabled;
+    private final String clientHeader;
+    private final Set<String> trustedProxies;
+
+    private final Counter[][] counters = new Counter[CLASSES.length][OUTCOMES.length];
+    private final Map<Method, RequestClass> classes = new ConcurrentHashMap<>();
+
+    public AdmissionControl(ClientRateLimiter rateLimiter, ConcurrencyLimit concurrencyLimit, MeterRegistry meterRegistry,
+                            @Value("${lrms.admission.enabled:true}") boolean enabled,
+                            @Value("${lrms.admission.client-header:X-Client-Id}") String clientHeader,
+                            @Value("${lrms.admission.trusted-proxies:}") List<String> trustedProxies) {
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimit = concurrencyLimit;
+        this.enabled = enabled;
+        this.clientHeader = clientHeader;
+        this.trustedProxies = trustedProxies.stream().map(String::trim).filter(StringUtils::hasText)
+                .collect(Collectors.toUnmodifiableSet());
+        for (RequestClass requestClass : CLASSES) {
+            for (int outcome = 0; outcome < OUTCOMES.length; outcome++) {
+                counters[requestClass.ordinal()][outcome] = Counter.builder("lrms.admission.requests")
+                        .description("Requests admitted or rejected by admission control")
+                        .tags("class", requestClass.name().toLowerCase(), "outcome", OUTCOMES[outcome])
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || request.getDispatcherType() != DispatcherType.REQUEST || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        RequestClass requestClass = classes.computeIfAbsent(method.getMethod(), AdmissionControl::classOf);
+        long wait = rateLimiter.tryAcquire(clientOf(request), requestClass);
+        if (wait > 0) {
+            counters[requestClass.ordinal()][THROTTLED].increment();
+            throw new AdmissionRejectedException(HttpStatus.TOO_MANY_REQUESTS, toRetrySeconds(wait),
+                    "Rate limit exceeded for " + requestClass.name().toLowerCase() + " requests");
+        }
+        if (requestClass.share() > 0) {
+            if (!concurrencyLimit.tryAcquire(requestClass)) {
+                counters[requestClass.ordinal()][SHED].increment();
+                throw new AdmissionRejectedException(HttpStatus.SERVICE_UNAVAILABLE, 1, "Server is at capacity");
+            }
+            request.setAttribute(PERMIT, Boolean.TRUE);
+        }
+        counters[requestClass.ordinal()][ADMITTED].increment();
+        return true;
+    }
+
+    /**
+     * The request thread is done but the response is not: move the slot to the end of the async cycle.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(PERMIT) == null) {
+            return;
+        }
+        request.removeAttribute(PERMIT);
+        AtomicBoolean released = new AtomicBoolean();
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                release();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                release();
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                release();
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+
+            private void release() {
+                if (released.compareAndSet(false, true)) {
+                    concurrencyLimit.release();
+                }
+            }
+        });
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT) != null) {
+            request.removeAttribute(PERMIT);
+            concurrencyLimit.release();
+        }
+    }
+
+    private static RequestClass classOf(Method method) {
+        Admission admission = method.getAnnotation(Admission.class);
+        return admission == null ? RequestClass.LIST : admission.value();
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        if (!trustedProxies.contains(address)) {
+            return address;
+        }
+        String client = request.getHeader(clientHeader);
+        return StringUtils.hasText(client) ? client : address;
+    }
+
+    private static long toRetrySeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    public AdmissionStatistics statistics() {
+        Map<String, Long> admitted = new TreeMap<>();
+        Map<String, Long> throttled = new TreeMap<>();
+        Map<String, Long> shed = new TreeMap<>();
+        for (RequestClass requestClass : CLASSES) {
+            String name = requestClass.name().toLowerCase();
+            Counter[] outcomes = counters[requestClass.ordinal()];
+            admitted.put(name, (long) outcomes[ADMITTED].count());
+            throttled.put(name, (long) outcomes[THROTTLED].count());
+            shed.put(name, (long) outcomes[SHED].count());
+        }
+        return new AdmissionStatistics(enabled, concurrencyLimit.getLimit(), concurrencyLimit.getInFlight(),
+                concurrencyLimit.getRecentLatencyMillis(), concurrencyLimit.getBaselineLatencyMillis(),
+                rateLimiter.clientCount(), admitted, throttled, shed);
+    }
+}
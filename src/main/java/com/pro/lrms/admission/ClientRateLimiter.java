@@ -0,0 +1,123 @@
+package com.pro.lrms.admission;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-client token buckets, one per {@link RequestClass}. Each bucket is kept as the generic cell rate
+ * algorithm's theoretical arrival time in one slot of the client's AtomicLongArray: a request is admitted when
+ * that time is at most the burst tolerance ahead of now, and pushes it on by one emission interval with a
+ * compare-and-set. Admission therefore takes one map lookup and one CAS, without locks.
+ * <p>
+ * Clients are identified by their remote address, or by the lrms.admission.client-header header when a
+ * trusted proxy sets it (see {@link AdmissionControl}). Clients whose buckets have all refilled are dropped every idle-eviction interval; once
+ * max-clients are tracked, new clients share one bucket set.
+ */
+@Component
+public class ClientRateLimiter {
+
+    private static final String OVERFLOW_CLIENT = "(other)";
+    private static final RequestClass[] CLASSES = RequestClass.values();
+
+    /**
+     * Nanoseconds between admitted requests of each class (0 means unlimited) and how far ahead of now the
+     * arrival time may run, which is the burst size less one request.
+     */
+    private final long[] intervalNanos = new long[CLASSES.length];
+    private final long[] toleranceNanos = new long[CLASSES.length];
+
+    private final int maxClients;
+    private final long origin = System.nanoTime();
+    private final ConcurrentHashMap<String, AtomicLongArray> clients = new ConcurrentHashMap<>();
+
+    public ClientRateLimiter(@Value("${lrms.admission.rate.lookup:500}") double lookupRate,
+                             @Value("${lrms.admission.rate.list:100}") double listRate,
+                             @Value("${lrms.admission.rate.write:50}") double writeRate,
+                             @Value("${lrms.admission.rate.heavy:2}") double heavyRate,
+                             @Value("${lrms.admission.rate.stream:1}") double streamRate,
+                             @Value("${lrms.admission.burst:1s}") Duration burst,
+                             @Value("${lrms.admission.max-clients:10000}") int maxClients) {
+        configure(RequestClass.LOOKUP, lookupRate, burst);
+        configure(RequestClass.LIST, listRate, burst);
+        configure(RequestClass.WRITE, writeRate, burst);
+        configure(RequestClass.HEAVY, heavyRate, burst);
+        configure(RequestClass.STREAM, streamRate, burst);
+        this.maxClients = maxClients;
+    }
+
+    private void configure(RequestClass requestClass, double ratePerSecond, Duration burst) {
+        if (ratePerSecond <= 0) {
+            return;
+        }
+        long interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond));
+        long burstRequests = Math.max(1, (long) (ratePerSecond * burst.toNanos() / TimeUnit.SECONDS.toNanos(1)));
+        intervalNanos[requestClass.ordinal()] = interval;
+        toleranceNanos[requestClass.ordinal()] = interval * (burstRequests - 1);
+    }
+
+    /**
+     * Takes a token from the client's bucket for the given class.
+     *
+     * @param client The client identity.
+     * @param requestClass The cost class of the request.
+     * @return 0 when the request is admitted, otherwise the nanoseconds until the next token is available.
+     */
+    public long tryAcquire(String client, RequestClass requestClass) {
+        int slot = requestClass.ordinal();
+        long interval = intervalNanos[slot];
+        if (interval == 0) {
+            return 0;
+        }
+        AtomicLongArray arrivals = bucketsOf(client);
+        long now = System.nanoTime() - origin;
+        while (true) {
+            long arrival = arrivals.get(slot);
+            long start = Math.max(arrival, now);
+            long wait = start - now - toleranceNanos[slot];
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrivals.compareAndSet(slot, arrival, start + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    private AtomicLongArray bucketsOf(String client) {
+        AtomicLongArray arrivals = clients.get(client);
+        if (arrivals != null) {
+            return arrivals;
+        }
+        String key = clients.size() < maxClients ? client : OVERFLOW_CLIENT;
+        return clients.computeIfAbsent(key, k -> new AtomicLongArray(CLASSES.length));
+    }
+
+    /**
+     * Drops clients whose buckets are all full again; a client that comes back starts with a full burst,
+     * which is what it would have had anyway.
+     */
+    @Scheduled(fixedDelayString = "${lrms.admission.idle-eviction:1m}", initialDelayString = "${lrms.admission.idle-eviction:1m}")
+    public void evictIdle() {
+        long now = System.nanoTime() - origin;
+        clients.values().removeIf(arrivals -> {
+            for (int slot = 0; slot < arrivals.length(); slot++) {
+                if (arrivals.get(slot) > now) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    /**
+     * @return The number of clients with buckets.
+     */
+    public int clientCount() {
+        return clients.size();
+    }
+}
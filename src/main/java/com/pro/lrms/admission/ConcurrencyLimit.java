@@ -0,0 +1,139 @@
+package com.pro.lrms.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limit on concurrently admitted requests that adapts to database latency. Every repository invocation reports
+ * its duration (see RepositoryMetricsConfiguration); every adjust-interval the mean of the interval is compared
+ * with a slowly moving baseline. While latency stays within latency-tolerance times the baseline the limit
+ * grows by about its square root per interval, as long as the requests actually use it; once latency rises
+ * above that, the limit shrinks in proportion to the increase. The limit stays between min-limit and
+ * max-limit.
+ * <p>
+ * A request of a given class is admitted while fewer than limit * {@link RequestClass#share()} requests are in
+ * flight, so when the limit tightens heavy requests are shed first.
+ */
+@Component
+public class ConcurrencyLimit {
+
+    /**
+     * Intervals over which the baseline latency moves halfway towards a new level (one minute at the default
+     * 500ms interval).
+     */
+    private static final double BASELINE_INTERVALS = 120;
+
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final LongAdder latencySamples = new LongAdder();
+
+    private volatile double limit;
+    private volatile double recentLatencyNanos;
+    private volatile double baselineLatencyNanos;
+
+    public ConcurrencyLimit(MeterRegistry meterRegistry,
+                            @Value("${lrms.admission.initial-limit:100}") int initialLimit,
+                            @Value("${lrms.admission.min-limit:10}") int minLimit,
+                            @Value("${lrms.admission.max-limit:500}") int maxLimit,
+                            @Value("${lrms.admission.latency-tolerance:1.5}") double tolerance) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("lrms.admission.min-limit must be between 1 and max-limit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        Gauge.builder("lrms.admission.limit", this, ConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("lrms.admission.in-flight", inFlight, AtomicInteger::get)
+                .description("Requests currently holding a concurrency slot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a concurrency slot if requests of this class may still use one.
+     *
+     * @param requestClass The cost class of the request.
+     * @return true when a slot was taken and must be given back with {@link #release()}.
+     */
+    public boolean tryAcquire(RequestClass requestClass) {
+        int cap = Math.max(1, (int) (limit * requestClass.share()));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= cap) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                peakInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Records the duration of one database call.
+     */
+    public void onLatency(long nanos) {
+        latencyNanos.add(nanos);
+        latencySamples.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${lrms.admission.adjust-interval:500ms}")
+    public void adjust() {
+        long samples = latencySamples.sumThenReset();
+        long nanos = latencyNanos.sumThenReset();
+        int peak = peakInFlight.getAndSet(inFlight.get());
+        if (samples == 0) {
+            return;
+        }
+        double recent = (double) nanos / samples;
+        double baseline = baselineLatencyNanos == 0 ? recent : baselineLatencyNanos + (recent - baselineLatencyNanos) / BASELINE_INTERVALS;
+        if (baseline > 2 * recent) {
+            // The database got much faster (e.g. after recovering); do not keep comparing against the slow period
+            baseline *= 0.95;
+        }
+        double current = limit;
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * baseline / recent));
+        double target = current * gradient + Math.sqrt(current);
+        if (target > current && peak < current / 2) {
+            // Not limited by us: growing a limit nobody reaches would only delay the reaction to the next overload
+            target = current;
+        }
+        recentLatencyNanos = recent;
+        baselineLatencyNanos = baseline;
+        limit = Math.max(minLimit, Math.min(maxLimit, current + (target - current) * SMOOTHING));
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public double getRecentLatencyMillis() {
+        return recentLatencyNanos / 1_000_000;
+    }
+
+    public double getBaselineLatencyMillis() {
+        return baselineLatencyNanos / 1_000_000;
+    }
+}
@@ -0,0 +1,48 @@
+package com.pro.lrms.admission;
+
+/**
+ * Cost classes of the lawyer API, assigned to controller methods with {@link Admission}. Each class has its own
+ * per-client rate (lrms.admission.rate.*) and may use only its share of the adaptive concurrency limit, so cheap
+ * lookups keep being admitted after heavy full-scan requests have started to be shed.
+ */
+public enum RequestClass {
+
+    /**
+     * Single-record lookups and in-memory statistics.
+     */
+    LOOKUP(1.0),
+
+    /**
+     * Pages and searches served by index range scans.
+     */
+    LIST(0.8),
+
+    /**
+     * Single-record writes.
+     */
+    WRITE(0.8),
+
+    /**
+     * Full scans, aggregations over the table, bulk writes, import and export.
+     */
+    HEAVY(0.4),
+
+    /**
+     * Long-lived event streams: rate limited, but they hold no concurrency slot because they are idle most of
+     * the time.
+     */
+    STREAM(0.0);
+
+    private final double share;
+
+    RequestClass(double share) {
+        this.share = share;
+    }
+
+    /**
+     * @return The fraction of the concurrency limit requests of this class may occupy.
+     */
+    public double share() {
+        return share;
+    }
+}
@@ -0,0 +1,128 @@
+package com.pro.lrms.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter for strings.
+ * Each slot is one bit packed sixty-four to a long and set with compare-and-set, so readers never block and
+ * writers never lock. Values cannot be removed; a filter that has collected too many removed values is
+ * replaced by a new one built from the current set.
+ */
+public class BloomFilter {
+
+    private static final int BITS_PER_WORD = 64;
+
+    private final AtomicLongArray words;
+    private final long slots;
+    private final int hashFunctions;
+
+    /**
+     * Creates a filter sized for the expected number of entries at the target false-positive probability.
+     *
+     * @param expectedInsertions Number of entries the filter should hold before its false-positive rate degrades.
+     * @param falsePositiveProbability Target false-positive probability, e.g. 0.01.
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (m + BITS_PER_WORD - 1) / BITS_PER_WORD);
+        this.words = new AtomicLongArray(words);
+        this.slots = (long) words * BITS_PER_WORD;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) slots / n * Math.log(2)));
+    }
+
+    /**
+     * Adds a value to the filter.
+     *
+     * @param value The value to add.
+     */
+    public void add(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashFunctions; i++) {
+            set(slot(hash, i));
+        }
+    }
+
+    /**
+     * @param value The value to test.
+     * @return false if the value is definitely absent; true if it may be present.
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashFunctions; i++) {
+            if (!isSet(slot(hash, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The fraction of bits that are set.
+     */
+    public double fillRatio() {
+        long used = 0;
+        for (int w = 0; w < words.length(); w++) {
+            used += Long.bitCount(words.get(w));
+        }
+        return (double) used / slots;
+    }
+
+    /**
+     * @return The expected false-positive probability at the current fill ratio.
+     */
+    public double expectedFalsePositiveProbability() {
+        return Math.pow(fillRatio(), hashFunctions);
+    }
+
+    /**
+     * @return The number of bits in the filter.
+     */
+    public long slots() {
+        return slots;
+    }
+
+    /**
+     * @return The number of hash functions applied per value.
+     */
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private long slot(long hash, int i) {
+        // Kirsch-Mitzenmacher double hashing: g_i(x) = h1(x) + i * h2(x)
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return Integer.toUnsignedLong(h1 + i * h2) % slots;
+    }
+
+    private boolean isSet(long slot) {
+        return (words.get((int) (slot / BITS_PER_WORD)) & (1L << (slot % BITS_PER_WORD))) != 0;
+    }
+
+    private void set(long slot) {
+        int index = (int) (slot / BITS_PER_WORD);
+        long bit = 1L << (slot % BITS_PER_WORD);
+        while (true) {
+            long word = words.get(index);
+            if ((word & bit) != 0 || words.compareAndSet(index, word, word | bit)) {
+                return;
+            }
+        }
+    }
+
+    private static long hash(String value) {
+        // FNV-1a over the UTF-16 code units followed by the MurmurHash3 64-bit finaliser
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,52 @@
+package com.pro.lrms.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import com.pro.lrms.event.LawyerChangeEvent;
+import com.pro.lrms.event.LawyerChangeFeed;
+
+/**
+ * Version of the lawyer collection as a whole, used as the ETag of the list endpoints.
+ * <p>
+ * The version is the position of the latest change in the persisted change log, which every instance writes
+ * to, so all instances give the same tag for the same data and a change made through one of them shows in the
+ * tags of the others as soon as it is in the log. Reading it is a single lookup of the highest key of the
+ * change log, made on the primary so the tag is never newer than the data.
+ * <p>
+ * Changes made through this instance reach the log at the next flush of the change feed. Until then the
+ * version also carries an identifier of this instance and a count of its changes, so a client never gets
+ * 304 for a list this instance has already changed; such a tag matches nowhere else and costs at most one
+ * full response once the changes are written.
+ */
+@Component
+public class CollectionVersion {
+
+    private final String instance = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLong localChanges = new AtomicLong();
+    private final LawyerChangeFeed changeFeed;
+
+    public CollectionVersion(LawyerChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    /**
+     * @return The current version; take it before reading the collection, so the tag is never newer than the data.
+     */
+    public String current() {
+        // Check for unwritten changes first: one written in between then shows in the sequence instead
+        boolean unwritten = changeFeed.hasUnwrittenChanges();
+        long local = localChanges.get();
+        String version = Long.toString(changeFeed.persistedSequence());
+        return unwritten ? version + "-" + instance + "-" + local : version;
+    }
+
+    /**
+     * @param event The change published by the service layer.
+     */
+    @EventListener
+    public void onLawyerChange(LawyerChangeEvent event) {
+        localChanges.incrementAndGet();
+    }
+}
@@ -0,0 +1,208 @@
+package com.pro.lrms.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.pro.lrms.dto.CacheStatistics;
+import com.pro.lrms.entity.LawyerRecord;
+
+/**
+ * Bounded in-process read-through cache for lawyer lookups by ID and by license number.
+ * Entries are evicted by size and TTL; "not found" results are cached too, with a shorter TTL.
+ * <p>
+ * A miss places a pending entry in the cache and runs the load on the caller's thread, outside the cache's
+ * locks: a load holds a database connection for as long as it waits for one, and a lock held meanwhile would
+ * stall writers that already hold theirs. An invalidation issued after a write commits removes the pending
+ * entry, so the load it predates still answers its own caller but is never cached: a stale value can never
+ * outlive the write. Concurrent misses of one key are coalesced in front of the cache, so callers waiting for
+ * a load are bounded by the coalescing timeout and all see its failure instead of each retrying it.
+ */
+@Component
+public class LawyerCache {
+
+    private final AsyncCache<String, Optional<LawyerRecord>> byId;
+    private final AsyncCache<String, Optional<LawyerRecord>> byLicense;
+    private final SingleFlight<String, Optional<LawyerRecord>> byIdLoads;
+    private final SingleFlight<String, Optional<LawyerRecord>> byLicenseLoads;
+    private final LongAdder byIdNegatives = new LongAdder();
+    private final LongAdder byLicenseNegatives = new LongAdder();
+
+    public LawyerCache(RequestCoalescing requestCoalescing,
+                       @Value("${lrms.cache.max-size:10000}") long maxSize,
+                       @Value("${lrms.cache.ttl:10m}") Duration ttl,
+                       @Value("${lrms.cache.negative-ttl:30s}") Duration negativeTtl) {
+        this.byId = build(maxSize, ttl, negativeTtl, byIdNegatives);
+        this.byLicense = build(maxSize, ttl, negativeTtl, byLicenseNegatives);
+        this.byIdLoads = requestCoalescing.flight("lawyerById");
+        this.byLicenseLoads = requestCoalescing.flight("lawyerByLicense");
+    }
+
+    private static AsyncCache<String, Optional<LawyerRecord>> build(long maxSize, Duration ttl, Duration negativeTtl,
+                                                               LongAdder negatives) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                // Run on the removing thread, so the "not found" count is current when the removal returns
+                .executor(Runnable::run)
+                .removalListener((String key, Optional<LawyerRecord> value, RemovalCause cause) -> {
+                    if (value != null && value.isEmpty()) {
+                        negatives.decrement();
+                    }
+                })
+                .expireAfter(new Expiry<String, Optional<LawyerRecord>>() {
+                    @Override
+                    public long expireAfterCreate(String key, Optional<LawyerRecord> value, long currentTime) {
+                        return (value.isPresent() ? ttl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Optional<LawyerRecord> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Optional<LawyerRecord> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Returns the lawyer with the given ID, loading it on a miss.
+     *
+     * @param lawyerID The unique ID of the lawyer.
+     * @param loader Loads the lawyer from the database; may return null.
+     * @return The lawyer, or null if it does not exist.
+     */
+    public LawyerRecord getById(String lawyerID, Function<String, LawyerRecord> loader) {
+        return get(byId, byIdLoads, byIdNegatives, lawyerID, loader);
+    }
+
+    /**
+     * Returns the lawyer with the given license number, loading it on a miss.
+     *
+     * @param licenseNumber The license number of the lawyer.
+     * @param loader Loads the lawyer from the database; may return null.
+     * @return The lawyer, or null if no lawyer has this license number.
+     */
+    public LawyerRecord getByLicense(String licenseNumber, Function<String, LawyerRecord> loader) {
+        return get(byLicense, byLicenseLoads, byLicenseNegatives, licenseNumber, loader);
+    }
+
+    private static LawyerRecord get(AsyncCache<String, Optional<LawyerRecord>> cache,
+                                    SingleFlight<String, Optional<LawyerRecord>> loads, LongAdder negatives,
+                                    String key, Function<String, LawyerRecord> loader) {
+        if (cache.synchronous().policy().getIfPresentQuietly(key) != null) {
+            // Hit: read through the cache so it is counted, and reloaded should it expire in between
+            return load(cache, negatives, key, loader).orElse(null);
+        }
+        // Miss: one caller loads, concurrent callers wait for its result
+        return loads.execute(key, () -> load(cache, negatives, key, loader)).orElse(null);
+    }
+
+    private static Optional<LawyerRecord> load(AsyncCache<String, Optional<LawyerRecord>> cache, LongAdder negatives,
+                                               String key, Function<String, LawyerRecord> loader) {
+        CompletableFuture<Optional<LawyerRecord>> pending = new CompletableFuture<>();
+        CompletableFuture<Optional<LawyerRecord>> entry = cache.get(key, (k, executor) -> pending);
+        if (entry == pending) {
+            // This caller placed the entry, so it runs the load; the cache's lock is not held meanwhile
+            try {
+                Optional<LawyerRecord> loaded = Optional.ofNullable(loader.apply(key));
+                if (loaded.isEmpty()) {
+                    // The loaded value is always stored, and its removal, whatever the cause, decrements again
+                    negatives.increment();
+                }
+                pending.complete(loaded);
+            } catch (RuntimeException | Error e) {
+                // A failed load is dropped from the cache, so the next caller tries again
+                pending.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException failure) {
+                throw failure;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Caches a newly created lawyer under both keys, replacing any cached "not found" entries.
+     *
+     * @param lawyer The lawyer that was just saved.
+     */
+    public void put(LawyerRecord lawyer) {
+        byIdLoads.forget(lawyer.getLawyerID());
+        byId.synchronous().put(lawyer.getLawyerID(), Optional.of(lawyer));
+        if (lawyer.getLawyerLicenseNumber() != null) {
+            byLicenseLoads.forget(lawyer.getLawyerLicenseNumber());
+            byLicense.synchronous().put(lawyer.getLawyerLicenseNumber(), Optional.of(lawyer));
+        }
+    }
+
+    /**
+     * Removes a lawyer from both caches after it was changed or deleted.
+     *
+     * @param lawyerID The unique ID of the lawyer.
+     * @param licenseNumber The license number of the lawyer, or null if unknown.
+     */
+    public void invalidate(String lawyerID, String licenseNumber) {
+        if (licenseNumber == null) {
+            // The license is not known, so look it up from the cached entry before dropping it
+            // Without waiting for a pending load: the write it predates has already committed
+            Optional<LawyerRecord> cached = byId.synchronous().policy().getIfPresentQuietly(lawyerID);
+            if (cached != null && cached.isPresent()) {
+                licenseNumber = cached.get().getLawyerLicenseNumber();
+            }
+        }
+        // Detach in-flight loads first, so requests arriving after the write never join a load that predates it
+        byIdLoads.forget(lawyerID);
+        byId.synchronous().invalidate(lawyerID);
+        if (licenseNumber != null) {
+            byLicenseLoads.forget(licenseNumber);
+            byLicense.synchronous().invalidate(licenseNumber);
+        }
+    }
+
+    /**
+     * Empties both caches, e.g. after a bulk update that touched an unknown set of lawyers.
+     */
+    public void invalidateAll() {
+        byIdLoads.forgetAll();
+        byLicenseLoads.forgetAll();
+        byId.synchronous().invalidateAll();
+        byLicense.synchronous().invalidateAll();
+    }
+
+    /**
+     * @return Hit, miss and eviction statistics for the ID and license caches.
+     */
+    public List<CacheStatistics> statistics() {
+        return List.of(statistics("byId", byId, byIdNegatives), statistics("byLicense", byLicense, byLicenseNegatives));
+    }
+
+    private static CacheStatistics statistics(String name, AsyncCache<String, Optional<LawyerRecord>> cache, LongAdder negatives) {
+        CacheStats stats = cache.synchronous().stats();
+        // Kept by the loads and the removal listener rather than counted, so this never walks the cache
+        return new CacheStatistics(name, cache.synchronous().estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount(), Math.max(0, negatives.sum()));
+    }
+}
@@ -0,0 +1,165 @@
+package com.pro.lrms.cache;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.pro.lrms.dto.LicenseFilterStatistics;
+import com.pro.lrms.repository.LawyerRepository;
+import com.pro.lrms.sharding.Shards;
+
+/**
+ * Probabilistic membership filter for lawyer license numbers, used to skip the cache and database lookup in
+ * duplicate checks for licenses that definitely do not exist. It only saves work: a license created on another
+ * instance since the last build is missing from it, so uniqueness itself is enforced by the unique index on
+ * the license column.
+ * <p>
+ * The filter is built at startup from a streaming scan and rebuilt periodically to drop deleted licenses and
+ * pick up rows written outside this instance. Deletions are not applied in between; a deleted license only
+ * answers "maybe present" until the next rebuild. While a rebuild runs, new licenses are added to both the
+ * live and the new filter. Until the first build completes, every probe answers "maybe present".
+ */
+@Component
+public class LicenseFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(LicenseFilter.class);
+
+    private final LawyerRepository lawyerRepo;
+    private final Shards shards;
+    private final TransactionTemplate primaryTx;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+
+    private volatile BloomFilter live;
+    private volatile BloomFilter building;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private final LongAdder definitelyAbsent = new LongAdder();
+    private final LongAdder maybePresent = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    @Autowired
+    public LicenseFilter(LawyerRepository lawyerRepo, Shards shards, PlatformTransactionManager transactionManager,
+                         @Value("${lrms.license-filter.expected-insertions:1000000}") long expectedInsertions,
+                         @Value("${lrms.license-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.lawyerRepo = lawyerRepo;
+        this.shards = shards;
+        // Not read-only, so the scan runs on the primary: a license missing from a lagging replica
+        // would become a false "definitely absent" answer
+        this.primaryTx = new TransactionTemplate(transactionManager);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    /**
+     * @param licenseNumber The license number to probe.
+     * @return false if no lawyer has this license; true if one may have it.
+     */
+    public boolean mightContain(String licenseNumber) {
+        BloomFilter filter = live;
+        if (filter == null) {
+            return true;
+        }
+        if (filter.mightContain(licenseNumber)) {
+            maybePresent.increment();
+            return true;
+        }
+        definitelyAbsent.increment();
+        return false;
+    }
+
+    /**
+     * Records that a "maybe present" answer turned out to be absent in the exact check.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * Adds a license after the lawyer holding it was committed.
+     *
+     * @param licenseNumber The new license number.
+     */
+    public void add(String licenseNumber) {
+        if (licenseNumber == null) {
+            return;
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.add(licenseNumber);
+        }
+        BloomFilter filter = live;
+        if (filter != null) {
+            filter.add(licenseNumber);
+        }
+    }
+
+    /**
+     * Builds the filter once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the filter from a streaming scan of all license numbers and swaps it in.
+     */
+    @Scheduled(fixedDelayString = "${lrms.license-filter.rebuild-interval:6h}",
+               initialDelayString = "${lrms.license-filter.rebuild-interval:6h}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveProbability);
+            building = next;
+            long[] count = { 0 };
+            shards.forEachShard(() -> count[0] += primaryTx.execute(tx -> {
+                long scanned = 0;
+                try (Stream<String> licenses = lawyerRepo.streamLicenseNumbers()) {
+                    for (Iterator<String> it = licenses.iterator(); it.hasNext(); scanned++) {
+                        next.add(it.next());
+                    }
+                }
+                return scanned;
+            }));
+            live = next;
+            building = null;
+            log.info("License filter built from {} licenses in {} ms (fill ratio {})",
+                    count[0], (System.nanoTime() - start) / 1_000_000, String.format("%.4f", next.fillRatio()));
+        } catch (RuntimeException e) {
+            building = null;
+            log.warn("License filter rebuild failed; keeping the previous filter", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * @return Fill ratio, false-positive rates and probe counters of the filter.
+     */
+    public LicenseFilterStatistics statistics() {
+        BloomFilter filter = live;
+        long absent = definitelyAbsent.sum();
+        long maybe = maybePresent.sum();
+        long falsePositive = falsePositives.sum();
+        double observed = absent + falsePositive == 0 ? 0 : (double) falsePositive / (absent + falsePositive);
+        if (filter == null) {
+            return new LicenseFilterStatistics(false, 0, 0, 0, 1, absent, maybe, falsePositive, observed);
+        }
+        return new LicenseFilterStatistics(true, filter.slots(), filter.hashFunctions(), filter.fillRatio(),
+                filter.expectedFalsePositiveProbability(), absent, maybe, falsePositive, observed);
+    }
+}
@@ -0,0 +1,49 @@
+package com.pro.lrms.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import com.pro.lrms.dto.CoalescingStatistics;
+
+/**
+ * Registry of the {@link SingleFlight} instances of the read path, one per coalesced query, all sharing the
+ * configured waiter timeout.
+ */
+@Component
+public class RequestCoalescing {
+
+    private final Duration timeout;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, SingleFlight<?, ?>> flights = new ConcurrentHashMap<>();
+
+    public RequestCoalescing(MeterRegistry meterRegistry,
+                             @Value("${lrms.coalescing.timeout:5s}") Duration timeout) {
+        this.meterRegistry = meterRegistry;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the coalescer of the named query, creating it on first use. Each name must always be used with
+     * the same key and result types.
+     *
+     * @param name Name of the query, also the metric tag.
+     * @return The SingleFlight of that query.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> SingleFlight<K, V> flight(String name) {
+        return (SingleFlight<K, V>) flights.computeIfAbsent(name, n -> new SingleFlight<>(n, timeout, meterRegistry));
+    }
+
+    /**
+     * @return Outcome counts and loads in flight of every coalesced query, by name.
+     */
+    public List<CoalescingStatistics> statistics() {
+        return flights.values().stream()
+                .map(SingleFlight::statistics)
+                .sorted((a, b) -> a.getName().compareTo(b.getName()))
+                .toList();
+    }
+}
@@ -0,0 +1,136 @@
+package com.pro.lrms.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import com.pro.lrms.dto.CoalescingStatistics;
+import com.pro.lrms.exception.CoalescingTimeoutException;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the load in its own thread, callers that
+ * arrive while it is in flight wait for its result instead of issuing the same query again. A failed load is
+ * rethrown to every waiter, and a waiter gives up after the configured timeout.
+ * <p>
+ * Nothing is kept once the load completes; caching the result is up to the caller. Outcomes are counted in
+ * lrms.coalescing.requests, where every "shared" request is a database call saved.
+ *
+ * @param <K> The key type; must implement equals and hashCode.
+ * @param <V> The result type; null results are shared like any other.
+ */
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final long timeoutNanos;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+    private final Counter shared;
+    private final Counter failed;
+    private final Counter timedOut;
+
+    /**
+     * @param name Name of the coalesced query, used as the metric tag.
+     * @param timeout How long a waiter waits for the in-flight load.
+     * @param meterRegistry Registry for the outcome counters.
+     */
+    public SingleFlight(String name, Duration timeout, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.timeoutNanos = timeout.toNanos();
+        this.executed = counter(meterRegistry, name, "executed");
+        this.shared = counter(meterRegistry, name, "shared");
+        this.failed = counter(meterRegistry, name, "failed");
+        this.timedOut = counter(meterRegistry, name, "timeout");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String outcome) {
+        return Counter.builder("lrms.coalescing.requests")
+                .description("Loads run (executed, failed) or joined (shared, timeout) by request coalescing")
+                .tags("name", name, "outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the result of the in-flight load of this key, or runs the load if there is none.
+     *
+     * @param key The key identifying the load.
+     * @param loader Runs the load; only called when no load of this key is in flight.
+     * @return The loaded value, possibly null.
+     * @throws CoalescingTimeoutException if this caller joined a load that did not finish within the timeout.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, call);
+        return running == null ? lead(key, call, loader) : await(running);
+    }
+
+    private V lead(K key, CompletableFuture<V> call, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            executed.increment();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            failed.increment();
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private V await(CompletableFuture<V> call) {
+        try {
+            V value = call.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            shared.increment();
+            return value;
+        } catch (ExecutionException e) {
+            // The database was spared this call too; the waiter sees the same failure as the caller that ran it
+            shared.increment();
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            throw new CoalescingTimeoutException("Timed out waiting for a concurrent " + name + " lookup");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timedOut.increment();
+            throw new CoalescingTimeoutException("Interrupted while waiting for a concurrent " + name + " lookup");
+        }
+    }
+
+    /**
+     * Detaches the in-flight load of a key, so callers arriving from now on start a new one. Called when the
+     * data behind the key changed: a load that started before the change must not serve requests made after it.
+     *
+     * @param key The key whose in-flight load is detached.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * Detaches every in-flight load, e.g. after a bulk change that touched an unknown set of keys.
+     */
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    /**
+     * @return The outcome counts of this query since startup and the loads currently in flight.
+     */
+    public CoalescingStatistics statistics() {
+        return new CoalescingStatistics(name, inFlight.size(), (long) executed.count(), (long) shared.count(),
+                (long) failed.count(), (long) timedOut.count());
+    }
+}
@@ -0,0 +1,40 @@
+package com.pro.lrms.concurrency;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Execution mode of the application. spring.threads.virtual.enabled switches Tomcat's request threads to
+ * virtual threads (handled by Spring Boot) and, through this configuration, the executor used by the
+ * asynchronous service variants as well.
+ */
+@Configuration
+public class ExecutionModeConfiguration {
+
+    /**
+     * @param virtual Whether to run service calls on virtual threads.
+     * @param poolSize Number of platform threads when virtual threads are disabled.
+     * @param queueCapacity Tasks that may wait for a platform thread; beyond that the caller runs the task itself.
+     * @return The executor for the asynchronous service variants.
+     */
+    @Bean(destroyMethod = "close")
+    public ServiceExecutor serviceExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtual,
+                                           @Value("${lrms.async.pool-size:32}") int poolSize,
+                                           @Value("${lrms.async.queue-capacity:1000}") int queueCapacity) {
+        if (virtual) {
+            return new ServiceExecutor(Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("lrms-service-", 0).factory()), true);
+        }
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("lrms-service-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return new ServiceExecutor(pool, false);
+    }
+}
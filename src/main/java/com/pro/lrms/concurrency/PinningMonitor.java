@@ -0,0 +1,134 @@
+package com.pro.lrms.concurrency;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records virtual threads that stay pinned to their carrier thread, typically while blocking inside a
+ * synchronized block (for example in a JDBC driver or connection pool). It streams the JFR
+ * jdk.VirtualThreadPinned event in-process and counts events per pinning site, so the code paths that
+ * limit virtual-thread throughput can be read from /threads/stats.
+ * <p>
+ * Only active in virtual-thread mode and when lrms.threads.pinning-diagnostics is enabled.
+ */
+@Component
+public class PinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(PinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_SITES = 100;
+    private static final String OTHER_SITES = "(other)";
+
+    private final boolean enabled;
+    private final Duration threshold;
+
+    private final LongAdder events = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final Map<String, LongAdder> sites = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream stream;
+
+    public PinningMonitor(@Value("${spring.threads.virtual.enabled:false}") boolean virtual,
+                          @Value("${lrms.threads.pinning-diagnostics:true}") boolean diagnostics,
+                          @Value("${lrms.threads.pinning-threshold:20ms}") Duration threshold) {
+        this.enabled = virtual && diagnostics;
+        this.threshold = threshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            RecordingStream rs = new RecordingStream();
+            rs.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            rs.onEvent(PINNED_EVENT, this::record);
+            rs.startAsync();
+            stream = rs;
+            log.info("Recording virtual-thread pinning longer than {}", threshold);
+        } catch (RuntimeException e) {
+            log.warn("Virtual-thread pinning diagnostics unavailable", e);
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        events.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+        String site = siteOf(event);
+        if (!sites.containsKey(site) && sites.size() >= MAX_SITES) {
+            site = OTHER_SITES;
+        }
+        sites.computeIfAbsent(site, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * The first frame outside the JDK identifies the library or application code holding the monitor.
+     */
+    private static String siteOf(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "(no stack trace)";
+        }
+        RecordedFrame first = null;
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            if (first == null) {
+                first = frame;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return first == null ? "(unknown)" : first.getMethod().getType().getName() + "." + first.getMethod().getName();
+    }
+
+    /**
+     * @return Whether pinning events are being recorded.
+     */
+    public boolean isActive() {
+        return stream != null;
+    }
+
+    public long getEvents() {
+        return events.sum();
+    }
+
+    public long getPinnedMillis() {
+        return pinnedNanos.sum() / 1_000_000;
+    }
+
+    /**
+     * @return Pinning events per site, sorted by site.
+     */
+    public Map<String, Long> getSites() {
+        Map<String, Long> counts = new TreeMap<>();
+        sites.forEach((site, count) -> counts.put(site, count.sum()));
+        return counts;
+    }
+
+    @PreDestroy
+    public void stop() {
+        RecordingStream rs = stream;
+        if (rs != null) {
+            stream = null;
+            rs.close();
+        }
+    }
+}
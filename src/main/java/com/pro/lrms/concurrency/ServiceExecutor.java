@@ -0,0 +1,78 @@
+package com.pro.lrms.concurrency;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import com.pro.lrms.dto.ExecutorStatistics;
+
+/**
+ * Executor for the asynchronous service variants, backed either by one virtual thread per task or by a
+ * bounded pool of platform threads. It counts submitted, running and completed tasks so both modes can be
+ * compared at /threads/stats.
+ */
+public class ServiceExecutor implements Executor, AutoCloseable {
+
+    private final ExecutorService delegate;
+    private final boolean virtual;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    ServiceExecutor(ExecutorService delegate, boolean virtual) {
+        this.delegate = delegate;
+        this.virtual = virtual;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        submitted.increment();
+        inFlight.incrementAndGet();
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    inFlight.decrementAndGet();
+                    completed.increment();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * @return true if tasks run on virtual threads.
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * @return Task counters, plus pool size, active threads and queue depth for the platform pool
+     *         (zero in virtual mode, where there is no pool).
+     */
+    public ExecutorStatistics statistics() {
+        int poolSize = 0;
+        int activeThreads = 0;
+        int queued = 0;
+        if (delegate instanceof ThreadPoolExecutor pool) {
+            poolSize = pool.getPoolSize();
+            activeThreads = pool.getActiveCount();
+            queued = pool.getQueue().size();
+        }
+        return new ExecutorStatistics(virtual ? "virtual" : "platform", submitted.sum(), completed.sum(),
+                inFlight.get(), poolSize, activeThreads, queued);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        delegate.shutdown();
+        delegate.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,158 @@
+package com.pro.lrms.controller;
+
+import com.pro.lrms.admission.Admission;
+import com.pro.lrms.admission.RequestClass;
+import com.pro.lrms.dto.LawyerPage;
+import com.pro.lrms.dto.LawyerSearchCriteria;
+import com.pro.lrms.dto.LawyerStatisticsView;
+import com.pro.lrms.dto.LawyerSummary;
+import com.pro.lrms.dto.ThreadStatistics;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.service.LawyerAsyncService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous variants of the read endpoints of LawyerController.
+ * The request thread is released as soon as the service call is handed to the service executor;
+ * the response is written when the returned future completes.
+ */
+@RestController
+@RequestMapping("/lrms/lawyers/async")
+public class LawyerAsyncController {
+
+    @Autowired
+    private LawyerAsyncService lawyerAsyncService;
+
+
+    /**
+     * Retrieve lawyer details by ID.
+     *
+     * @param lawyerID The unique ID of the lawyer.
+     * @return Future of the ResponseEntity containing the lawyer details.
+     */
+    @Admission(RequestClass.LOOKUP)
+    @GetMapping("/{lawyerID}")
+    public CompletableFuture<ResponseEntity<LawyerRecord>> getLawyerByID(@PathVariable String lawyerID) {
+        return lawyerAsyncService.getLawyerByID(lawyerID)
+                .thenApply(lawyer -> new ResponseEntity<>(lawyer, HttpStatus.OK));
+    }
+
+
+    /**
+     * Retrieve lawyer records one page at a time, ordered by lawyer ID.
+     *
+     * @param cursor Opaque continuation token from the previous page; omit for the first page.
+     * @param size Number of records per page.
+     * @return Future of the ResponseEntity containing a page of lawyer records with the next-page link.
+     */
+    @Admission(RequestClass.LIST)
+    @GetMapping("/getlawyer")
+    public CompletableFuture<ResponseEntity<LawyerPage<LawyerRecord>>> getAllLawyers(@RequestParam(required = false) String cursor,
+                                                                                     @RequestParam(required = false) Integer size) {
+        return withNextLink(lawyerAsyncService.getAllLawyer(cursor, size));
+    }
+
+
+    /**
+     * Retrieve active lawyers one page at a time, ordered by lawyer ID.
+     *
+     * @param cursor Opaque continuation token from the previous page; omit for the first page.
+     * @param size Number of records per page.
+     * @return Future of the ResponseEntity containing a page of active lawyers with the next-page link.
+     */
+    @Admission(RequestClass.LIST)
+    @GetMapping("/active")
+    public CompletableFuture<ResponseEntity<LawyerPage<LawyerRecord>>> getAllActiveLawyers(@RequestParam(required = false) String cursor,
+                                                                                           @RequestParam(required = false) Integer size) {
+        return withNextLink(lawyerAsyncService.getActiveLawyers(cursor, size));
+    }
+
+
+    /**
+     * Retrieve lawyers by domain of expertise one page at a time, ordered by lawyer ID.
+     *
+     * @param domain The domain of expertise (case-insensitive).
+     * @param cursor Opaque continuation token from the previous page; omit for the first page.
+     * @param size Number of records per page.
+     * @return Future of the ResponseEntity containing a page of lawyers with the next-page link.
+     */
+    @Admission(RequestClass.LIST)
+    @GetMapping("/domain/{domain}")
+    public CompletableFuture<ResponseEntity<LawyerPage<LawyerRecord>>> getLawyerByDomain(@PathVariable String domain,
+                                                                                         @RequestParam(required = false) String cursor,
+                                                                                         @RequestParam(required = false) Integer size) {
+        return withNextLink(lawyerAsyncService.getLawyerByDomain(domain, cursor, size));
+    }
+
+
+    /**
+     * Retrieve a summary of lawyers, including their calculated win ratio.
+     *
+     * @return Future of the ResponseEntity containing the summary rows.
+     */
+    @Admission(RequestClass.HEAVY)
+    @GetMapping("/summary")
+    public CompletableFuture<ResponseEntity<List<LawyerSummary>>> getLawyerSummary() {
+        return lawyerAsyncService.getLawyerSummary()
+                .thenApply(summary -> new ResponseEntity<>(summary, HttpStatus.OK));
+    }
+
+
+    /**
+     * Search lawyers by any mix of domain, status, experience/case/win-ratio ranges and name prefix.
+     *
+     * @param criteria The search filters and ordering, bound from query parameters.
+     * @param cursor Opaque continuation token from the previous page; omit for the first page.
+     * @param size Number of records per page.
+     * @return Future of the ResponseEntity containing a page of matching lawyers with the next-page link.
+     */
+    @Admission(RequestClass.LIST)
+    @GetMapping("/search")
+    public CompletableFuture<ResponseEntity<LawyerPage<LawyerRecord>>> searchLawyers(LawyerSearchCriteria criteria,
+                                                                                     @RequestParam(required = false) String cursor,
+                                                                                     @RequestParam(required = false) Integer size) {
+        return withNextLink(lawyerAsyncService.searchLawyers(criteria, cursor, size));
+    }
+
+
+    /**
+     * Retrieve per-domain and per-status statistics.
+     *
+     * @return Future of the ResponseEntity containing the statistics.
+     */
+    @Admission(RequestClass.LOOKUP)
+    @GetMapping("/stats")
+    public CompletableFuture<ResponseEntity<LawyerStatisticsView>> getLawyerStatistics() {
+        return lawyerAsyncService.getLawyerStatistics()
+                .thenApply(statistics -> new ResponseEntity<>(statistics, HttpStatus.OK));
+    }
+
+
+    /**
+     * Execution-mode diagnostics: service executor load, platform threads and virtual-thread pinning sites.
+     *
+     * @return ResponseEntity containing the thread statistics.
+     */
+    @Admission(RequestClass.LOOKUP)
+    @GetMapping("/threads/stats")
+    public ResponseEntity<ThreadStatistics> getThreadStatistics() {
+        return new ResponseEntity<>(lawyerAsyncService.getThreadStatistics(), HttpStatus.OK);
+    }
+
+
+    /**
+     * Captures the request URL on the request thread and fills in the next-page link once the page is ready.
+     */
+    private static <T> CompletableFuture<ResponseEntity<LawyerPage<T>>> withNextLink(CompletableFuture<LawyerPage<T>> page) {
+        UriComponentsBuilder requestUri = ServletUriComponentsBuilder.fromCurrentRequest();
+        return page.thenApply(p -> new ResponseEntity<>(PageLinks.withNextLink(p, requestUri), HttpStatus.OK));
+    }
+}
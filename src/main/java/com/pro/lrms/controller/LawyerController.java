@@ -1,14 +1,44 @@
 package com.pro.lrms.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pro.lrms.admission.Admission;
+import com.pro.lrms.admission.RequestClass;
+import com.pro.lrms.dto.AdmissionStatistics;
+import com.pro.lrms.dto.AnalyticsFilter;
+import com.pro.lrms.dto.AnalyticsGroup;
+import com.pro.lrms.dto.BulkStatusRequest;
+import com.pro.lrms.dto.CacheStatistics;
+import com.pro.lrms.dto.CoalescingStatistics;
+import com.pro.lrms.dto.ExportFormat;
+import com.pro.lrms.dto.ImportReport;
+import com.pro.lrms.dto.LicenseFilterStatistics;
+import com.pro.lrms.dto.LawyerPage;
+import com.pro.lrms.dto.LawyerSearchCriteria;
+import com.pro.lrms.dto.LawyerStatisticsView;
+import com.pro.lrms.dto.LawyerSummary;
+import com.pro.lrms.dto.LeaderboardEntry;
+import com.pro.lrms.dto.SnapshotStatistics;
 import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.service.LawyerImportService;
 import com.pro.lrms.service.LawyerService;
+import com.pro.lrms.exception.DuplicateLawyerException;
 import com.pro.lrms.exception.LawyerDetailsNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Controller for managing Lawyer Records in the Lawyer Record Management System (LRMS).
@@ -21,16 +51,109 @@ public class LawyerController {
     @Autowired
     private LawyerService lawyerService;
 
+    @Autowired
+    private LawyerImportService lawyerImportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     
     /**
-     * Retrieve all lawyer records.
+     * Retrieve lawyer records one page at a time, ordered by lawyer ID.
      *
-     * @return ResponseEntity containing a list of all lawyer records and HTTP status.
+     * @param cursor Opaque continuation token from the previous page; omit for the first page.
+     * @param size Number of records per page; defaults to lrms.pagination.default-size and is capped at lrms.pagination.max-size.
+     * @param view full (default) for complete lawyer records, or compact for the LawyerListItem projection.
+     * @param fields Comma-separated LawyerRecord fields to return, e.g. lawyerName,lawyerDomain; only these columns are read.
+     *               lawyerID is always included. Cannot be combined with view=compact.
+     * @param webRequest The current request, used to answer If-None-Match with the collection version.
+     * @return ResponseEntity containing a page of lawyer records with the next-page link and HTTP status,
+     *         or 304 (Not Modified) if the collection has not changed since the client's ETag.
      */
+    @Admission(RequestClass.LIST)
     @GetMapping("/getlawyer")
-    public ResponseEntity<List<LawyerRecord>> getAllLawyers() {
-        List<LawyerRecord> lawyers = lawyerService.getAllLawyer();
-        return new ResponseEntity<>(lawyers, HttpStatus.OK);
+    public ResponseEntity<LawyerPage<?>> getAllLawyers(@RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer size,
+                                                       @RequestParam(defaultValue = "full") String view,
+                                                       @RequestParam(required = false) String fields,
+                                                       WebRequest webRequest) {
+        if (webRequest.checkNotModified(weakETag(lawyerService.getCollectionVersion()))) {
+            return null;
+        }
+        LawyerPage<?> lawyers = isSparse(fields, view)
+                ? lawyerService.getLawyerFields(fields, null, null, cursor, size)
+                : isCompact(view)
+                ? lawyerService.getCompactLawyers(null, null, cursor, size)
+                : lawyerService.getAllLawyer(cursor, size);
+        return new ResponseEntity<>(withNextLink(lawyers), HttpStatus.OK);
+    }
+
+    
+    /**
+     * Export every lawyer record as a stream, written row by row while the database cursor is read.
+     *
+     * @param format The output format: ndjson (default) or csv.
+     * @return ResponseEntity whose body streams the export with the matching content type.
+     */
+    @Admission(RequestClass.HEAVY)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLawyers(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = out -> lawyerService.exportLawyers(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"lawyers." + exportFormat.name().toLowerCase() + "\"")
+                .body(body);
+    }
+
+    
+    /**
+     * Retrieve hit, miss and eviction statistics of the lawyer lookup cache.
+     *
+     * @return ResponseEntity containing the statistics of the ID and license caches and HTTP status.
+     */
+    @Admission(RequestClass.LOOKUP)
+    @GetMapping("/cache/stats")
+    public ResponseEntity<List<CacheStatistics>> getCacheStatistics() {
+        return new ResponseEntity<>(lawyerService.getCacheStatistics(), HttpStatus.OK);
+    }
+
+
+    /**
+     * Retrieve how many concurrent identical lookups shared one database query instead of issuing their own.
+     *
+     * @return ResponseEntity containing the statistics of each coalesced query and HTTP status.
+     */
+    @Admission(RequestClass.LOOKUP)
+    @GetMapping("/coalescing/stats")
+    public ResponseEntity<List<CoalescingStatistics>> getCoalescingStatistics() {
+        return new ResponseEntity<>(lawyerService.getCoalescingStatistics(), HttpStatus.OK);
+    }
+
+    
+    /**
+     * Retrieve fill ratio, false-positive rates and probe counters of the license-number existence filter.
+     *
+     * @return ResponseEntity containing the filter statistics and HTTP status.
+     */
+    @Admission(RequestClass.LOOKUP)
+    @GetMapping("/license-filter/stats")
+    public ResponseEntity<LicenseFilterStatistics> getLicenseFilterStatistics() {
+        return new ResponseEntity<>(lawyerService.getLicenseFilterStatistics(), HttpStatus.OK);
+    }
+
+
+    /**
+     * Retrieve the adaptive concurrency limit, the database latency it follows and the admitted, throttled and
+     * shed requests per request class.
+     *
+     * @return ResponseEntity containing the admission control statistics and HTTP status.
+     */
+    @Admission(RequestClass.LOOKUP)
+    @GetMapping("/admission/stats")
+    public ResponseEntity<AdmissionStatistics> getAdmissionStatistics() {
+        return new ResponseEntity<>(lawyerService.getAdmissionStatistics(), HttpStatus.OK);
     }
 
     
@@ -38,16 +161,32 @@ public class LawyerController {
      * Retrieve a lawyer record by ID.
      *
      * @param lawyerID The ID of the lawyer.
-     * @return ResponseEntity containing the lawyer record or an error message and HTTP status.
+     * @param fields Comma-separated LawyerRecord fields to return, e.g. lawyerName,lawyerDomain; lawyerID is always included.
+     * @param webRequest The current request, used to answer If-None-Match with the record version.
+     * @return ResponseEntity containing the lawyer record with its ETag or an error message and HTTP status,
+     *         or 304 (Not Modified) if the record has not changed since the client's ETag.
      */
+    @Admission(RequestClass.LOOKUP)
     @GetMapping("/{lawyerID}")
-    public ResponseEntity<Object> getLawyerByID(@PathVariable String lawyerID) {
+    public ResponseEntity<Object> getLawyerByID(@PathVariable String lawyerID,
+                                                @RequestParam(required = false) String fields,
+                                                WebRequest webRequest) {
+        LawyerRecord lawyer;
         try {
-            LawyerRecord lawyer = lawyerService.getLawyerByID(lawyerID);
-            return new ResponseEntity<>(lawyer, HttpStatus.OK);
-        } catch (Exception e) {
+            // Served from the near cache, so a sparse fieldset is cut from the cached record instead of queried
+            lawyer = lawyerService.getLawyerByID(lawyerID);
+        } catch (LawyerDetailsNotFoundException e) {
+            // Anything else, e.g. a timed-out coalesced lookup or a database failure, goes to the exception handler
             return new ResponseEntity<>("Lawyer not found", HttpStatus.NOT_FOUND);
         }
+        // A matching ETag skips serialising the record
+        if (webRequest.checkNotModified(weakETag(String.valueOf(lawyer.getLawyerVersion())))) {
+            return null;
+        }
+        if (fields != null) {
+            return new ResponseEntity<>(lawyerService.getLawyerFields(lawyer, fields), HttpStatus.OK);
+        }
+        return new ResponseEntity<>(lawyer, HttpStatus.OK);
     }
 
     
@@ -57,6 +196,7 @@ public class LawyerController {
      * @param lawyerRecord The lawyer record to be created.
      * @return ResponseEntity containing a success or error message and HTTP status.
      */
+    @Admission(RequestClass.WRITE)
     @PostMapping("/postdata")
     public ResponseEntity<String> createLawyerProfile(@RequestBody LawyerRecord lawyerRecord) {
         try {
@@ -69,37 +209,78 @@ public class LawyerController {
             lawyerService.createLawyerProfile(lawyerRecord);
             return new ResponseEntity<>("Lawyer profile created successfully", HttpStatus.CREATED);
             
-        } catch (Exception e) {
-        	return new ResponseEntity<>("Lawyer data already exists with ID: ", HttpStatus.CONFLICT);
+        } catch (DuplicateLawyerException e) {
+            // Rejected by the unique constraints, e.g. created on another instance after the check above
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
         }
     }
 
 
     
+    /**
+     * Import lawyer profiles in bulk from a JSON array or a streamed NDJSON body.
+     * The body is parsed lazily, so large rolls are never held in memory as a whole.
+     *
+     * @param body The request body: a JSON array of lawyer records, or one lawyer record per line.
+     * @return ResponseEntity containing the per-row import report and HTTP status.
+     * @throws IOException if the request body cannot be read.
+     */
+    @Admission(RequestClass.HEAVY)
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+    public ResponseEntity<ImportReport> importLawyers(InputStream body) throws IOException {
+        // readValues unwraps a top-level JSON array and also reads whitespace-separated (NDJSON) objects
+        try (MappingIterator<LawyerRecord> lawyers = objectMapper.readerFor(LawyerRecord.class).readValues(body)) {
+            ImportReport report = lawyerImportService.importLawyers(lawyers);
+            return new ResponseEntity<>(report, HttpStatus.OK);
+        }
+    }
+
+
     /**
      * Change the status of a lawyer (active/inactive).
      *
      * @param lawyerID The ID of the lawyer whose status is to be changed.
-     * @return ResponseEntity containing a success or error message and HTTP status.
+     * @param ifMatch Optional ETag of the record as last read; the change is refused with 412 if the record has changed since.
+     * @return ResponseEntity containing a success message with the new status and the record's new ETag,
+     *         or an error message, and HTTP status.
      */
+    @Admission(RequestClass.WRITE)
     @PutMapping("/status/{lawyerID}")
-    public ResponseEntity<String> changeLawyerStatus(@PathVariable String lawyerID) {
+    public ResponseEntity<String> changeLawyerStatus(@PathVariable String lawyerID,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
         	//lawyer Details is found
-            lawyerService.changeLawyerStatus(lawyerID);
-            return new ResponseEntity<>("Lawyer status updated successfully", HttpStatus.OK);
+            LawyerRecord updated = lawyerService.changeLawyerStatus(lawyerID, expectedVersion(ifMatch));
+            return ResponseEntity.ok()
+                    .eTag(weakETag(String.valueOf(updated.getLawyerVersion())))
+                    .body("Lawyer status updated successfully: " + updated.getLawyerStatus());
         } catch (LawyerDetailsNotFoundException e) {
             return new ResponseEntity<>("Lawyer not found", HttpStatus.NOT_FOUND);
         }
     }
 
     
+    /**
+     * Set the status of many lawyers at once, selected by an ID list or by a domain/current-status filter.
+     *
+     * @param request The new status and the lawyers to apply it to.
+     * @return ResponseEntity containing the number of lawyers whose status changed and HTTP status.
+     */
+    @Admission(RequestClass.HEAVY)
+    @PutMapping("/status")
+    public ResponseEntity<String> changeLawyerStatus(@RequestBody BulkStatusRequest request) {
+        int changed = lawyerService.changeLawyerStatus(request);
+        return new ResponseEntity<>("Lawyer status updated for " + changed + " lawyers", HttpStatus.OK);
+    }
+
+    
     /**
      * Delete a lawyer record by ID.
      *
      * @param lawyerID The ID of the lawyer to be deleted.
      * @return ResponseEntity containing a success or error message and HTTP status.
      */
+    @Admission(RequestClass.WRITE)
     @DeleteMapping("delete/{lawyerID}")
     public ResponseEntity<String> deleteLawyer(@PathVariable String lawyerID) {
         try {
@@ -115,13 +296,14 @@ public class LawyerController {
     /**
      * Retrieve a summary of lawyers, including calculated metrics such as win ratio.
      *
-     * @return ResponseEntity containing the summary and HTTP status.
+     * @return ResponseEntity containing the typed summary rows and HTTP status.
      */
+    @Admission(RequestClass.HEAVY)
     @GetMapping("/summary")
-    public ResponseEntity<List<Object[]>> getLawyerSummary() {
+    public ResponseEntity<List<LawyerSummary>> getLawyerSummary() {
         try {
             // Fetch the lawyer summary from the service
-            List<Object[]> lawyerSummary = lawyerService.getLawyerSummary();
+            List<LawyerSummary> lawyerSummary = lawyerService.getLawyerSummary();
             return new ResponseEntity<>(lawyerSummary, HttpStatus.OK);
         } catch (RuntimeException e) {
             // If an exception occurs, return an error response
@@ -131,43 +313,295 @@ public class LawyerController {
 
     
     /**
-     * Retrieve all active lawyers.
+     * Retrieve per-domain and per-status statistics, maintained in memory as lawyers are created, changed and deleted.
+     *
+     * @return ResponseEntity containing the statistics and HTTP status.
+     */
+    @Admission(RequestClass.LOOKUP)
+    @GetMapping("/stats")
+    public ResponseEntity<LawyerStatisticsView> getLawyerStatistics() {
+        return new ResponseEntity<>(lawyerService.getLawyerStatistics(), HttpStatus.OK);
+    }
+
+    
+    /**
+     * Retrieve active lawyers one page at a time, ordered by lawyer ID.
      *
-     * @return ResponseEntity containing a list of active lawyers and HTTP status.
+     * @param cursor Opaque continuation token from the previous page; omit for the first page.
+     * @param size Number of records per page; defaults to lrms.pagination.default-size and is capped at lrms.pagination.max-size.
+     * @param view full (default) for complete lawyer records, or compact for the LawyerListItem projection.
+     * @param fields Comma-separated LawyerRecord fields to return, e.g. lawyerName,lawyerDomain; only these columns are read.
+     *               lawyerID is always included. Cannot be combined with view=compact.
+     * @param webRequest The current request, used to answer If-None-Match with the collection version.
+     * @return ResponseEntity containing a page of active lawyers with the next-page link and HTTP status,
+     *         or 304 (Not Modified) if the collection has not changed since the client's ETag.
      */
+    @Admission(RequestClass.LIST)
     @GetMapping("/active")
-    public ResponseEntity<List<LawyerRecord>> getAllActiveLawyers() {
-        try {
-            // Fetch active lawyers from the service layer
-            List<LawyerRecord> activeLawyers = lawyerService.getActiveLawyers();
-            return new ResponseEntity<>(activeLawyers, HttpStatus.OK);
-        } catch (RuntimeException e) {
-            // If an exception occurs, return an error response
-            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+    public ResponseEntity<LawyerPage<?>> getAllActiveLawyers(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer size,
+                                                             @RequestParam(defaultValue = "full") String view,
+                                                             @RequestParam(required = false) String fields,
+                                                             WebRequest webRequest) {
+        if (webRequest.checkNotModified(weakETag(lawyerService.getCollectionVersion()))) {
+            return null;
         }
+        // Fetch one page of active lawyers from the service layer
+        LawyerPage<?> activeLawyers = isSparse(fields, view)
+                ? lawyerService.getLawyerFields(fields, "Active", null, cursor, size)
+                : isCompact(view)
+                ? lawyerService.getCompactLawyers("Active", null, cursor, size)
+                : lawyerService.getActiveLawyers(cursor, size);
+        return new ResponseEntity<>(withNextLink(activeLawyers), HttpStatus.OK);
     }
     
     
     /**
-     * Retrieves a list of lawyers based on their domain of expertise.
+     * Retrieves lawyers based on their domain of expertise, one page at a time, ordered by lawyer ID.
      * 
      * @param domain The domain of expertise (e.g., Civil, Criminal) to filter lawyers.
-     * @return A ResponseEntity containing a list of LawyerRecord objects matching the domain.
-     *         If no lawyers are found, returns an empty list with HTTP status 200 (OK).
-     *         If an error occurs, returns HTTP status 500 (INTERNAL_SERVER_ERROR).
+     * @param cursor Opaque continuation token from the previous page; omit for the first page.
+     * @param size Number of records per page; defaults to lrms.pagination.default-size and is capped at lrms.pagination.max-size.
+     * @param view full (default) for complete lawyer records, or compact for the LawyerListItem projection.
+     * @param fields Comma-separated LawyerRecord fields to return, e.g. lawyerName,lawyerDomain; only these columns are read.
+     *               lawyerID is always included. Cannot be combined with view=compact.
+     * @param webRequest The current request, used to answer If-None-Match with the collection version.
+     * @return A ResponseEntity containing a page of lawyers matching the domain.
+     *         If no lawyers are found, returns an empty page with HTTP status 200 (OK);
+     *         304 (Not Modified) if the collection has not changed since the client's ETag.
      */
+    @Admission(RequestClass.LIST)
     @GetMapping("/domain/{domain}")
-    public ResponseEntity<List<LawyerRecord>> getLawyerByDomain(@PathVariable String domain) {
-        try {
-            // Fetch lawyers by domain from the service layer
-            List<LawyerRecord> lawyers = lawyerService.getLawyerByDomain(domain);
+    public ResponseEntity<LawyerPage<?>> getLawyerByDomain(@PathVariable String domain,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(required = false) Integer size,
+                                                           @RequestParam(defaultValue = "full") String view,
+                                                           @RequestParam(required = false) String fields,
+                                                           WebRequest webRequest) {
+        if (webRequest.checkNotModified(weakETag(lawyerService.getCollectionVersion()))) {
+            return null;
+        }
+        // Fetch one page of lawyers by domain from the service layer
+        LawyerPage<?> lawyers = isSparse(fields, view)
+                ? lawyerService.getLawyerFields(fields, null, domain, cursor, size)
+                : isCompact(view)
+                ? lawyerService.getCompactLawyers(null, domain, cursor, size)
+                : lawyerService.getLawyerByDomain(domain, cursor, size);
 
-            // Return the list of lawyers with HTTP status 200 (OK)
-            return new ResponseEntity<>(lawyers, HttpStatus.OK);
-        } catch (Exception e) {
-            // If an error occurs, return an error message with HTTP status 500 (INTERNAL_SERVER_ERROR)
-            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        // Return the page of lawyers with HTTP status 200 (OK)
+        return new ResponseEntity<>(withNextLink(lawyers), HttpStatus.OK);
+    }
+
+
+    /**
+     * Retrieve the best lawyers of a domain, e.g. /leaderboard/Criminal?metric=lawyerWinRatio&k=20
+     *
+     * @param domain The domain of expertise (case-insensitive).
+     * @param metric The ranking metric: lawyerWinRatio (default), lawyerExperienece or laywerCase.
+     * @param k The number of lawyers to return (default 20).
+     * @param activeOnly Whether to exclude lawyers that are not Active (default true).
+     * @return ResponseEntity containing the ranked lawyers and HTTP status.
+     */
+    @Admission(RequestClass.LOOKUP)
+    @GetMapping("/leaderboard/{domain}")
+    public ResponseEntity<List<LeaderboardEntry>> getLeaderboard(@PathVariable String domain,
+                                                                 @RequestParam(defaultValue = "lawyerWinRatio") String metric,
+                                                                 @RequestParam(defaultValue = "20") int k,
+                                                                 @RequestParam(defaultValue = "true") boolean activeOnly) {
+        return new ResponseEntity<>(lawyerService.getLeaderboard(domain, metric, k, activeOnly), HttpStatus.OK);
+    }
+
+
+    /**
+     * Aggregate a metric per domain, status or experience band over all lawyers matching the filters,
+     * e.g. /analytics/group?by=experience&band=5&metric=lawyerWinRatio&status=Active
+     *
+     * @param by The grouping: domain (default), status or experience.
+     * @param metric The metric: lawyerWinRatio (default), lawyerExperienece or laywerCase.
+     * @param band Width of the experience bands in years (default 5).
+     * @param filter Domain, status and inclusive experience, case and win-ratio ranges, bound from query parameters.
+     * @return ResponseEntity containing count, sum, mean, min and max per group and HTTP status.
+     */
+    @Admission(RequestClass.LIST)
+    @GetMapping("/analytics/group")
+    public ResponseEntity<List<AnalyticsGroup>> getAnalyticsGroups(@RequestParam(defaultValue = "domain") String by,
+                                                                   @RequestParam(defaultValue = "lawyerWinRatio") String metric,
+                                                                   @RequestParam(defaultValue = "5") int band,
+                                                                   AnalyticsFilter filter) {
+        return new ResponseEntity<>(lawyerService.getAnalyticsGroups(by, metric, band, filter), HttpStatus.OK);
+    }
+
+
+    /**
+     * Count lawyers per value range of a metric, e.g. /analytics/histogram?metric=lawyerWinRatio&width=0.1&domain=Civil
+     *
+     * @param metric The metric: lawyerWinRatio (default), lawyerExperienece or laywerCase.
+     * @param width Bucket width in the metric's unit (default 1; use e.g. 0.1 for win ratio).
+     * @param filter Domain, status and inclusive experience, case and win-ratio ranges, bound from query parameters.
+     * @return ResponseEntity containing the bucket counts and HTTP status.
+     */
+    @Admission(RequestClass.LIST)
+    @GetMapping("/analytics/histogram")
+    public ResponseEntity<Map<String, Long>> getAnalyticsHistogram(@RequestParam(defaultValue = "lawyerWinRatio") String metric,
+                                                                   @RequestParam(defaultValue = "1") double width,
+                                                                   AnalyticsFilter filter) {
+        return new ResponseEntity<>(lawyerService.getAnalyticsHistogram(metric, width, filter), HttpStatus.OK);
+    }
+
+
+    /**
+     * Percentiles of a metric, e.g. /analytics/percentiles?metric=laywerCase&p=0.5,0.9,0.99&domain=Criminal
+     *
+     * @param metric The metric: lawyerWinRatio (default), lawyerExperienece or laywerCase.
+     * @param p Percentiles as fractions (default 0.5, 0.9, 0.99).
+     * @param filter Domain, status and inclusive experience, case and win-ratio ranges, bound from query parameters.
+     * @return ResponseEntity containing the value at each percentile and HTTP status.
+     */
+    @Admission(RequestClass.LIST)
+    @GetMapping("/analytics/percentiles")
+    public ResponseEntity<Map<String, Double>> getAnalyticsPercentiles(@RequestParam(defaultValue = "lawyerWinRatio") String metric,
+                                                                       @RequestParam(defaultValue = "0.5,0.9,0.99") List<Double> p,
+                                                                       AnalyticsFilter filter) {
+        return new ResponseEntity<>(lawyerService.getAnalyticsPercentiles(metric, p, filter), HttpStatus.OK);
+    }
+
+
+    /**
+     * Retrieve the row count and heap footprint of the analytics snapshot.
+     *
+     * @return ResponseEntity containing the snapshot statistics and HTTP status.
+     */
+    @Admission(RequestClass.LOOKUP)
+    @GetMapping("/analytics/snapshot")
+    public ResponseEntity<SnapshotStatistics> getSnapshotStatistics() {
+        return new ResponseEntity<>(lawyerService.getSnapshotStatistics(), HttpStatus.OK);
+    }
+
+
+    /**
+     * Stream committed lawyer changes (CREATED, STATUS_CHANGED, DELETED, BULK_CHANGED) as server-sent events,
+     * so consumers can stay in sync without re-reading /getlawyer. Each event carries its sequence as event ID.
+     *
+     * @param since Sequence of the last change already seen; omit to receive only changes from now on.
+     * @param lastEventId Sent by EventSource clients on reconnect; takes precedence over since.
+     * @return The event stream.
+     */
+    @Admission(RequestClass.STREAM)
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(required = false) Long since,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return lawyerService.streamChanges(lastEventId != null ? lastEventId : since);
+    }
+
+
+    /**
+     * Search lawyers by any mix of domain, status, experience/case/win-ratio ranges and name prefix,
+     * e.g. /search?domain=Criminal&status=Active&minExperience=10&minWinRatio=0.7&sort=lawyerWinRatio&direction=desc
+     *
+     * @param criteria The search filters and ordering, bound from query parameters.
+     * @param cursor Opaque continuation token from the previous page; omit for the first page.
+     * @param size Number of records per page; defaults to lrms.pagination.default-size and is capped at lrms.pagination.max-size.
+     * @param fields Comma-separated LawyerRecord fields to return, e.g. lawyerName,lawyerDomain; only these columns are read.
+     *               lawyerID is always included.
+     * @return ResponseEntity containing a page of matching lawyers with the next-page link and HTTP status.
+     */
+    @Admission(RequestClass.LIST)
+    @GetMapping("/search")
+    public ResponseEntity<LawyerPage<?>> searchLawyers(LawyerSearchCriteria criteria,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer size,
+                                                       @RequestParam(required = false) String fields) {
+        LawyerPage<?> lawyers = fields != null
+                ? lawyerService.searchLawyers(criteria, fields, cursor, size)
+                : lawyerService.searchLawyers(criteria, cursor, size);
+        return new ResponseEntity<>(withNextLink(lawyers), HttpStatus.OK);
+    }
+
+
+    /**
+     * Resolves the view parameter of the list endpoints.
+     *
+     * @param view full or compact (case-insensitive).
+     * @return true for the compact projection.
+     * @throws IllegalArgumentException if the view is neither full nor compact.
+     */
+    private static boolean isCompact(String view) {
+        if ("compact".equalsIgnoreCase(view)) {
+            return true;
+        }
+        if ("full".equalsIgnoreCase(view)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Unsupported view: " + view + " (expected full or compact)");
+    }
+
+
+    /**
+     * Resolves the fields parameter of the list endpoints.
+     *
+     * @param fields The requested sparse fieldset, or null for the view's own columns.
+     * @param view The requested view.
+     * @return true if only the requested fields are to be read.
+     * @throws IllegalArgumentException if fields is combined with the compact view.
+     */
+    private static boolean isSparse(String fields, String view) {
+        if (fields == null) {
+            return false;
+        }
+        if (isCompact(view)) {
+            throw new IllegalArgumentException("fields cannot be combined with view=compact");
+        }
+        return true;
+    }
+
+
+    /**
+     * Makes the weak ETag of a version. The same version is served as JSON, Smile or CBOR and with or without
+     * gzip, which are different bytes, so the tags of negotiated responses are weak: they tell that two
+     * representations carry the same data, never that they are byte for byte the same.
+     *
+     * @param version The record or collection version.
+     * @return The ETag, e.g. W/"3".
+     */
+    private static String weakETag(String version) {
+        return "W/\"" + version + "\"";
+    }
+
+
+    /**
+     * Reads the expected record version from an If-Match header.
+     * The tag names the record version, not one encoding of it, so the weak tag a GET returns is accepted
+     * as well as its strong form.
+     *
+     * @param ifMatch The header value, e.g. W/"3" or "3", or null/* for an unconditional change.
+     * @return The expected version, or null if the change is unconditional.
+     * @throws IllegalArgumentException if the header is not an ETag of this API.
+     */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
         }
+        String tag = ifMatch.trim();
+        String opaque = tag.startsWith("W/") ? tag.substring(2) : tag;
+        if (opaque.length() < 2 || !opaque.startsWith("\"") || !opaque.endsWith("\"")) {
+            throw new IllegalArgumentException("If-Match must be an ETag such as W/\"3\"");
+        }
+        try {
+            return Long.valueOf(opaque.substring(1, opaque.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Unknown ETag in If-Match: " + tag);
+        }
+    }
+
+
+    /**
+     * Fills in the next-page link of a page from the current request URL and the page's cursor.
+     *
+     * @param page The page returned by the service layer.
+     * @return The same page, with its next link set when a further page exists.
+     */
+    private <T> LawyerPage<T> withNextLink(LawyerPage<T> page) {
+        return PageLinks.withNextLink(page, ServletUriComponentsBuilder.fromCurrentRequest());
     }
 
 }
@@ -0,0 +1,116 @@
+package com.pro.lrms.controller;
+
+import com.pro.lrms.admission.Admission;
+import com.pro.lrms.admission.RequestClass;
+import com.pro.lrms.dto.ExportFormat;
+import com.pro.lrms.dto.ReportJobStatus;
+import com.pro.lrms.dto.ReportType;
+import com.pro.lrms.report.ReportJob;
+import com.pro.lrms.service.LawyerReportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reports over the whole registry, generated by background jobs: submit a report, poll the job until it has
+ * completed, then download the file.
+ */
+@RestController
+@RequestMapping("/lrms/lawyers/reports")
+public class LawyerReportController {
+
+    /**
+     * Request attributes through which Tomcat sends a file with sendfile, straight from the page cache to the
+     * socket, once the handler returns.
+     */
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private LawyerReportService lawyerReportService;
+
+
+    /**
+     * Submit a report job. An identical report that is still queued or running is joined instead of started again.
+     *
+     * @param type The report: summary or roster.
+     * @param format The output format: ndjson (default) or csv.
+     * @param domain For roster reports, the domain to restrict it to; omit for all domains.
+     * @return ResponseEntity containing the job status, with its URL in the Location header, and HTTP status 202.
+     */
+    @Admission(RequestClass.WRITE)
+    @PostMapping
+    public ResponseEntity<ReportJobStatus> submitReport(@RequestParam String type,
+                                                        @RequestParam(defaultValue = "ndjson") String format,
+                                                        @RequestParam(required = false) String domain) {
+        ReportJobStatus job = lawyerReportService.submitReport(ReportType.from(type), ExportFormat.from(format), domain);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequestUri().path("/{jobId}").buildAndExpand(job.getJobId()).toUri())
+                .body(job);
+    }
+
+
+    /**
+     * Retrieve the state and progress of a report job.
+     *
+     * @param jobId The job ID returned on submission.
+     * @return ResponseEntity containing the job status and HTTP status.
+     */
+    @Admission(RequestClass.LOOKUP)
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ReportJobStatus> getReportJob(@PathVariable String jobId) {
+        return new ResponseEntity<>(lawyerReportService.getReportJob(jobId), HttpStatus.OK);
+    }
+
+
+    /**
+     * Download the file of a completed report. On Tomcat the file is transferred with sendfile; elsewhere it is
+     * copied through the response stream.
+     *
+     * @param jobId The job ID returned on submission.
+     * @param request The current request, to hand the file to the container.
+     * @return ResponseEntity with the report file, or the job status and HTTP status 409 while it is not complete.
+     * @throws IOException if the report file cannot be read.
+     */
+    @Admission(RequestClass.LIST)
+    @GetMapping("/{jobId}/file")
+    public ResponseEntity<?> downloadReport(@PathVariable String jobId, HttpServletRequest request) throws IOException {
+        ReportJobStatus job = lawyerReportService.getReportJob(jobId);
+        if (!ReportJob.State.COMPLETED.name().equals(job.getState())) {
+            return new ResponseEntity<>(job, HttpStatus.CONFLICT);
+        }
+        Path file = lawyerReportService.getReportFile(jobId);
+        long size = Files.size(file);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(job.getFormat().getContentType()))
+                .contentLength(size)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName(job) + "\"");
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return response.build();
+        }
+        return response.body(new FileSystemResource(file));
+    }
+
+    private static String fileName(ReportJobStatus job) {
+        String name = "lawyer-" + job.getType().name().toLowerCase();
+        if (job.getDomain() != null) {
+            name += "-" + job.getDomain().replaceAll("[^a-z0-9]+", "_");
+        }
+        return name + "." + job.getFormat().name().toLowerCase();
+    }
+}
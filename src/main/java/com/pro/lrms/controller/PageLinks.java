@@ -0,0 +1,31 @@
+package com.pro.lrms.controller;
+
+import org.springframework.web.util.UriComponentsBuilder;
+import com.pro.lrms.dto.LawyerPage;
+
+/**
+ * Builds the next-page links of paged responses.
+ */
+final class PageLinks {
+
+    private PageLinks() {
+    }
+
+    /**
+     * Fills in the next-page link of a page from the request URL and the page's cursor.
+     * The request URL is passed in so that the link can be built off the request thread.
+     *
+     * @param page The page returned by the service layer.
+     * @param requestUri The URL of the current request.
+     * @return The same page, with its next link set when a further page exists.
+     */
+    static <T> LawyerPage<T> withNextLink(LawyerPage<T> page, UriComponentsBuilder requestUri) {
+        if (page.getNextCursor() != null) {
+            page.setNext(requestUri
+                    .replaceQueryParam("cursor", page.getNextCursor())
+                    .replaceQueryParam("size", page.getSize())
+                    .toUriString());
+        }
+        return page;
+    }
+}
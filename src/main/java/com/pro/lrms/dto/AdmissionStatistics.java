@@ -0,0 +1,40 @@
+package com.pro.lrms.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of admission control: the adaptive concurrency limit, the database latency it follows and the
+ * admitted and rejected requests per request class since startup.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdmissionStatistics {
+
+    private boolean enabled;
+
+    private double limit;
+    private int inFlight;
+
+    /**
+     * Mean repository call latency over the last adjust interval, and the baseline it is compared with.
+     */
+    private double recentLatencyMillis;
+    private double baselineLatencyMillis;
+
+    /**
+     * Clients currently tracked by the rate limiter.
+     */
+    private int clients;
+
+    /**
+     * Requests per request class: admitted, throttled (429, client over its rate) and shed (503, concurrency
+     * limit reached).
+     */
+    private Map<String, Long> admitted;
+    private Map<String, Long> throttled;
+    private Map<String, Long> shed;
+}
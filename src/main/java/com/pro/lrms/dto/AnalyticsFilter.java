@@ -0,0 +1,32 @@
+package com.pro.lrms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Row filter of the analytics queries over the lawyer snapshot.
+ * Every filter is optional; null values are ignored. Range bounds are inclusive.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AnalyticsFilter {
+
+    /**
+     * Domain of expertise, matched case-insensitively (e.g., Criminal).
+     */
+    private String domain;
+
+    /**
+     * Lawyer status (e.g., Active, Inactive).
+     */
+    private String status;
+
+    private Integer minExperience;
+    private Integer maxExperience;
+    private Integer minCases;
+    private Integer maxCases;
+    private Float minWinRatio;
+    private Float maxWinRatio;
+}
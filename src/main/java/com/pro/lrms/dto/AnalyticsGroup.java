@@ -0,0 +1,25 @@
+package com.pro.lrms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Aggregates of one metric over one group of lawyers, from the analytics snapshot.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AnalyticsGroup {
+
+    /**
+     * The domain, status or experience band (e.g., "5-9") this group covers.
+     */
+    private String group;
+
+    private long count;
+    private double sum;
+    private double mean;
+    private double min;
+    private double max;
+}
@@ -0,0 +1,36 @@
+package com.pro.lrms.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request body for changing the status of many lawyers at once.
+ * Either lawyerIDs or at least one filter field (lawyerDomain, currentStatus) must be given.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusRequest {
+
+    /**
+     * The new status: Active or Inactive.
+     */
+    private String status;
+
+    /**
+     * Explicit lawyer IDs to update; when present the filter fields are ignored.
+     */
+    private List<String> lawyerIDs;
+
+    /**
+     * Filter: only lawyers in this domain (case-insensitive).
+     */
+    private String lawyerDomain;
+
+    /**
+     * Filter: only lawyers currently in this status.
+     */
+    private String currentStatus;
+}
@@ -0,0 +1,26 @@
+package com.pro.lrms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Hit, miss and eviction statistics of one lawyer lookup cache.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheStatistics {
+
+    private String name;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+
+    /**
+     * Number of cached "not found" results currently held.
+     */
+    private long negativeEntries;
+}
@@ -0,0 +1,38 @@
+package com.pro.lrms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Effect of request coalescing on one query since startup.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CoalescingStatistics {
+
+    private String name;
+
+    /**
+     * Loads currently running with callers able to join them.
+     */
+    private int inFlight;
+
+    /**
+     * Loads that ran against the database, successfully or not.
+     */
+    private long executed;
+
+    /**
+     * Requests answered by joining another request's load: the database calls saved.
+     */
+    private long shared;
+
+    private long failed;
+
+    /**
+     * Requests that joined a load but gave up waiting for it.
+     */
+    private long timedOut;
+}
@@ -0,0 +1,30 @@
+package com.pro.lrms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Task counters of the executor that runs the asynchronous service variants.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ExecutorStatistics {
+
+    /**
+     * virtual or platform.
+     */
+    private String mode;
+
+    private long submitted;
+    private long completed;
+    private int inFlight;
+
+    /**
+     * Platform mode only: current threads, busy threads and tasks waiting for a thread.
+     */
+    private int poolSize;
+    private int activeThreads;
+    private int queued;
+}
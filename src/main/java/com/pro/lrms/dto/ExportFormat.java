@@ -0,0 +1,46 @@
+package com.pro.lrms.dto;
+
+/**
+ * Output formats supported by the streaming lawyer export.
+ */
+public enum ExportFormat {
+
+    /**
+     * Newline-delimited JSON: one LawyerRecord object per line.
+     */
+    NDJSON("application/x-ndjson"),
+
+    /**
+     * Comma-separated values with a header row.
+     */
+    CSV("text/csv");
+
+    private final String contentType;
+
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * @return The HTTP content type for this format.
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Resolves a format from a request parameter, ignoring case.
+     *
+     * @param value The requested format (e.g., "ndjson", "csv").
+     * @return The matching ExportFormat.
+     * @throws IllegalArgumentException if the format is not supported.
+     */
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + value);
+    }
+}
@@ -0,0 +1,33 @@
+package com.pro.lrms.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Aggregates over the lawyers of one domain or one status.
+ * Win ratio figures use the same rule as the lawyer summary: lawyers with no cases count as 0.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GroupStatistics {
+
+    /**
+     * The domain or status this group covers.
+     */
+    private String group;
+
+    private long count;
+    private long totalCases;
+    private double meanWinRatio;
+    private double p50WinRatio;
+    private double p90WinRatio;
+    private double p99WinRatio;
+
+    /**
+     * Number of lawyers per experience band (e.g., "5-9" years), in ascending band order.
+     */
+    private Map<String, Long> experienceHistogram;
+}
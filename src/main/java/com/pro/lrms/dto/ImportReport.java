@@ -0,0 +1,47 @@
+package com.pro.lrms.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * Result of a bulk lawyer import: totals and the outcome of every row.
+ */
+@Data
+public class ImportReport {
+
+    /**
+     * Number of rows read from the request.
+     */
+    private int total;
+
+    /**
+     * Number of rows inserted.
+     */
+    private int created;
+
+    /**
+     * Number of rows rejected or failed.
+     */
+    private int rejected;
+
+    /**
+     * Per-row outcomes in request order.
+     */
+    private List<ImportRowResult> rows = new ArrayList<>();
+
+    /**
+     * Records the outcome of one row and updates the totals.
+     *
+     * @param result The outcome of the row.
+     */
+    public void add(ImportRowResult result) {
+        rows.add(result);
+        total++;
+        if (result.getStatus() == ImportRowResult.Status.CREATED) {
+            created++;
+        } else {
+            rejected++;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.pro.lrms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of importing one row of a bulk lawyer import.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportRowResult {
+
+    /**
+     * Possible outcomes for a single imported row.
+     */
+    public enum Status {
+        CREATED, DUPLICATE_ID, DUPLICATE_LICENSE, INVALID, FAILED
+    }
+
+    /**
+     * Zero-based position of the row in the request body.
+     */
+    private int row;
+
+    /**
+     * The lawyer ID of the row, if it could be read.
+     */
+    private String lawyerID;
+
+    /**
+     * The outcome for this row.
+     */
+    private Status status;
+
+    /**
+     * Details for rows that were not created; null for created rows.
+     */
+    private String message;
+}
@@ -0,0 +1,17 @@
+package com.pro.lrms.dto;
+
+/**
+ * Compact, read-only view of a lawyer for list endpoints (?view=compact).
+ * Leaves out the address, phone and license columns and is built directly by a JPQL constructor expression.
+ *
+ * @param lawyerID Unique identifier of the lawyer.
+ * @param lawyerName Name of the lawyer.
+ * @param lawyerDomain Domain expertise of the lawyer.
+ * @param lawyerStatus Status of the lawyer.
+ * @param laywerCase Total number of cases handled.
+ * @param lawyerExperienece Total years of experience.
+ * @param lawyerWinRatio Win ratio of the lawyer.
+ */
+public record LawyerListItem(String lawyerID, String lawyerName, String lawyerDomain, String lawyerStatus,
+                             int laywerCase, int lawyerExperienece, float lawyerWinRatio) {
+}
@@ -0,0 +1,40 @@
+package com.pro.lrms.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of lawyer records returned by the keyset-paginated list endpoints.
+ * Records are ordered by lawyerID; the next page is requested with the opaque cursor.
+ *
+ * @param <T> The row type: LawyerRecord for the full view, LawyerListItem for the compact view,
+ *            or a field name to value map for a sparse fieldset (?fields=).
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LawyerPage<T> {
+
+    /**
+     * The lawyer records on this page, in ascending lawyerID order.
+     */
+    private List<T> content;
+
+    /**
+     * Number of records requested for this page after applying the hard cap.
+     */
+    private int size;
+
+    /**
+     * Opaque continuation token for the next page, or null if this is the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * Link to the next page, or null if this is the last page.
+     * Filled in by the controller since it depends on the current request URL.
+     */
+    private String next;
+}
@@ -0,0 +1,47 @@
+package com.pro.lrms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filters and ordering for the multi-criteria lawyer search.
+ * Every filter is optional; null values are ignored. Range bounds are inclusive.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LawyerSearchCriteria {
+
+    /**
+     * Domain of expertise, matched case-insensitively (e.g., Criminal).
+     */
+    private String domain;
+
+    /**
+     * Lawyer status (e.g., Active, Inactive).
+     */
+    private String status;
+
+    private Integer minExperience;
+    private Integer maxExperience;
+    private Integer minCases;
+    private Integer maxCases;
+    private Float minWinRatio;
+    private Float maxWinRatio;
+
+    /**
+     * Case-insensitive prefix of the lawyer name.
+     */
+    private String namePrefix;
+
+    /**
+     * Property to sort by: lawyerID (default), lawyerName, lawyerExperienece, laywerCase or lawyerWinRatio.
+     */
+    private String sort;
+
+    /**
+     * Sort direction: asc (default) or desc.
+     */
+    private String direction;
+}
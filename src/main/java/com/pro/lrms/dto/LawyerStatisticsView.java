@@ -0,0 +1,23 @@
+package com.pro.lrms.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Snapshot of the incrementally maintained lawyer statistics.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LawyerStatisticsView {
+
+    private List<GroupStatistics> byDomain;
+    private List<GroupStatistics> byStatus;
+
+    /**
+     * Epoch milliseconds of the last reconciliation with the database.
+     */
+    private long reconciledAt;
+}
@@ -0,0 +1,13 @@
+package com.pro.lrms.dto;
+
+/**
+ * Typed row of the lawyer summary: name, domain, contact number and calculated win ratio.
+ * Built directly by a JPQL constructor expression, so no entity is loaded or managed.
+ *
+ * @param lawyerName Name of the lawyer.
+ * @param lawyerDomain Domain expertise of the lawyer.
+ * @param lawyerNumber Phone number of the lawyer.
+ * @param winRatio Win ratio, or 0 if the lawyer has no cases.
+ */
+public record LawyerSummary(String lawyerName, String lawyerDomain, String lawyerNumber, float winRatio) {
+}
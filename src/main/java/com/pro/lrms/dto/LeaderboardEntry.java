@@ -0,0 +1,28 @@
+package com.pro.lrms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One ranked lawyer on a domain leaderboard.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LeaderboardEntry {
+
+    /**
+     * 1-based rank on the leaderboard.
+     */
+    private int rank;
+
+    private String lawyerID;
+    private String lawyerName;
+    private String lawyerStatus;
+
+    /**
+     * The value of the ranking metric for this lawyer.
+     */
+    private double value;
+}
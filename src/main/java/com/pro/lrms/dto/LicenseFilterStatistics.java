@@ -0,0 +1,52 @@
+package com.pro.lrms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Health and effectiveness of the license-number existence filter.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LicenseFilterStatistics {
+
+    /**
+     * Whether the filter has been built; until then every probe falls through to the database.
+     */
+    private boolean ready;
+
+    private long slots;
+    private int hashFunctions;
+
+    /**
+     * Fraction of non-zero counters.
+     */
+    private double fillRatio;
+
+    /**
+     * False-positive probability expected from the current fill ratio.
+     */
+    private double expectedFalsePositiveRate;
+
+    /**
+     * Probes answered "definitely absent", each of which skipped a database lookup.
+     */
+    private long definitelyAbsent;
+
+    /**
+     * Probes answered "maybe present", which fell through to the exact check.
+     */
+    private long maybePresent;
+
+    /**
+     * "Maybe present" probes the exact check found to be absent.
+     */
+    private long falsePositives;
+
+    /**
+     * False-positive rate observed among probes of absent licenses.
+     */
+    private double observedFalsePositiveRate;
+}
@@ -0,0 +1,144 @@
+package com.pro.lrms.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Encodes and decodes the opaque continuation token used by keyset pagination.
+ * The token wraps the last lawyerID of the previous page (or, for search results, the sort value and
+ * lawyerID of its last row) so clients cannot depend on its format.
+ */
+public final class PageCursor {
+
+    private static final String PREFIX = "id:";
+    private static final String SEARCH_PREFIX = "seek:";
+
+    private PageCursor() {
+    }
+
+    /**
+     * Builds the continuation token for the page following the given lawyerID.
+     *
+     * @param lastLawyerID The lawyerID of the last record on the current page.
+     * @return A URL-safe opaque token.
+     */
+    public static String encode(String lastLawyerID) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastLawyerID).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Extracts the lawyerID to resume after from a continuation token.
+     *
+     * @param cursor The token received from a previous page, or null/blank for the first page.
+     * @return The lawyerID to continue after; an empty string for the first page.
+     * @throws IllegalArgumentException if the token is malformed.
+     */
+    public static String decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return "";
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (value.startsWith(PREFIX)) {
+                return value.substring(PREFIX.length());
+            }
+        } catch (IllegalArgumentException ignored) {
+            // fall through to the error below
+        }
+        throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+    }
+
+    /**
+     * Builds the continuation token for a search, which resumes after the last row of the page in the search
+     * order: its sort value, then its lawyerID.
+     *
+     * @param sort The sort property of the search.
+     * @param direction The sort direction of the search, asc or desc.
+     * @param sortValue The sort property value of the last row on the current page: a String, Integer or Float, or null.
+     * @param lastLawyerID The lawyerID of the last row on the current page.
+     * @return A URL-safe opaque token.
+     */
+    public static String encodeSearch(String sort, String direction, Object sortValue, String lastLawyerID) {
+        String value = switch (sortValue) {
+            case null -> "n";
+            case String text -> "s" + text;
+            case Integer number -> "i" + number;
+            case Float number -> "f" + number;
+            default -> throw new IllegalArgumentException("Unsupported sort value: " + sortValue.getClass().getName());
+        };
+        String token = SEARCH_PREFIX + sort + ":" + direction.toLowerCase(Locale.ROOT) + ":" + part(value) + ":" + part(lastLawyerID);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Extracts the position to resume a search after from a continuation token produced by encodeSearch.
+     * A token only continues the search order it was issued for.
+     *
+     * @param cursor The token received from a previous page, or null/blank for the first page.
+     * @param sort The sort property of the search.
+     * @param direction The sort direction of the search, asc or desc.
+     * @return The position to continue after; null for the first page.
+     * @throws IllegalArgumentException if the token is malformed or was issued for another sort order.
+     */
+    public static SearchPosition decodeSearch(String cursor, String sort, String direction) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = null;
+        SearchPosition position = null;
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (value.startsWith(SEARCH_PREFIX)) {
+                String[] fields = value.substring(SEARCH_PREFIX.length()).split(":", -1);
+                if (fields.length == 4) {
+                    position = new SearchPosition(sortValue(unpart(fields[2])), unpart(fields[3]));
+                    parts = fields;
+                }
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ignored) {
+            // fall through to the error below (NumberFormatException is an IllegalArgumentException)
+        }
+        if (parts == null) {
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+        }
+        if (!parts[0].equals(sort) || !parts[1].equals(direction.toLowerCase(Locale.ROOT))) {
+            throw new IllegalArgumentException("Page cursor does not continue a search sorted by " + sort + " " + direction);
+        }
+        return position;
+    }
+
+    /**
+     * Where a search page ends: the sort value and lawyerID of its last row.
+     *
+     * @param sortValue The sort property value: a String, Integer or Float, or null.
+     * @param lawyerID The lawyerID, which breaks ties between equal sort values.
+     */
+    public record SearchPosition(Object sortValue, String lawyerID) {
+    }
+
+    private static Object sortValue(String value) {
+        return switch (value.charAt(0)) {
+            case 'n' -> {
+                if (value.length() != 1) {
+                    throw new NumberFormatException(value);
+                }
+                yield null;
+            }
+            case 's' -> value.substring(1);
+            case 'i' -> Integer.valueOf(value.substring(1));
+            case 'f' -> Float.valueOf(value.substring(1));
+            default -> throw new NumberFormatException(value);
+        };
+    }
+
+    // Each free-text part is encoded on its own, so sort values and IDs may contain the separator
+    private static String part(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String unpart(String part) {
+        return new String(Base64.getUrlDecoder().decode(part), StandardCharsets.UTF_8);
+    }
+}
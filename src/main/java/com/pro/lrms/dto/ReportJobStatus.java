@@ -0,0 +1,53 @@
+package com.pro.lrms.dto;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State and progress of a report job, as returned by the submit and polling endpoints.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReportJobStatus {
+
+    private String jobId;
+    private ReportType type;
+    private ExportFormat format;
+
+    /**
+     * Domain of a roster report, or null for all domains.
+     */
+    private String domain;
+
+    /**
+     * QUEUED, RUNNING, COMPLETED or FAILED.
+     */
+    private String state;
+
+    /**
+     * Number of submissions served by this job (identical requests made while it was queued or running).
+     */
+    private int requests;
+
+    /**
+     * Rows written so far, the row count taken when the job started (-1 before that), and their ratio.
+     */
+    private long rowsWritten;
+    private long expectedRows;
+    private double progress;
+
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    /**
+     * When the report file of a finished job is deleted.
+     */
+    private Instant expiresAt;
+
+    private long sizeBytes;
+    private String error;
+}
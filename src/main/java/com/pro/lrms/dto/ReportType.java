@@ -0,0 +1,33 @@
+package com.pro.lrms.dto;
+
+/**
+ * Reports that can be generated as background jobs.
+ */
+public enum ReportType {
+
+    /**
+     * The lawyer summary (name, domain, contact number and win ratio) of every lawyer.
+     */
+    SUMMARY,
+
+    /**
+     * Full records of every lawyer, or of the lawyers of one domain.
+     */
+    ROSTER;
+
+    /**
+     * Resolves a report type from a request parameter, ignoring case.
+     *
+     * @param value The requested report type (e.g., "summary", "roster").
+     * @return The matching ReportType.
+     * @throws IllegalArgumentException if the report type is not supported.
+     */
+    public static ReportType from(String value) {
+        for (ReportType type : values()) {
+            if (type.name().equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported report type: " + value);
+    }
+}
@@ -0,0 +1,28 @@
+package com.pro.lrms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Size of the analytics snapshot.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SnapshotStatistics {
+
+    private int rows;
+    private int domains;
+    private int statuses;
+
+    /**
+     * Heap held by the snapshot's arrays and dictionaries.
+     */
+    private long estimatedBytes;
+
+    /**
+     * When the snapshot was last rebuilt from the database (epoch milliseconds).
+     */
+    private long builtAt;
+}
@@ -0,0 +1,41 @@
+package com.pro.lrms.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Execution-mode diagnostics: service executor load, JVM platform threads and virtual-thread pinning.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ThreadStatistics {
+
+    /**
+     * Whether requests and service calls run on virtual threads.
+     */
+    private boolean virtualThreads;
+
+    private ExecutorStatistics serviceExecutor;
+
+    /**
+     * Live and peak platform threads of the JVM; virtual threads are not included.
+     */
+    private int platformThreads;
+    private int peakPlatformThreads;
+
+    /**
+     * Whether pinning events are being recorded (virtual mode with lrms.threads.pinning-diagnostics).
+     */
+    private boolean pinningDiagnostics;
+
+    private long pinnedEvents;
+    private long pinnedMillis;
+
+    /**
+     * Pinning events per site: the first non-JDK frame of the pinned thread's stack.
+     */
+    private Map<String, Long> pinnedSites;
+}
@@ -0,0 +1,98 @@
+package com.pro.lrms.entity;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import com.pro.lrms.event.LawyerChangeEvent;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing one committed change to lawyer records, as served by the change feed.
+ * Maps to the database table "lawyerchange".
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "lawyerchange", indexes = {
+    // Supports the retention purge
+    @Index(name = "idx_lawyerchange_changedat", columnList = "changedat")
+})
+public class LawyerChange {
+
+    /**
+     * Position of the change in the feed; consumers resume after it with ?since=.
+     * Maps to the "sequence" column. Drawn one at a time when the change is written, so numbers follow
+     * the commit order of the change log; a failed write leaves a gap.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lawyerchange_seq")
+    @SequenceGenerator(name = "lawyerchange_seq", sequenceName = "lawyerchange_seq", allocationSize = 1)
+    @Column(name = "sequence")
+    private Long sequence;
+
+    /**
+     * Kind of change.
+     * Maps to the "changetype" column in the database.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "changetype", length = 20, nullable = false)
+    private LawyerChangeEvent.Type changeType;
+
+    /**
+     * The lawyer that changed; null for BULK_CHANGED, after which consumers should resynchronise.
+     * Maps to the "lawyerid" column in the database.
+     */
+    @Column(name = "lawyerid", length = 40)
+    private String lawyerID;
+
+    /**
+     * Status of the lawyer after the change; null for DELETED and BULK_CHANGED.
+     * Maps to the "lawyerstatus" column in the database.
+     */
+    @Column(name = "lawyerstatus", length = 30)
+    private String lawyerStatus;
+
+    /**
+     * Row version of the lawyer after the change, for comparing with an ETag; null for DELETED and BULK_CHANGED.
+     * Maps to the "lawyerversion" column in the database.
+     */
+    @Column(name = "lawyerversion")
+    private Long lawyerVersion;
+
+    /**
+     * When the change was recorded.
+     * Maps to the "changedat" column in the database.
+     */
+    @Column(name = "changedat", nullable = false)
+    private Instant changedAt;
+
+    /**
+     * @param event A committed change published by the service layer.
+     * @return The unsaved change log entry for it.
+     */
+    public static LawyerChange of(LawyerChangeEvent event) {
+        LawyerChange change = new LawyerChange();
+        change.changeType = event.getType();
+        LawyerRecord lawyer = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        if (lawyer != null) {
+            change.lawyerID = lawyer.getLawyerID();
+        }
+        if (event.getAfter() != null) {
+            change.lawyerStatus = event.getAfter().getLawyerStatus();
+            change.lawyerVersion = event.getAfter().getLawyerVersion();
+        }
+        // Database precision, so a change reads the same from the ring and from the change log
+        change.changedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        return change;
+    }
+}
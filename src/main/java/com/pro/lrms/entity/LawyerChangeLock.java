@@ -0,0 +1,34 @@
+package com.pro.lrms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class for the single row that writers of the change log lock before drawing sequence numbers.
+ * Maps to the database table "lawyerchangelock".
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "lawyerchangelock")
+public class LawyerChangeLock {
+
+    /**
+     * The row every writer locks.
+     */
+    public static final int WRITERS = 1;
+
+    /**
+     * Always WRITERS.
+     * Maps to the "id" column in the database.
+     */
+    @Id
+    @Column(name = "id")
+    private Integer id;
+}
@@ -3,8 +3,11 @@ package com.pro.lrms.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.ColumnDefault;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -14,9 +17,11 @@ import lombok.NoArgsConstructor;
  */
 @Entity
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "lawyerrecord")
+@Table(name = "lawyerrecord", indexes = {
+    // Supports the exact duplicate check on license number, and rejects duplicates the check cannot see
+    @Index(name = "idx_lawyerrecord_license", columnList = "lawyerlicense", unique = true)
+})
 public class LawyerRecord {
 
     /**
@@ -90,6 +95,32 @@ public class LawyerRecord {
     @Column(name = "lawyerstatus", length = 30)
     private String lawyerStatus;
 
+    /**
+     * Row version, incremented on every update; used for ETags and optimistic locking.
+     * Maps to the "lawyerversion" column in the database. Null until the record is first saved,
+     * and never read from request bodies.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "lawyerversion", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long lawyerVersion;
+
+    public LawyerRecord(String lawyerID, String lawyerName, String lawyerNumber, String laywerAddress,
+                        String lawyerDomain, int laywerCase, int lawyerExperienece, float lawyerWinRatio,
+                        String lawyerLicenseNumber, String lawyerStatus) {
+        this.lawyerID = lawyerID;
+        this.lawyerName = lawyerName;
+        this.lawyerNumber = lawyerNumber;
+        this.laywerAddress = laywerAddress;
+        this.lawyerDomain = lawyerDomain;
+        this.laywerCase = laywerCase;
+        this.lawyerExperienece = lawyerExperienece;
+        this.lawyerWinRatio = lawyerWinRatio;
+        this.lawyerLicenseNumber = lawyerLicenseNumber;
+        this.lawyerStatus = lawyerStatus;
+    }
+
     // Getters and setters for each field
 
     public String getLawyerID() {
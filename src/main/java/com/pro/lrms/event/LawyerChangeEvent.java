@@ -0,0 +1,55 @@
+package com.pro.lrms.event;
+
+import com.pro.lrms.entity.LawyerRecord;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the service layer after a change to lawyer records has committed.
+ * In-memory views (statistics, leaderboards, ...) listen for it to stay up to date incrementally.
+ */
+@Getter
+@AllArgsConstructor
+public class LawyerChangeEvent {
+
+    /**
+     * Kind of change.
+     */
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED,
+        DELETED,
+        /**
+         * A bulk update touched an unknown set of rows; listeners should resynchronise from the database.
+         */
+        BULK_CHANGED
+    }
+
+    private final Type type;
+
+    /**
+     * The record before the change; null for CREATED and BULK_CHANGED.
+     */
+    private final LawyerRecord before;
+
+    /**
+     * The record after the change; null for DELETED and BULK_CHANGED.
+     */
+    private final LawyerRecord after;
+
+    public static LawyerChangeEvent created(LawyerRecord after) {
+        return new LawyerChangeEvent(Type.CREATED, null, after);
+    }
+
+    public static LawyerChangeEvent statusChanged(LawyerRecord before, LawyerRecord after) {
+        return new LawyerChangeEvent(Type.STATUS_CHANGED, before, after);
+    }
+
+    public static LawyerChangeEvent deleted(LawyerRecord before) {
+        return new LawyerChangeEvent(Type.DELETED, before, null);
+    }
+
+    public static LawyerChangeEvent bulkChanged() {
+        return new LawyerChangeEvent(Type.BULK_CHANGED, null, null);
+    }
+}
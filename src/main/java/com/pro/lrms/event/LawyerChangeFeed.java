@@ -0,0 +1,370 @@
+package com.pro.lrms.event;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.pro.lrms.entity.LawyerChange;
+import com.pro.lrms.entity.LawyerChangeLock;
+import com.pro.lrms.repository.LawyerChangeLockRepository;
+import com.pro.lrms.repository.LawyerChangeRepository;
+
+/**
+ * Change feed of committed lawyer record mutations, streamed to consumers as server-sent events.
+ * <p>
+ * Every LawyerChangeEvent is queued and written to the persisted change log in batches, which assigns it a
+ * sequence number, then appended to a bounded ring buffer of the most recent changes. A consumer resumes from
+ * the last sequence it has seen: changes still in the ring are served from memory, and a consumer that has
+ * fallen further behind reads the change log until it catches up with the ring. Each subscriber pulls from
+ * its own position on a virtual thread of its own, so a slow consumer never holds up the others, the writers
+ * or the threads that serve requests.
+ * <p>
+ * Sequence numbers are drawn one at a time while the batch is written, and each batch is written while holding
+ * the lock row of the change log, so the batches of all instances commit one after another and a position a
+ * consumer has read past is never filled in later. The purge always keeps the latest change, so a restarted
+ * instance resumes numbering where the log left off.
+ * <p>
+ * The ring only holds changes made through this instance; with several instances, a consumer should stay on
+ * one of them, or read the change log through another after a failover by resuming with the same sequence.
+ */
+@Component
+public class LawyerChangeFeed implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(LawyerChangeFeed.class);
+
+    /**
+     * Maximum number of changes read from the ring or the change log in one step.
+     */
+    private static final int READ_BATCH = 500;
+
+    private final LawyerChangeRepository changeRepo;
+    private final LawyerChangeLockRepository lockRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate primaryReadTx;
+    private final ExecutorService subscriberThreads =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("change-feed-", 0).factory());
+    private final Duration retention;
+
+    private final BlockingQueue<LawyerChange> pending;
+    private final List<LawyerChange> unsaved = new ArrayList<>();
+    private final LongAdder dropped = new LongAdder();
+    /**
+     * Changes queued or being written that are not committed to the change log yet.
+     */
+    private final AtomicInteger unwritten = new AtomicInteger();
+
+    /**
+     * Ring buffer of the latest persisted changes, in sequence order; guarded by itself.
+     */
+    private final LawyerChange[] ring;
+    private int ringStart;
+    private int ringSize;
+    /**
+     * Every change of this instance after this position is in the ring. Until the feed has started,
+     * all reads go to the change log.
+     */
+    private long evictedThrough = Long.MAX_VALUE;
+
+    /**
+     * Positions at or below this have been purged from the change log.
+     */
+    private volatile long purgedThrough;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public LawyerChangeFeed(LawyerChangeRepository changeRepo, LawyerChangeLockRepository lockRepo,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${lrms.changes.buffer-size:10000}") int bufferSize,
+                            @Value("${lrms.changes.pending-capacity:100000}") int pendingCapacity,
+                            @Value("${lrms.changes.retention:7d}") Duration retention) {
+        this.changeRepo = changeRepo;
+        this.lockRepo = lockRepo;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.primaryReadTx = new TransactionTemplate(transactionManager);
+        this.primaryReadTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.retention = retention;
+        this.ring = new LawyerChange[bufferSize];
+        this.pending = new LinkedBlockingQueue<>(pendingCapacity);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        createLockRow();
+        Long last = changeRepo.findLastSequence();
+        synchronized (ring) {
+            evictedThrough = last == null ? 0 : last;
+        }
+    }
+
+    /**
+     * Queues a committed change for the change log.
+     *
+     * @param event The change published by the service layer.
+     */
+    @EventListener
+    public void onLawyerChange(LawyerChangeEvent event) {
+        LawyerChange change = LawyerChange.of(event);
+        unwritten.incrementAndGet();
+        if (!pending.offer(change)) {
+            unwritten.decrementAndGet();
+            // The change log is unavailable or far behind; consumers will miss this change
+            dropped.increment();
+            log.warn("Change feed queue is full; dropped {} change for lawyer {} ({} dropped so far)",
+                    change.getChangeType(), change.getLawyerID(), dropped.sum());
+        }
+    }
+
+    /**
+     * Writes queued changes to the change log, appends them to the ring and wakes up the subscribers.
+     * A batch that fails to commit is retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${lrms.changes.flush-interval:200ms}")
+    public synchronized void flush() {
+        boolean appended = false;
+        while (true) {
+            if (unsaved.isEmpty()) {
+                pending.drainTo(unsaved, READ_BATCH);
+                if (unsaved.isEmpty()) {
+                    break;
+                }
+            }
+            try {
+                transactionTemplate.executeWithoutResult(tx -> {
+                    if (lockRepo.lock(LawyerChangeLock.WRITERS).isEmpty()) {
+                        throw new IllegalStateException("the change log lock row is missing");
+                    }
+                    changeRepo.saveAll(unsaved);
+                });
+            } catch (RuntimeException e) {
+                log.warn("Could not write {} changes to the change log; retrying: {}", unsaved.size(), e.getMessage());
+                unsaved.forEach(change -> change.setSequence(null));
+                createLockRow();
+                break;
+            }
+            unwritten.addAndGet(-unsaved.size());
+            append(unsaved);
+            unsaved.clear();
+            appended = true;
+        }
+        if (appended) {
+            subscribers.forEach(Subscriber::wakeUp);
+        }
+    }
+
+    /**
+     * Creates the lock row of the change log unless it exists; another instance may be creating it at the same time.
+     */
+    private void createLockRow() {
+        try {
+            if (!lockRepo.existsById(LawyerChangeLock.WRITERS)) {
+                lockRepo.saveAndFlush(new LawyerChangeLock(LawyerChangeLock.WRITERS));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Created by another instance
+        } catch (RuntimeException e) {
+            log.warn("Could not create the change log lock row: {}", e.getMessage());
+        }
+    }
+
+    private void append(List<LawyerChange> changes) {
+        synchronized (ring) {
+            for (LawyerChange change : changes) {
+                if (ringSize == ring.length) {
+                    evictedThrough = Math.max(evictedThrough, ring[ringStart].getSequence());
+                    ringStart = (ringStart + 1) % ring.length;
+                    ringSize--;
+                }
+                ring[(ringStart + ringSize) % ring.length] = change;
+                ringSize++;
+            }
+        }
+    }
+
+    /**
+     * Reads the changes after a position, from the ring when it still covers the position,
+     * otherwise from the change log.
+     *
+     * @param since The last position the consumer has seen.
+     * @param max Maximum number of changes to return.
+     * @return Up to max changes after since, oldest first; empty once the consumer has caught up.
+     */
+    public List<LawyerChange> read(long since, int max) {
+        synchronized (ring) {
+            if (since >= evictedThrough) {
+                // Binary search for the first change after since; the ring is in sequence order
+                int low = 0;
+                int high = ringSize;
+                while (low < high) {
+                    int mid = (low + high) >>> 1;
+                    if (ring[(ringStart + mid) % ring.length].getSequence() <= since) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+                List<LawyerChange> changes = new ArrayList<>(Math.min(max, ringSize - low));
+                for (int i = low; i < ringSize && changes.size() < max; i++) {
+                    changes.add(ring[(ringStart + i) % ring.length]);
+                }
+                return changes;
+            }
+        }
+        return changeRepo.findBySequenceGreaterThanOrderBySequence(since, Limit.of(max));
+    }
+
+    /**
+     * @return The position of the latest change known to this instance.
+     */
+    public long lastSequence() {
+        synchronized (ring) {
+            if (ringSize > 0) {
+                return ring[(ringStart + ringSize - 1) % ring.length].getSequence();
+            }
+            return evictedThrough == Long.MAX_VALUE ? purgedThrough : evictedThrough;
+        }
+    }
+
+    /**
+     * Reads the position from the primary, in a read-write transaction of its own: inside a read-only transaction
+     * it would go to a replica, whose change log may be behind the records served from the primary.
+     *
+     * @return The position of the latest change in the change log, written through any instance; 0 while it is empty.
+     */
+    public long persistedSequence() {
+        Long last = primaryReadTx.execute(tx -> changeRepo.findLastSequence());
+        return last == null ? 0 : last;
+    }
+
+    /**
+     * @return true if this instance has published changes that are not in the change log: queued ones not
+     *         written yet, or any it had to drop.
+     */
+    public boolean hasUnwrittenChanges() {
+        return unwritten.get() > 0 || dropped.sum() > 0;
+    }
+
+    /**
+     * Opens a change stream. Each change is sent as an event named after its type, with the sequence as event ID,
+     * so an EventSource reconnects with Last-Event-ID and resumes where it stopped. A consumer whose position has
+     * been purged from the change log receives a RESYNC event instead, carrying the current position: it should
+     * reload the records and continue from there.
+     *
+     * @param since The last position the consumer has seen; null to receive only changes from now on.
+     * @return The emitter streaming the changes.
+     */
+    public SseEmitter subscribe(Long since) {
+        SseEmitter emitter = new SseEmitter();
+        Subscriber subscriber = new Subscriber(emitter, since == null ? lastSequence() : since);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        subscriber.wakeUp();
+        return emitter;
+    }
+
+    /**
+     * @return The number of open change streams.
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Deletes changes older than the retention period from the change log, except the latest one,
+     * which keeps the position of the log when nothing has changed for longer than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${lrms.changes.purge-interval:1h}",
+               initialDelayString = "${lrms.changes.purge-interval:1h}")
+    public void purge() {
+        Long expired = changeRepo.findLastSequenceBefore(Instant.now().minus(retention));
+        Long last = changeRepo.findLastSequence();
+        if (expired != null && last != null && Math.min(expired, last - 1) > purgedThrough) {
+            long through = Math.min(expired, last - 1);
+            Integer deleted = transactionTemplate.execute(tx -> changeRepo.deleteThrough(through));
+            purgedThrough = Math.max(purgedThrough, through);
+            log.info("Purged {} changes up to sequence {} from the change log", deleted, through);
+        }
+    }
+
+    @Override
+    public void close() {
+        subscriberThreads.shutdown();
+    }
+
+    /**
+     * One open change stream. It pulls changes from its own position whenever it is woken up; pulls of one
+     * subscriber never overlap, and wake-ups that arrive during a pull are coalesced into one more pull.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final ReentrantLock pulling = new ReentrantLock();
+        private long position;
+
+        Subscriber(SseEmitter emitter, long position) {
+            this.emitter = emitter;
+            this.position = position;
+        }
+
+        void wakeUp() {
+            if (scheduled.compareAndSet(false, true)) {
+                subscriberThreads.execute(this::pull);
+            }
+        }
+
+        private void pull() {
+            pulling.lock();
+            scheduled.set(false);
+            try {
+                if (position > 0 && position < purgedThrough) {
+                    position = lastSequence();
+                    emitter.send(SseEmitter.event().id(Long.toString(position)).name("RESYNC")
+                            .data(Map.of("sequence", position)));
+                }
+                List<LawyerChange> changes;
+                while (!(changes = read(position, READ_BATCH)).isEmpty()) {
+                    for (LawyerChange change : changes) {
+                        emitter.send(SseEmitter.event().id(change.getSequence().toString())
+                                .name(change.getChangeType().name()).data(change));
+                        position = change.getSequence();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The consumer went away or the stream timed out
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            } finally {
+                pulling.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.pro.lrms.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown by admission control when a request is rejected before it reaches the controller: 429 when the
+ * client exceeded its rate, 503 when the server is at its concurrency limit. Rejections are frequent under
+ * overload, so no stack trace is captured.
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final long retryAfterSeconds;
+
+    public AdmissionRejectedException(HttpStatus status, long retryAfterSeconds, String message) {
+        super(message, null, false, false);
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
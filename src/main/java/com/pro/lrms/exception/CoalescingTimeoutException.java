@@ -0,0 +1,20 @@
+package com.pro.lrms.exception;
+
+/**
+ * Thrown when a request joined an identical in-flight database lookup that did not finish within the coalescing
+ * timeout. The database is already busy with that query, so the request fails with 503 rather than adding
+ * another. Timeouts come in bursts when the database stalls, so no stack trace is captured.
+ */
+public class CoalescingTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor that accepts a custom error message.
+     *
+     * @param message The error message to be displayed when the exception is thrown.
+     */
+    public CoalescingTimeoutException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,22 @@
+package com.pro.lrms.exception;
+
+/**
+ * Custom exception class for new lawyer profiles whose ID or license number is already held by another lawyer,
+ * as reported by the database's unique constraints.
+ */
+public class DuplicateLawyerException extends RuntimeException {
+
+    /**
+     * Serial version UID for ensuring the class is compatible during the serialization process.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor to create a new instance of DuplicateLawyerException.
+     *
+     * @param message The detailed error message to be displayed when the exception is thrown and cause of the exception.
+     */
+    public DuplicateLawyerException(String message) {
+        super(message);
+    }
+}
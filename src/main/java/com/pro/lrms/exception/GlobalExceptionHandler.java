@@ -1,5 +1,6 @@
 package com.pro.lrms.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -34,6 +35,17 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>("An error occurred: " + ex.getMessage(), HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles report jobs that are unknown, have expired or have no report file yet.
+     * 
+     * @param ex The exception object (specific to ReportJobNotFoundException).
+     * @return ResponseEntity with an error message and HTTP status 404 (Not Found).
+     */
+    @ExceptionHandler(ReportJobNotFoundException.class)
+    public ResponseEntity<String> handleReportJobNotFoundException(ReportJobNotFoundException ex) {
+        return new ResponseEntity<>("An error occurred: " + ex.getMessage(), HttpStatus.NOT_FOUND);
+    }
+
     /**
      * Handles invalid arguments passed to the application (e.g., validation errors).
      * 
@@ -44,4 +56,53 @@ public class GlobalExceptionHandler {
     public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException ex) {
         return new ResponseEntity<>("An error occurred: " + ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
+
+    /**
+     * Handles conditional updates whose If-Match version no longer matches the stored record.
+     * 
+     * @param ex The exception object (specific to LawyerVersionConflictException).
+     * @return ResponseEntity with an error message and HTTP status 412 (Precondition Failed).
+     */
+    @ExceptionHandler(LawyerVersionConflictException.class)
+    public ResponseEntity<String> handleLawyerVersionConflictException(LawyerVersionConflictException ex) {
+        return new ResponseEntity<>("An error occurred: " + ex.getMessage(), HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * Handles new lawyer profiles whose ID or license number is already taken.
+     * 
+     * @param ex The exception object (specific to DuplicateLawyerException).
+     * @return ResponseEntity with an error message and HTTP status 409 (Conflict).
+     */
+    @ExceptionHandler(DuplicateLawyerException.class)
+    public ResponseEntity<String> handleDuplicateLawyerException(DuplicateLawyerException ex) {
+        return new ResponseEntity<>("An error occurred: " + ex.getMessage(), HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles requests rejected by admission control before reaching a controller.
+     * 
+     * @param ex The exception object (specific to AdmissionRejectedException).
+     * @return ResponseEntity with an error message, a Retry-After header and HTTP status 429 (Too Many Requests)
+     *         or 503 (Service Unavailable).
+     */
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<String> handleAdmissionRejectedException(AdmissionRejectedException ex) {
+        return ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body("An error occurred: " + ex.getMessage());
+    }
+
+    /**
+     * Handles requests that waited too long for an identical database lookup already in flight.
+     * 
+     * @param ex The exception object (specific to CoalescingTimeoutException).
+     * @return ResponseEntity with an error message, a Retry-After header and HTTP status 503 (Service Unavailable).
+     */
+    @ExceptionHandler(CoalescingTimeoutException.class)
+    public ResponseEntity<String> handleCoalescingTimeoutException(CoalescingTimeoutException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("An error occurred: " + ex.getMessage());
+    }
 }
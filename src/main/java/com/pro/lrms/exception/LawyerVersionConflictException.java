@@ -0,0 +1,22 @@
+package com.pro.lrms.exception;
+
+/**
+ * Custom exception class for conditional updates whose expected version (If-Match) no longer matches the
+ * stored lawyer record, i.e. the record was changed by someone else since the client read it.
+ */
+public class LawyerVersionConflictException extends RuntimeException {
+
+    /**
+     * Serial version UID for ensuring the class is compatible during the serialization process.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor to create a new instance of LawyerVersionConflictException.
+     *
+     * @param message The detailed error message to be displayed when the exception is thrown and cause of the exception.
+     */
+    public LawyerVersionConflictException(String message) {
+        super(message);
+    }
+}
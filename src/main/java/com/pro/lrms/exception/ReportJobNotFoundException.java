@@ -0,0 +1,21 @@
+package com.pro.lrms.exception;
+
+/**
+ * Custom exception class for report jobs that are unknown, have expired, or have no report file (yet).
+ */
+public class ReportJobNotFoundException extends RuntimeException {
+
+    /**
+     * Serial version UID for ensuring the class is compatible during the serialization process.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor to create a new instance of ReportJobNotFoundException.
+     *
+     * @param message The detailed error message to be displayed when the exception is thrown and cause of the exception.
+     */
+    public ReportJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,41 @@
+package com.pro.lrms.metrics;
+
+import java.time.Duration;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import com.pro.lrms.admission.ConcurrencyLimit;
+
+/**
+ * Adds RepositoryMetricsInterceptor to every Spring Data repository, so each repository method (including
+ * custom fragments such as the search) reports row counts and takes part in the slow-query log. Invocation
+ * latencies also feed the adaptive concurrency limit of admission control.
+ */
+@Configuration(proxyBeanMethods = false)
+public class RepositoryMetricsConfiguration {
+
+    /**
+     * Static, because bean post-processors are created before regular beans; the registry is resolved lazily.
+     */
+    @Bean
+    static BeanPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                            ObjectProvider<ConcurrencyLimit> concurrencyLimit,
+                                                            @Value("${lrms.metrics.slow-query-threshold:200ms}") Duration threshold) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, metadata) -> proxyFactory.addAdvice(new RepositoryMetricsInterceptor(
+                                    metadata.getRepositoryInterface().getSimpleName(), meterRegistry.getObject(), threshold,
+                                    concurrencyLimit.getObject()::onLatency))));
+                }
+                return bean;
+            }
+        };
+    }
+}
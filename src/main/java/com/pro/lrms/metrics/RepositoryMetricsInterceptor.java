@@ -0,0 +1,104 @@
+package com.pro.lrms.metrics;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.repository.Modifying;
+
+/**
+ * Records the rows returned or modified by each repository method and logs invocations slower than the
+ * threshold as one structured line on the lrms.slow-query logger.
+ * Latency histograms per method come from Spring Boot's spring.data.repository.invocations timer; each
+ * invocation's duration is also passed to the latency listener. The meters of each method are looked up once
+ * and kept, so an invocation only records into them.
+ */
+class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    private static final Logger slowQueryLog = LoggerFactory.getLogger("lrms.slow-query");
+
+    private final String repository;
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+    private final LongConsumer latencyListener;
+
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * The row summary of one repository method and what is needed to record into it.
+     */
+    private record MethodMeters(String name, boolean modifying, DistributionSummary rows) {
+    }
+
+    RepositoryMetricsInterceptor(String repository, MeterRegistry meterRegistry, Duration threshold, LongConsumer latencyListener) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = threshold.toNanos();
+        this.latencyListener = latencyListener;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        Object result = null;
+        String outcome = "ERROR";
+        try {
+            result = invocation.proceed();
+            outcome = "SUCCESS";
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            latencyListener.accept(elapsed);
+            MethodMeters method = meters.computeIfAbsent(invocation.getMethod(), this::metersOf);
+            long rows = rowCount(result, method.modifying());
+            if (rows >= 0) {
+                method.rows().record(rows);
+            }
+            if (elapsed >= thresholdNanos && slowQueryLog.isWarnEnabled()) {
+                slowQueryLog.warn("slow_query repository={} method={} duration_ms={} rows={} outcome={}",
+                        repository, method.name(), elapsed / 1_000_000, rows >= 0 ? rows : "n/a", outcome);
+            }
+        }
+    }
+
+    private MethodMeters metersOf(Method method) {
+        DistributionSummary rows = DistributionSummary.builder("lrms.repository.rows")
+                .description("Rows returned or modified per repository invocation")
+                .tags("repository", repository, "method", method.getName())
+                .register(meterRegistry);
+        return new MethodMeters(method.getName(), method.isAnnotationPresent(Modifying.class), rows);
+    }
+
+    /**
+     * @return The number of rows behind a result, or -1 when it is not a row count (streams are consumed
+     *         lazily, and plain numbers are counts or aggregates unless the method is a modifying query).
+     */
+    private static long rowCount(Object result, boolean modifying) {
+        if (result == null) {
+            return modifying ? -1 : 0;
+        }
+        if (result instanceof Collection<?> rows) {
+            return rows.size();
+        }
+        if (result instanceof Optional<?> row) {
+            return row.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Number count) {
+            return modifying ? count.longValue() : -1;
+        }
+        if (result instanceof Stream<?> || result instanceof Boolean) {
+            return -1;
+        }
+        return 1;
+    }
+}
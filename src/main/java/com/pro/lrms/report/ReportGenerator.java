@@ -0,0 +1,18 @@
+package com.pro.lrms.report;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes the content of one report.
+ */
+@FunctionalInterface
+public interface ReportGenerator {
+
+    /**
+     * @param out The report file; closed by the caller.
+     * @param job The job, to report the expected row count and each row written.
+     * @throws IOException if writing the file fails.
+     */
+    void generate(Writer out, ReportJob job) throws IOException;
+}
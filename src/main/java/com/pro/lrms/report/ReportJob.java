@@ -0,0 +1,110 @@
+package com.pro.lrms.report;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import com.pro.lrms.dto.ReportJobStatus;
+
+/**
+ * One report job. Written by its worker thread and read by status polls, so all state is volatile or atomic.
+ */
+public class ReportJob {
+
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final ReportKey key;
+    private final Instant submittedAt = Instant.now();
+    private final AtomicInteger requests = new AtomicInteger(1);
+    private final AtomicLong rowsWritten = new AtomicLong();
+
+    private volatile State state = State.QUEUED;
+    private volatile long expectedRows = -1;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile Path file;
+    private volatile long sizeBytes;
+    private volatile String error;
+
+    ReportJob(String id, ReportKey key) {
+        this.id = id;
+        this.key = key;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ReportKey getKey() {
+        return key;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * @return The report file of a completed job, otherwise null.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setExpectedRows(long expectedRows) {
+        this.expectedRows = expectedRows;
+    }
+
+    public void rowWritten() {
+        rowsWritten.incrementAndGet();
+    }
+
+    void merged() {
+        requests.incrementAndGet();
+    }
+
+    void started() {
+        startedAt = Instant.now();
+        state = State.RUNNING;
+    }
+
+    void completed(Path file, long sizeBytes) {
+        this.file = file;
+        this.sizeBytes = sizeBytes;
+        finishedAt = Instant.now();
+        state = State.COMPLETED;
+    }
+
+    void failed(String error) {
+        this.error = error;
+        finishedAt = Instant.now();
+        state = State.FAILED;
+    }
+
+    boolean isFinished() {
+        State current = state;
+        return current == State.COMPLETED || current == State.FAILED;
+    }
+
+    public ReportJobStatus toStatus(Duration ttl) {
+        long rows = rowsWritten.get();
+        long expected = expectedRows;
+        State current = state;
+        double progress = current == State.COMPLETED ? 1.0 : expected > 0 ? Math.min(1.0, (double) rows / expected) : 0.0;
+        Instant finished = finishedAt;
+        return new ReportJobStatus(id, key.type(), key.format(), key.domain(), current.name(), requests.get(),
+                rows, expected, progress, submittedAt, startedAt, finished, finished == null ? null : finished.plus(ttl),
+                sizeBytes, error);
+    }
+}
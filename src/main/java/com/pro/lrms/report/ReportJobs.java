@@ -0,0 +1,166 @@
+package com.pro.lrms.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import com.pro.lrms.exception.AdmissionRejectedException;
+
+/**
+ * Runs report jobs on a bounded pool of workers and keeps their output in lrms.reports.directory.
+ * <p>
+ * A submission whose key matches a queued or running job joins that job instead of starting another one.
+ * Workers write to a .part file through a FileChannel and rename it once the report is complete, so a
+ * finished file is never partial. When all workers are busy and queue-capacity jobs are waiting, submissions
+ * are rejected with 503. Finished jobs and their files are dropped ttl after they finish.
+ * <p>
+ * Jobs are kept in memory only; files left over from a previous run are deleted at startup.
+ */
+@Component
+public class ReportJobs {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportJobs.class);
+
+    private static final String PARTIAL_SUFFIX = ".part";
+
+    private final Path directory;
+    private final Duration ttl;
+    private final ThreadPoolExecutor workers;
+
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<ReportKey, ReportJob> active = new ConcurrentHashMap<>();
+
+    public ReportJobs(@Value("${lrms.reports.directory:${java.io.tmpdir}/lrms-reports}") String directory,
+                      @Value("${lrms.reports.workers:2}") int workers,
+                      @Value("${lrms.reports.queue-capacity:20}") int queueCapacity,
+                      @Value("${lrms.reports.ttl:24h}") Duration ttl) throws IOException {
+        this.directory = Files.createDirectories(Paths.get(directory));
+        this.ttl = ttl;
+        this.workers = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("lrms-report-"));
+        deleteLeftovers();
+    }
+
+    /**
+     * Starts a report job, or joins the queued or running job with the same key.
+     *
+     * @param key The report request.
+     * @param generator Writes the report content.
+     * @return The job that will produce the report.
+     * @throws AdmissionRejectedException if the job queue is full.
+     */
+    public ReportJob submit(ReportKey key, ReportGenerator generator) {
+        try {
+            return active.compute(key, (k, running) -> {
+                if (running != null) {
+                    running.merged();
+                    return running;
+                }
+                ReportJob job = new ReportJob(UUID.randomUUID().toString(), k);
+                workers.execute(() -> run(job, generator));
+                jobs.put(job.getId(), job);
+                return job;
+            });
+        } catch (RejectedExecutionException e) {
+            throw new AdmissionRejectedException(HttpStatus.SERVICE_UNAVAILABLE, 30, "Report queue is full");
+        }
+    }
+
+    /**
+     * @param jobId The job ID returned on submission.
+     * @return The job, or null if it is unknown or has expired.
+     */
+    public ReportJob find(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    private void run(ReportJob job, ReportGenerator generator) {
+        job.started();
+        String extension = "." + job.getKey().format().name().toLowerCase();
+        Path partial = directory.resolve(job.getId() + PARTIAL_SUFFIX);
+        Path file = directory.resolve(job.getId() + extension);
+        try {
+            try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                 Writer out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), 64 * 1024)) {
+                generator.generate(out, job);
+            }
+            Files.move(partial, file, StandardCopyOption.ATOMIC_MOVE);
+            job.completed(file, Files.size(file));
+        } catch (Exception e) {
+            log.warn("Report job {} ({}) failed", job.getId(), job.getKey(), e);
+            job.failed(e.getMessage());
+            deleteQuietly(partial);
+        } finally {
+            active.remove(job.getKey(), job);
+        }
+    }
+
+    /**
+     * Drops jobs that finished more than ttl ago, together with their files.
+     */
+    @Scheduled(fixedDelayString = "${lrms.reports.cleanup-interval:10m}", initialDelayString = "${lrms.reports.cleanup-interval:10m}")
+    public void expire() {
+        Instant cutoff = Instant.now().minus(ttl);
+        jobs.values().removeIf(job -> {
+            if (!job.isFinished() || job.getFinishedAt().isAfter(cutoff)) {
+                return false;
+            }
+            if (job.getFile() != null) {
+                deleteQuietly(job.getFile());
+            }
+            return true;
+        });
+    }
+
+    private void deleteLeftovers() throws IOException {
+        // Only names this class creates: the directory may be shared
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                "????????-????-????-????-????????????.{csv,ndjson,part}")) {
+            for (Path file : files) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete report file {}", file, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,14 @@
+package com.pro.lrms.report;
+
+import com.pro.lrms.dto.ExportFormat;
+import com.pro.lrms.dto.ReportType;
+
+/**
+ * Identity of a report request; submissions with equal keys share one job while it is queued or running.
+ *
+ * @param type The report type.
+ * @param format The output format.
+ * @param domain The lower-cased domain of a roster report, or null for all domains.
+ */
+public record ReportKey(ReportType type, ExportFormat format, String domain) {
+}
@@ -0,0 +1,28 @@
+package com.pro.lrms.repository;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.pro.lrms.entity.LawyerChangeLock;
+import jakarta.persistence.LockModeType;
+
+/**
+ * Repository for the lock row that orders writes to the change log.
+ */
+@Repository
+public interface LawyerChangeLockRepository extends JpaRepository<LawyerChangeLock, Integer> {
+
+    /**
+     * Locks a row until the end of the transaction. Writers of the change log take it before drawing sequence
+     * numbers, so they commit in the order of their numbers even across instances, whatever the log holds.
+     *
+     * @param id The row to lock.
+     * @return The locked row, or empty if it has not been created.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM LawyerChangeLock l WHERE l.id = :id")
+    Optional<LawyerChangeLock> lock(@Param("id") int id);
+}
@@ -0,0 +1,50 @@
+package com.pro.lrms.repository;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.pro.lrms.entity.LawyerChange;
+
+/**
+ * Repository for the persisted change log behind the change feed.
+ */
+@Repository
+public interface LawyerChangeRepository extends JpaRepository<LawyerChange, Long> {
+
+    /**
+     * Reads the change log after a position, for consumers that have fallen behind the in-memory buffer.
+     *
+     * @param sequence The last position the consumer has seen.
+     * @param limit Maximum number of changes to return.
+     * @return Changes after sequence, oldest first.
+     */
+    List<LawyerChange> findBySequenceGreaterThanOrderBySequence(long sequence, Limit limit);
+
+    /**
+     * @return The latest position in the change log, or null if it is empty.
+     */
+    @Query("SELECT MAX(c.sequence) FROM LawyerChange c")
+    Long findLastSequence();
+
+    /**
+     * @param cutoff Retention boundary.
+     * @return The latest position recorded before cutoff, or null if there is none.
+     */
+    @Query("SELECT MAX(c.sequence) FROM LawyerChange c WHERE c.changedAt < :cutoff")
+    Long findLastSequenceBefore(@Param("cutoff") Instant cutoff);
+
+    /**
+     * Deletes the change log up to and including a position.
+     *
+     * @param sequence The last position to delete.
+     * @return The number of deleted changes.
+     */
+    @Modifying
+    @Query("DELETE FROM LawyerChange c WHERE c.sequence <= :sequence")
+    int deleteThrough(@Param("sequence") long sequence);
+}
@@ -0,0 +1,89 @@
+package com.pro.lrms.repository;
+
+import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import com.pro.lrms.entity.LawyerRecord;
+import jakarta.persistence.Tuple;
+
+/**
+ * A validated sparse fieldset of LawyerRecord (?fields=), in entity attribute order. lawyerID is always part of
+ * it, since it identifies the row and carries the page cursor.
+ * <p>
+ * Instances are created and cached by {@link LawyerProjections}, one per distinct set of fields; the JPQL built
+ * for a projection is memoised by the repositories under its {@link #key()}.
+ */
+public final class LawyerProjection {
+
+    private final int mask;
+    private final List<String> fields;
+    private final List<Field> members;
+    private final String select;
+
+    LawyerProjection(int mask, List<String> fields, List<Field> members) {
+        this.mask = mask;
+        this.fields = List.copyOf(fields);
+        this.members = List.copyOf(members);
+        StringBuilder select = new StringBuilder();
+        for (String field : this.fields) {
+            if (!select.isEmpty()) {
+                select.append(", ");
+            }
+            // Attribute names were checked against the metamodel, so they are safe to splice into JPQL
+            select.append("l.").append(field).append(" AS ").append(field);
+        }
+        this.select = select.toString();
+    }
+
+    /**
+     * @return The selected attribute names, in entity attribute order.
+     */
+    public List<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * @return A key identifying this set of fields, for memoising the queries built from it.
+     */
+    String key() {
+        return Integer.toString(mask);
+    }
+
+    /**
+     * @return The JPQL select list over the alias l, with every attribute aliased to its own name.
+     */
+    String select() {
+        return select;
+    }
+
+    /**
+     * @param tuple A row selected with {@link #select()}.
+     * @return The row as field name to value, in field order.
+     */
+    Map<String, Object> toRow(Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            row.put(field, tuple.get(field));
+        }
+        return row;
+    }
+
+    /**
+     * Projects an already loaded record, e.g. one served from the near cache.
+     *
+     * @param lawyer The record.
+     * @return The selected fields of the record as field name to value, in field order.
+     */
+    public Map<String, Object> toRow(LawyerRecord lawyer) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            try {
+                row.put(fields.get(i), members.get(i).get(lawyer));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot read " + fields.get(i), e);
+            }
+        }
+        return row;
+    }
+}
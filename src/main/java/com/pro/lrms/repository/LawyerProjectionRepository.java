@@ -0,0 +1,23 @@
+package com.pro.lrms.repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Custom repository fragment for sparse fieldsets: list queries that select only the requested columns.
+ */
+public interface LawyerProjectionRepository {
+
+    /**
+     * Selects the projected columns of one keyset page ordered by lawyer ID, without loading entities.
+     *
+     * @param projection The columns to select.
+     * @param status Only lawyers with this status, or null for any status.
+     * @param domain Only lawyers in this domain (case-insensitive), or null for any domain.
+     * @param afterID The last lawyer ID of the previous page (empty string for the first page).
+     * @param limit The maximum number of rows to return.
+     * @return The rows as field name to value, in ascending lawyerID order.
+     */
+    List<Map<String, Object>> findProjectedAfter(LawyerProjection projection, String status, String domain,
+                                                 String afterID, int limit);
+}
@@ -0,0 +1,56 @@
+package com.pro.lrms.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Implementation of the sparse fieldset queries.
+ * <p>
+ * The select list comes from a {@link LawyerProjection}, whose attribute names were checked against the entity
+ * metamodel. There are a bounded number of projections and filter combinations, so the JPQL strings are
+ * memoised here, and Hibernate's query plan cache reuses the parsed plan of each one.
+ */
+public class LawyerProjectionRepositoryImpl implements LawyerProjectionRepository {
+
+    private static final int STATUS = 1;
+    private static final int DOMAIN = 1 << 1;
+
+    private final Map<String, String> queries = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findProjectedAfter(LawyerProjection projection, String status, String domain,
+                                                        String afterID, int limit) {
+        int shape = (status != null ? STATUS : 0) | (domain != null ? DOMAIN : 0);
+        String jpql = queries.computeIfAbsent(projection.key() + ":" + shape, key -> buildQuery(projection, shape));
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class);
+        if ((shape & STATUS) != 0) {
+            query.setParameter("status", status);
+        }
+        if ((shape & DOMAIN) != 0) {
+            query.setParameter("domain", domain);
+        }
+        query.setParameter("afterID", afterID);
+        return query.setMaxResults(limit).getResultList().stream().map(projection::toRow).toList();
+    }
+
+    /**
+     * Builds the JPQL for one projection and filter combination, with the same predicates as the full and
+     * compact list queries of LawyerRepository.
+     */
+    private static String buildQuery(LawyerProjection projection, int shape) {
+        StringBuilder jpql = new StringBuilder("SELECT ").append(projection.select()).append(" FROM LawyerRecord l WHERE");
+        if ((shape & STATUS) != 0) jpql.append(" l.lawyerStatus = :status AND");
+        if ((shape & DOMAIN) != 0) jpql.append(" l.lawyerDomain ILIKE :domain AND");
+        jpql.append(" l.lawyerID > :afterID ORDER BY l.lawyerID");
+        return jpql.toString();
+    }
+}
@@ -0,0 +1,127 @@
+package com.pro.lrms.repository;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+import com.pro.lrms.entity.LawyerRecord;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Attribute;
+
+/**
+ * Resolves ?fields= parameters to {@link LawyerProjection}s.
+ * <p>
+ * Field names are only ever looked up among the attributes of the LawyerRecord metamodel and never copied from
+ * the request into a query, so a client cannot name a column the entity does not map. A projection is a bit mask
+ * over the attributes, so there are a bounded number of them: each is built once and reused.
+ */
+@Component
+public class LawyerProjections {
+
+    /**
+     * Entity attribute names in declaration order, and the fields that hold them.
+     */
+    private final List<String> names;
+    private final List<Field> members;
+    private final int idBit;
+
+    private final Map<Integer, LawyerProjection> projections = new ConcurrentHashMap<>();
+
+    public LawyerProjections(EntityManagerFactory entityManagerFactory) {
+        Map<String, Field> byName = new LinkedHashMap<>();
+        for (Attribute<? super LawyerRecord, ?> attribute : entityManagerFactory.getMetamodel().entity(LawyerRecord.class).getAttributes()) {
+            if (attribute.getJavaMember() instanceof Field field) {
+                byName.put(attribute.getName(), field);
+            }
+        }
+        this.names = new ArrayList<>();
+        this.members = new ArrayList<>();
+        for (Field field : LawyerRecord.class.getDeclaredFields()) {
+            if (byName.containsKey(field.getName())) {
+                field.setAccessible(true);
+                names.add(field.getName());
+                members.add(field);
+            }
+        }
+        this.idBit = 1 << names.indexOf("lawyerID");
+    }
+
+    /**
+     * Resolves a ?fields= parameter against the attributes of the LawyerRecord entity.
+     *
+     * @param fields Comma-separated attribute names, e.g. "lawyerName,lawyerDomain".
+     * @return The projection of these fields plus lawyerID; the same instance for every equal set of fields.
+     * @throws IllegalArgumentException if a name is not an attribute of LawyerRecord or no name is given.
+     */
+    public LawyerProjection resolve(String fields) {
+        int mask = idBit;
+        boolean any = false;
+        for (String field : fields == null ? new String[0] : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            int index = names.indexOf(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("Unknown field: " + name + " (expected any of " + String.join(", ", names) + ")");
+            }
+            mask |= 1 << index;
+            any = true;
+        }
+        if (!any) {
+            throw new IllegalArgumentException("fields must name at least one of " + String.join(", ", names));
+        }
+        return projections.computeIfAbsent(mask, this::build);
+    }
+
+    /**
+     * Reads one attribute of a record, e.g. to order records gathered from several shards.
+     *
+     * @param lawyer The record.
+     * @param field The attribute name.
+     * @return The value of the attribute.
+     * @throws IllegalArgumentException if the name is not an attribute of LawyerRecord.
+     */
+    public Object valueOf(LawyerRecord lawyer, String field) {
+        int index = names.indexOf(field);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown field: " + field);
+        }
+        try {
+            return members.get(index).get(lawyer);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read " + field, e);
+        }
+    }
+
+    /**
+     * The type of an attribute, boxed, e.g. to check a sort value decoded from a page cursor.
+     *
+     * @param field The attribute name.
+     * @return The attribute's type; the wrapper class for primitive attributes.
+     * @throws IllegalArgumentException if the name is not an attribute of LawyerRecord.
+     */
+    public Class<?> typeOf(String field) {
+        int index = names.indexOf(field);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown field: " + field);
+        }
+        return MethodType.methodType(members.get(index).getType()).wrap().returnType();
+    }
+
+    private LawyerProjection build(int mask) {
+        List<String> selected = new ArrayList<>();
+        List<Field> selectedMembers = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            if ((mask & (1 << i)) != 0) {
+                selected.add(names.get(i));
+                selectedMembers.add(members.get(i));
+            }
+        }
+        return new LawyerProjection(mask, selected, selectedMembers);
+    }
+}
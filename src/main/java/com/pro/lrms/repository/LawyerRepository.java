@@ -1,18 +1,30 @@
 package com.pro.lrms.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import com.pro.lrms.dto.LawyerListItem;
+import com.pro.lrms.dto.LawyerSummary;
 import com.pro.lrms.entity.LawyerRecord;
 
 /**
  * Repository interface for performing CRUD operations on the LawyerRecord entity.
- * Extends JpaRepository to leverage Spring Data JPA functionalities.
+ * Extends JpaRepository to leverage Spring Data JPA functionalities,
+ * LawyerSearchRepository for the dynamic multi-criteria search
+ * and LawyerProjectionRepository for the sparse fieldset (?fields=) list queries.
  */
 @Repository
-public interface LawyerRepository extends JpaRepository<LawyerRecord, String> {
+public interface LawyerRepository extends JpaRepository<LawyerRecord, String>, LawyerSearchRepository,
+        LawyerProjectionRepository {
 
     /**
      * Retrieves a list of LawyerRecord entities filtered by the lawyer domain.
@@ -36,14 +48,14 @@ public interface LawyerRepository extends JpaRepository<LawyerRecord, String> {
     /**
      * Custom query to get a summary of lawyer information including:
      * lawyer name, domain, contact number, and calculated win ratio.
+     * Only these four columns are selected, straight into LawyerSummary records.
      * 
-     * @return A list of object arrays containing lawyer summary details.
-     * Each object array contains: [lawyerName, lawyerDomain, lawyerNumber, calculatedWinRatio].
+     * @return A list of typed LawyerSummary rows.
      */
-    @Query("SELECT l.lawyerName, l.lawyerDomain, l.lawyerNumber, " +
-           "CASE WHEN l.laywerCase > 0 THEN (l.lawyerWinRatio) ELSE 0 END " +
+    @Query("SELECT new com.pro.lrms.dto.LawyerSummary(l.lawyerName, l.lawyerDomain, l.lawyerNumber, " +
+           "CASE WHEN l.laywerCase > 0 THEN l.lawyerWinRatio ELSE 0.0F END) " +
            "FROM LawyerRecord l")
-    List<Object[]> getLawyerSummary();
+    List<LawyerSummary> getLawyerSummary();
 
     
     /**
@@ -62,6 +74,240 @@ public interface LawyerRepository extends JpaRepository<LawyerRecord, String> {
      * @return The LawyerRecord object matching the given license number, or null if no match is found.
      */
     LawyerRecord findByLawyerLicenseNumber(String lawyerLicenseNumber);
-    
-   
+
+
+    /**
+     * Keyset pagination: retrieves the next slice of lawyers ordered by lawyer ID.
+     *
+     * @param afterID The last lawyer ID of the previous page (empty string for the first page).
+     * @param limit The maximum number of records to return.
+     * @return A list of LawyerRecord objects with an ID greater than afterID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT l FROM LawyerRecord l WHERE l.lawyerID > :afterID ORDER BY l.lawyerID")
+    List<LawyerRecord> findPageAfter(@Param("afterID") String afterID, Limit limit);
+
+
+    /**
+     * Keyset pagination over lawyers with the given status, ordered by lawyer ID.
+     *
+     * @param lawyerStatus The status of the lawyer (e.g., Active, Inactive).
+     * @param afterID The last lawyer ID of the previous page (empty string for the first page).
+     * @param limit The maximum number of records to return.
+     * @return A list of LawyerRecord objects matching the status with an ID greater than afterID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT l FROM LawyerRecord l WHERE l.lawyerStatus = :lawyerStatus AND l.lawyerID > :afterID ORDER BY l.lawyerID")
+    List<LawyerRecord> findPageByLawyerStatusAfter(@Param("lawyerStatus") String lawyerStatus,
+                                                   @Param("afterID") String afterID, Limit limit);
+
+
+    /**
+     * Keyset pagination over lawyers in the given domain (case-insensitive), ordered by lawyer ID.
+     *
+     * @param lawyerDomain The domain of the lawyer (e.g., Civil, Criminal, etc.).
+     * @param afterID The last lawyer ID of the previous page (empty string for the first page).
+     * @param limit The maximum number of records to return.
+     * @return A list of LawyerRecord objects matching the domain with an ID greater than afterID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT l FROM LawyerRecord l WHERE l.lawyerDomain ILIKE :lawyerDomain AND l.lawyerID > :afterID ORDER BY l.lawyerID")
+    List<LawyerRecord> findPageByLawyerDomainAfter(@Param("lawyerDomain") String lawyerDomain,
+                                                   @Param("afterID") String afterID, Limit limit);
+
+
+    /**
+     * Streams every lawyer ordered by lawyer ID through a forward-only database cursor.
+     * Rows are fetched from the database in batches of the configured fetch size instead of all at once.
+     * Must be consumed inside a transaction, and the returned stream must be closed.
+     *
+     * @return A stream of read-only LawyerRecord entities.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT l FROM LawyerRecord l ORDER BY l.lawyerID")
+    Stream<LawyerRecord> streamAll();
+
+
+    /**
+     * Finds which of the given lawyer IDs and license numbers already exist, in a single query.
+     * Used by the bulk import to check a whole chunk for duplicates at once.
+     * The two lookups are combined with UNION rather than OR, so each can use its own index.
+     *
+     * @param lawyerIDs The lawyer IDs to check.
+     * @param licenseNumbers The license numbers to check.
+     * @return A list of object arrays for every matching row: [lawyerID, lawyerLicenseNumber].
+     */
+    @Query("SELECT l.lawyerID, l.lawyerLicenseNumber FROM LawyerRecord l WHERE l.lawyerID IN :lawyerIDs " +
+           "UNION " +
+           "SELECT l.lawyerID, l.lawyerLicenseNumber FROM LawyerRecord l WHERE l.lawyerLicenseNumber IN :licenseNumbers")
+    List<Object[]> findExistingKeys(@Param("lawyerIDs") Collection<String> lawyerIDs,
+                                    @Param("licenseNumbers") Collection<String> licenseNumbers);
+
+
+    /**
+     * Atomically flips the status of a lawyer between Active and Inactive with a single conditional UPDATE.
+     * The row lock taken by the update serialises concurrent toggles, so none of them is lost.
+     * The row version is incremented; with an expected version the update only applies if it still matches.
+     *
+     * @param lawyerID The unique ID of the lawyer.
+     * @param expectedVersion The version the caller last saw, or null to toggle unconditionally.
+     * @return The number of rows updated (0 if the lawyer does not exist or its version has moved on).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LawyerRecord l SET l.lawyerStatus = " +
+           "CASE WHEN l.lawyerStatus = 'Active' THEN 'Inactive' ELSE 'Active' END, " +
+           "l.lawyerVersion = l.lawyerVersion + 1 " +
+           "WHERE l.lawyerID = :lawyerID AND (:expectedVersion IS NULL OR l.lawyerVersion = :expectedVersion)")
+    int toggleStatus(@Param("lawyerID") String lawyerID, @Param("expectedVersion") Long expectedVersion);
+
+
+    /**
+     * Sets the status of all given lawyers in one statement.
+     *
+     * @param lawyerIDs The IDs of the lawyers to update.
+     * @param lawyerStatus The new status (Active or Inactive).
+     * @return The number of rows whose status changed.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LawyerRecord l SET l.lawyerStatus = :lawyerStatus, l.lawyerVersion = l.lawyerVersion + 1 " +
+           "WHERE l.lawyerID IN :lawyerIDs AND (l.lawyerStatus IS NULL OR l.lawyerStatus <> :lawyerStatus)")
+    int updateStatusByIDs(@Param("lawyerIDs") Collection<String> lawyerIDs, @Param("lawyerStatus") String lawyerStatus);
+
+
+    /**
+     * Sets the status of all lawyers matching a filter in one statement.
+     * A null filter value matches every row.
+     *
+     * @param lawyerDomain Only update lawyers in this domain (case-insensitive), or null for any domain.
+     * @param currentStatus Only update lawyers currently in this status, or null for any status.
+     * @param lawyerStatus The new status (Active or Inactive).
+     * @return The number of rows whose status changed.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LawyerRecord l SET l.lawyerStatus = :lawyerStatus, l.lawyerVersion = l.lawyerVersion + 1 " +
+           "WHERE (:lawyerDomain IS NULL OR l.lawyerDomain ILIKE :lawyerDomain) " +
+           "AND (:currentStatus IS NULL OR l.lawyerStatus = :currentStatus) " +
+           "AND (l.lawyerStatus IS NULL OR l.lawyerStatus <> :lawyerStatus)")
+    int updateStatusByFilter(@Param("lawyerDomain") String lawyerDomain,
+                             @Param("currentStatus") String currentStatus,
+                             @Param("lawyerStatus") String lawyerStatus);
+
+
+    /**
+     * Streams every non-null license number through a forward-only database cursor.
+     * Used to build the license existence filter without loading entities.
+     *
+     * @return A stream of license numbers; must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT l.lawyerLicenseNumber FROM LawyerRecord l WHERE l.lawyerLicenseNumber IS NOT NULL")
+    Stream<String> streamLicenseNumbers();
+
+
+    /**
+     * Streams the columns the in-memory statistics and leaderboards need, through a forward-only database cursor,
+     * without loading entities.
+     *
+     * @return A stream of object arrays: [lawyerID, lawyerName, lawyerDomain, lawyerStatus, laywerCase,
+     *         lawyerExperienece, lawyerWinRatio, lawyerVersion]; must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT l.lawyerID, l.lawyerName, l.lawyerDomain, l.lawyerStatus, l.laywerCase, l.lawyerExperienece, l.lawyerWinRatio, " +
+           "l.lawyerVersion FROM LawyerRecord l")
+    Stream<Object[]> streamMetricRows();
+
+
+    /**
+     * Keyset pagination over the compact list projection, ordered by lawyer ID.
+     *
+     * @param afterID The last lawyer ID of the previous page (empty string for the first page).
+     * @param limit The maximum number of rows to return.
+     * @return LawyerListItem rows with an ID greater than afterID.
+     */
+    @Query("SELECT new com.pro.lrms.dto.LawyerListItem(l.lawyerID, l.lawyerName, l.lawyerDomain, l.lawyerStatus, " +
+           "l.laywerCase, l.lawyerExperienece, l.lawyerWinRatio) " +
+           "FROM LawyerRecord l WHERE l.lawyerID > :afterID ORDER BY l.lawyerID")
+    List<LawyerListItem> findListItemsAfter(@Param("afterID") String afterID, Limit limit);
+
+
+    /**
+     * Keyset pagination over the compact list projection of lawyers with the given status.
+     *
+     * @param lawyerStatus The status of the lawyer (e.g., Active, Inactive).
+     * @param afterID The last lawyer ID of the previous page (empty string for the first page).
+     * @param limit The maximum number of rows to return.
+     * @return LawyerListItem rows matching the status with an ID greater than afterID.
+     */
+    @Query("SELECT new com.pro.lrms.dto.LawyerListItem(l.lawyerID, l.lawyerName, l.lawyerDomain, l.lawyerStatus, " +
+           "l.laywerCase, l.lawyerExperienece, l.lawyerWinRatio) " +
+           "FROM LawyerRecord l WHERE l.lawyerStatus = :lawyerStatus AND l.lawyerID > :afterID ORDER BY l.lawyerID")
+    List<LawyerListItem> findListItemsByLawyerStatusAfter(@Param("lawyerStatus") String lawyerStatus,
+                                                          @Param("afterID") String afterID, Limit limit);
+
+
+    /**
+     * Keyset pagination over the compact list projection of lawyers in the given domain (case-insensitive).
+     *
+     * @param lawyerDomain The domain of the lawyer (e.g., Civil, Criminal, etc.).
+     * @param afterID The last lawyer ID of the previous page (empty string for the first page).
+     * @param limit The maximum number of rows to return.
+     * @return LawyerListItem rows matching the domain with an ID greater than afterID.
+     */
+    @Query("SELECT new com.pro.lrms.dto.LawyerListItem(l.lawyerID, l.lawyerName, l.lawyerDomain, l.lawyerStatus, " +
+           "l.laywerCase, l.lawyerExperienece, l.lawyerWinRatio) " +
+           "FROM LawyerRecord l WHERE l.lawyerDomain ILIKE :lawyerDomain AND l.lawyerID > :afterID ORDER BY l.lawyerID")
+    List<LawyerListItem> findListItemsByLawyerDomainAfter(@Param("lawyerDomain") String lawyerDomain,
+                                                          @Param("afterID") String afterID, Limit limit);
+
+
+    /**
+     * Streams the lawyer summary rows (see getLawyerSummary) ordered by lawyer ID through a forward-only database
+     * cursor, for the summary report.
+     *
+     * @return A stream of LawyerSummary rows; must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.pro.lrms.dto.LawyerSummary(l.lawyerName, l.lawyerDomain, l.lawyerNumber, " +
+           "CASE WHEN l.laywerCase > 0 THEN l.lawyerWinRatio ELSE 0.0F END) " +
+           "FROM LawyerRecord l ORDER BY l.lawyerID")
+    Stream<LawyerSummary> streamSummary();
+
+
+    /**
+     * Streams the lawyers of one domain (case-insensitive) ordered by lawyer ID through a forward-only database
+     * cursor, for the domain roster report.
+     *
+     * @param lawyerDomain The domain of the lawyer (e.g., Civil, Criminal, etc.).
+     * @return A stream of read-only LawyerRecord entities; must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT l FROM LawyerRecord l WHERE l.lawyerDomain ILIKE :lawyerDomain ORDER BY l.lawyerID")
+    Stream<LawyerRecord> streamByLawyerDomain(@Param("lawyerDomain") String lawyerDomain);
+
+
+    /**
+     * Counts the lawyers of one domain (case-insensitive).
+     *
+     * @param lawyerDomain The domain of the lawyer (e.g., Civil, Criminal, etc.).
+     * @return The number of lawyers in the domain.
+     */
+    @Query("SELECT count(l) FROM LawyerRecord l WHERE l.lawyerDomain ILIKE :lawyerDomain")
+    long countByLawyerDomain(@Param("lawyerDomain") String lawyerDomain);
 }
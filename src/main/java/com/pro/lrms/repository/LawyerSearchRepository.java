@@ -0,0 +1,37 @@
+package com.pro.lrms.repository;
+
+import java.util.List;
+import java.util.Map;
+import com.pro.lrms.dto.LawyerSearchCriteria;
+import com.pro.lrms.dto.PageCursor.SearchPosition;
+import com.pro.lrms.entity.LawyerRecord;
+
+/**
+ * Custom repository fragment for the multi-criteria lawyer search.
+ */
+public interface LawyerSearchRepository {
+
+    /**
+     * Runs one query combining every filter present in the criteria, sorted and limited. Pages are read with a
+     * seek predicate on the sort value and lawyerID, so a deep page costs the same as the first.
+     *
+     * @param criteria The search filters and ordering.
+     * @param after The last row of the previous page, or null for the first page.
+     * @param limit The maximum number of rows to return.
+     * @return The matching LawyerRecord objects in the requested order.
+     * @throws IllegalArgumentException if the sort property or direction is not supported.
+     */
+    List<LawyerRecord> search(LawyerSearchCriteria criteria, SearchPosition after, int limit);
+
+    /**
+     * Runs the same search selecting only the columns of a sparse fieldset, without loading entities.
+     *
+     * @param criteria The search filters and ordering.
+     * @param projection The columns to select.
+     * @param after The last row of the previous page, or null for the first page.
+     * @param limit The maximum number of rows to return.
+     * @return The matching rows as field name to value, in the requested order.
+     * @throws IllegalArgumentException if the sort property or direction is not supported.
+     */
+    List<Map<String, Object>> search(LawyerSearchCriteria criteria, LawyerProjection projection, SearchPosition after, int limit);
+}
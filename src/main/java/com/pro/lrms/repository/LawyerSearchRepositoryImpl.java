@@ -0,0 +1,192 @@
+package com.pro.lrms.repository;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import com.pro.lrms.dto.LawyerSearchCriteria;
+import com.pro.lrms.dto.PageCursor.SearchPosition;
+import com.pro.lrms.entity.LawyerRecord;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Implementation of the multi-criteria lawyer search.
+ * <p>
+ * The JPQL text depends only on which filters are present and on the ordering, never on the filter values,
+ * which are always bound as parameters. There are therefore a small, bounded number of distinct query strings:
+ * they are memoised here, and Hibernate's query plan cache reuses the parsed plan for each one. A sparse
+ * fieldset replaces the select list and is part of the memo key, so this also holds for projected searches.
+ * <p>
+ * Pages after the first resume with a seek predicate on (sort value, lawyerID) rather than an offset, so the
+ * database starts at the previous page's last row instead of reading and discarding every row before it.
+ */
+public class LawyerSearchRepositoryImpl implements LawyerSearchRepository {
+
+    private static final Set<String> SORT_PROPERTIES =
+            Set.of("lawyerID", "lawyerName", "lawyerExperienece", "laywerCase", "lawyerWinRatio");
+    // Sort properties whose column may be null; nulls sort last ascending and first descending
+    private static final Set<String> NULLABLE_SORT_PROPERTIES = Set.of("lawyerName");
+
+    private static final int DOMAIN = 1;
+    private static final int STATUS = 1 << 1;
+    private static final int MIN_EXPERIENCE = 1 << 2;
+    private static final int MAX_EXPERIENCE = 1 << 3;
+    private static final int MIN_CASES = 1 << 4;
+    private static final int MAX_CASES = 1 << 5;
+    private static final int MIN_WIN_RATIO = 1 << 6;
+    private static final int MAX_WIN_RATIO = 1 << 7;
+    private static final int NAME_PREFIX = 1 << 8;
+    private static final int AFTER = 1 << 9;
+    private static final int AFTER_NULL = 1 << 10;
+
+    private final Map<String, String> queries = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<LawyerRecord> search(LawyerSearchCriteria criteria, SearchPosition after, int limit) {
+        return createQuery(criteria, after, "l", "", LawyerRecord.class).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<Map<String, Object>> search(LawyerSearchCriteria criteria, LawyerProjection projection, SearchPosition after, int limit) {
+        return createQuery(criteria, after, projection.select(), projection.key(), Tuple.class)
+                .setMaxResults(limit)
+                .getResultList().stream().map(projection::toRow).toList();
+    }
+
+    /**
+     * Builds (or reuses) the query for the filters present in the criteria and binds their values.
+     *
+     * @param after The last row of the previous page, or null for the first page.
+     * @param select The JPQL select list over the alias l.
+     * @param selectKey Identifies the select list in the memo key; empty for the whole entity.
+     */
+    private <T> TypedQuery<T> createQuery(LawyerSearchCriteria criteria, SearchPosition after, String select, String selectKey,
+                                          Class<T> type) {
+        String sort = criteria.getSort() == null ? "lawyerID" : criteria.getSort();
+        if (!SORT_PROPERTIES.contains(sort)) {
+            throw new IllegalArgumentException("Unsupported sort property: " + sort);
+        }
+        String direction = criteria.getDirection() == null ? "asc" : criteria.getDirection().toLowerCase(Locale.ROOT);
+        if (!direction.equals("asc") && !direction.equals("desc")) {
+            throw new IllegalArgumentException("Unsupported sort direction: " + criteria.getDirection());
+        }
+
+        int shape = shape(criteria) | (after == null ? 0 : after.sortValue() == null ? AFTER | AFTER_NULL : AFTER);
+        String jpql = queries.computeIfAbsent(selectKey + ":" + shape + ":" + sort + ":" + direction,
+                key -> buildQuery(select, shape, sort, direction));
+
+        TypedQuery<T> query = entityManager.createQuery(jpql, type);
+        if ((shape & DOMAIN) != 0) {
+            query.setParameter("domain", criteria.getDomain().toLowerCase(Locale.ROOT));
+        }
+        if ((shape & STATUS) != 0) {
+            query.setParameter("status", criteria.getStatus());
+        }
+        if ((shape & MIN_EXPERIENCE) != 0) {
+            query.setParameter("minExperience", criteria.getMinExperience());
+        }
+        if ((shape & MAX_EXPERIENCE) != 0) {
+            query.setParameter("maxExperience", criteria.getMaxExperience());
+        }
+        if ((shape & MIN_CASES) != 0) {
+            query.setParameter("minCases", criteria.getMinCases());
+        }
+        if ((shape & MAX_CASES) != 0) {
+            query.setParameter("maxCases", criteria.getMaxCases());
+        }
+        if ((shape & MIN_WIN_RATIO) != 0) {
+            query.setParameter("minWinRatio", criteria.getMinWinRatio());
+        }
+        if ((shape & MAX_WIN_RATIO) != 0) {
+            query.setParameter("maxWinRatio", criteria.getMaxWinRatio());
+        }
+        if ((shape & NAME_PREFIX) != 0) {
+            query.setParameter("namePrefix", escapeLike(criteria.getNamePrefix().toLowerCase(Locale.ROOT)) + "%");
+        }
+        if ((shape & AFTER) != 0) {
+            query.setParameter("afterID", after.lawyerID());
+            if ((shape & AFTER_NULL) == 0 && !sort.equals("lawyerID")) {
+                query.setParameter("afterValue", after.sortValue());
+            }
+        }
+        return query;
+    }
+
+    /**
+     * @return A bit mask of the filters present in the criteria.
+     */
+    private static int shape(LawyerSearchCriteria c) {
+        int shape = 0;
+        if (c.getDomain() != null && !c.getDomain().isBlank()) shape |= DOMAIN;
+        if (c.getStatus() != null && !c.getStatus().isBlank()) shape |= STATUS;
+        if (c.getMinExperience() != null) shape |= MIN_EXPERIENCE;
+        if (c.getMaxExperience() != null) shape |= MAX_EXPERIENCE;
+        if (c.getMinCases() != null) shape |= MIN_CASES;
+        if (c.getMaxCases() != null) shape |= MAX_CASES;
+        if (c.getMinWinRatio() != null) shape |= MIN_WIN_RATIO;
+        if (c.getMaxWinRatio() != null) shape |= MAX_WIN_RATIO;
+        if (c.getNamePrefix() != null && !c.getNamePrefix().isBlank()) shape |= NAME_PREFIX;
+        return shape;
+    }
+
+    /**
+     * Builds the JPQL for one combination of filters and ordering. Predicates follow the column order
+     * of the search indexes in the V1 migration: lower(domain), status, then the ranges.
+     */
+    private static String buildQuery(String select, int shape, String sort, String direction) {
+        StringBuilder jpql = new StringBuilder("SELECT ").append(select).append(" FROM LawyerRecord l WHERE 1 = 1");
+        if ((shape & DOMAIN) != 0) jpql.append(" AND lower(l.lawyerDomain) = :domain");
+        if ((shape & STATUS) != 0) jpql.append(" AND l.lawyerStatus = :status");
+        if ((shape & MIN_EXPERIENCE) != 0) jpql.append(" AND l.lawyerExperienece >= :minExperience");
+        if ((shape & MAX_EXPERIENCE) != 0) jpql.append(" AND l.lawyerExperienece <= :maxExperience");
+        if ((shape & MIN_CASES) != 0) jpql.append(" AND l.laywerCase >= :minCases");
+        if ((shape & MAX_CASES) != 0) jpql.append(" AND l.laywerCase <= :maxCases");
+        if ((shape & MIN_WIN_RATIO) != 0) jpql.append(" AND l.lawyerWinRatio >= :minWinRatio");
+        if ((shape & MAX_WIN_RATIO) != 0) jpql.append(" AND l.lawyerWinRatio <= :maxWinRatio");
+        if ((shape & NAME_PREFIX) != 0) jpql.append(" AND lower(l.lawyerName) LIKE :namePrefix ESCAPE '\\'");
+        if ((shape & AFTER) != 0) jpql.append(" AND ").append(seek(shape, sort, direction));
+        jpql.append(" ORDER BY l.").append(sort).append(' ').append(direction);
+        if (NULLABLE_SORT_PROPERTIES.contains(sort)) {
+            // PostgreSQL's default, spelled out so that every database agrees with the seek predicate
+            jpql.append(direction.equals("asc") ? " NULLS LAST" : " NULLS FIRST");
+        }
+        if (!sort.equals("lawyerID")) {
+            // Tie-breaker so pages are stable when sort values repeat
+            jpql.append(", l.lawyerID asc");
+        }
+        return jpql.toString();
+    }
+
+    /**
+     * The seek predicate for the rows after (:afterValue, :afterID) in the order built above: the sort property
+     * in the given direction, then lawyerID ascending.
+     */
+    private static String seek(int shape, String sort, String direction) {
+        boolean desc = direction.equals("desc");
+        if (sort.equals("lawyerID")) {
+            return desc ? "l.lawyerID < :afterID" : "l.lawyerID > :afterID";
+        }
+        String column = "l." + sort;
+        if ((shape & AFTER_NULL) != 0) {
+            // The previous page ended among the nulls: the rest of them, then (descending) every non-null value
+            String rest = "(" + column + " IS NULL AND l.lawyerID > :afterID)";
+            return desc ? "(" + rest + " OR " + column + " IS NOT NULL)" : rest;
+        }
+        String seek = column + (desc ? " < " : " > ") + ":afterValue OR (" + column + " = :afterValue AND l.lawyerID > :afterID)";
+        if (!desc && NULLABLE_SORT_PROPERTIES.contains(sort)) {
+            seek += " OR " + column + " IS NULL";
+        }
+        return "(" + seek + ")";
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
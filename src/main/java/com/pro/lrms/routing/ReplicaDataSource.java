@@ -0,0 +1,234 @@
+package com.pro.lrms.routing;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Connections for read-only transactions, taken from one of the replicas.
+ * <p>
+ * Replication lag is measured with a heartbeat: the primary's heartbeat row is stamped every heartbeat interval,
+ * and the health check reads it back from each replica. A replica is eligible while it answers and its heartbeat
+ * is no older than the maximum lag. Eligible replicas are chosen round-robin or by fewest active connections;
+ * a replica that fails to hand out a connection is marked unhealthy until its next successful health check.
+ * When no replica is eligible, reads fall back to the primary.
+ */
+public class ReplicaDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaDataSource.class);
+
+    static final String HEARTBEAT_TABLE = "lrmsheartbeat";
+
+    /**
+     * How replicas are chosen among the eligible ones.
+     */
+    public enum Selection {
+        ROUND_ROBIN,
+        LEAST_LOADED;
+
+        public static Selection from(String value) {
+            try {
+                return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported replica selection: " + value + " (expected round-robin or least-loaded)");
+            }
+        }
+    }
+
+    /**
+     * One replica and its last known health.
+     */
+    static final class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private final Counter reads;
+        private volatile boolean eligible;
+
+        Replica(String name, HikariDataSource dataSource, Counter reads) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.reads = reads;
+        }
+
+        int activeConnections() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+    }
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Selection selection;
+    private final Duration maxLag;
+    private final Counter primaryReads;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile boolean heartbeatTableReady;
+
+    public ReplicaDataSource(DataSource primary, List<HikariDataSource> replicaDataSources, Selection selection,
+                             Duration maxLag, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.selection = selection;
+        this.maxLag = maxLag;
+        this.primaryReads = meterRegistry.counter("lrms.datasource.reads", "target", "primary");
+        List<Replica> list = new ArrayList<>();
+        for (HikariDataSource dataSource : replicaDataSources) {
+            String name = dataSource.getPoolName();
+            list.add(new Replica(name, dataSource, meterRegistry.counter("lrms.datasource.reads", "target", name)));
+        }
+        this.replicas = List.copyOf(list);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * Opens a connection to one of a DataSource's databases.
+     */
+    @FunctionalInterface
+    private interface Connector {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+    private Connection connect(Connector connector) throws SQLException {
+        for (Replica replica : candidates()) {
+            try {
+                Connection connection = connector.connect(replica.dataSource);
+                replica.reads.increment();
+                return connection;
+            } catch (SQLFeatureNotSupportedException e) {
+                // The pool does not take these arguments; says nothing about the replica's health
+                throw e;
+            } catch (SQLException e) {
+                replica.eligible = false;
+                log.warn("Replica {} failed to hand out a connection; reading from the others until it recovers: {}",
+                        replica.name, e.getMessage());
+            }
+        }
+        primaryReads.increment();
+        return connector.connect(primary);
+    }
+
+    /**
+     * @return The eligible replicas, in the order they should be tried.
+     */
+    private List<Replica> candidates() {
+        List<Replica> eligible = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.eligible) {
+                eligible.add(replica);
+            }
+        }
+        if (eligible.size() > 1) {
+            if (selection == Selection.LEAST_LOADED) {
+                eligible.sort(Comparator.comparingInt(Replica::activeConnections));
+            } else {
+                int start = Math.floorMod(next.getAndIncrement(), eligible.size());
+                List<Replica> rotated = new ArrayList<>(eligible.subList(start, eligible.size()));
+                rotated.addAll(eligible.subList(0, start));
+                eligible = rotated;
+            }
+        }
+        return eligible;
+    }
+
+    /**
+     * Stamps the heartbeat row on the primary. The table comes with the V1 migration; without Flyway (ddl-auto
+     * development setups) it is created by the first heartbeat, and not checked again after that.
+     */
+    @Scheduled(fixedDelayString = "${lrms.datasource.heartbeat-interval:1s}")
+    public void heartbeat() {
+        Timestamp now = Timestamp.from(Instant.now());
+        try (Connection connection = primary.getConnection()) {
+            connection.setAutoCommit(true);
+            if (!heartbeatTableReady) {
+                try (Statement create = connection.createStatement()) {
+                    create.execute("CREATE TABLE IF NOT EXISTS " + HEARTBEAT_TABLE
+                            + " (id INTEGER PRIMARY KEY, beatat TIMESTAMP WITH TIME ZONE NOT NULL)");
+                }
+                heartbeatTableReady = true;
+            }
+            try (PreparedStatement update = connection.prepareStatement("UPDATE " + HEARTBEAT_TABLE + " SET beatat = ? WHERE id = 1")) {
+                update.setTimestamp(1, now);
+                if (update.executeUpdate() == 0) {
+                    try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + HEARTBEAT_TABLE + " (id, beatat) VALUES (1, ?)")) {
+                        insert.setTimestamp(1, now);
+                        insert.executeUpdate();
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Could not write the replication heartbeat: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the heartbeat back from every replica and updates which replicas are eligible for reads.
+     */
+    @Scheduled(fixedDelayString = "${lrms.datasource.health-check-interval:1s}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean wasEligible = replica.eligible;
+            Duration lag = null;
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement query = connection.createStatement()) {
+                query.setQueryTimeout(2);
+                try (ResultSet beat = query.executeQuery("SELECT beatat FROM " + HEARTBEAT_TABLE + " WHERE id = 1")) {
+                    if (beat.next()) {
+                        lag = Duration.between(beat.getTimestamp(1).toInstant(), Instant.now());
+                    }
+                }
+            } catch (SQLException e) {
+                if (wasEligible) {
+                    log.warn("Replica {} is unavailable; reading from the others: {}", replica.name, e.getMessage());
+                }
+                replica.eligible = false;
+                continue;
+            }
+            replica.eligible = lag != null && lag.compareTo(maxLag) <= 0;
+            if (wasEligible != replica.eligible) {
+                log.info("Replica {} is {} (lag {})", replica.name, replica.eligible ? "back in rotation" : "lagging", lag);
+            }
+        }
+    }
+
+    /**
+     * @return Names of the replicas currently eligible for reads.
+     */
+    public List<String> eligibleReplicas() {
+        return replicas.stream().filter(replica -> replica.eligible).map(replica -> replica.name).toList();
+    }
+
+    /**
+     * Closes the replica pools.
+     */
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+}
@@ -0,0 +1,72 @@
+package com.pro.lrms.routing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read/write routing, enabled by listing replica URLs in lrms.datasource.replica-urls.
+ * <p>
+ * The application DataSource is a LazyConnectionDataSourceProxy over the primary pool: a connection is only taken
+ * when the first statement runs, by which time the transaction manager has marked it read-only or not. Read-only
+ * transactions (@Transactional(readOnly = true), and Spring Data's read methods) then get a replica connection from
+ * ReplicaDataSource; everything else, including reads that must see the caller's own writes and therefore run in a
+ * read-write transaction, stays on the primary.
+ */
+@Configuration
+@ConditionalOnProperty("lrms.datasource.replica-urls")
+public class ReplicaRoutingConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource, MeterRegistry meterRegistry,
+                                               @Value("${lrms.datasource.replica-urls}") List<String> urls,
+                                               @Value("${lrms.datasource.replica-username:${spring.datasource.username:}}") String username,
+                                               @Value("${lrms.datasource.replica-password:${spring.datasource.password:}}") String password,
+                                               @Value("${lrms.datasource.replica-pool-size:10}") int poolSize,
+                                               @Value("${lrms.datasource.replica-selection:round-robin}") String selection,
+                                               @Value("${lrms.datasource.max-lag:5s}") Duration maxLag) {
+        List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(urls.get(i).trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            // Start lazily, so an unreachable replica only fails its health checks, not the application startup
+            replica.setInitializationFailTimeout(-1);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(replica);
+        }
+        return new ReplicaDataSource(primaryDataSource, replicas, ReplicaDataSource.Selection.from(selection), maxLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,61 @@
+package com.pro.lrms.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import com.pro.lrms.dto.LawyerPage;
+import com.pro.lrms.dto.LawyerSearchCriteria;
+import com.pro.lrms.dto.LawyerStatisticsView;
+import com.pro.lrms.dto.LawyerSummary;
+import com.pro.lrms.dto.ThreadStatistics;
+import com.pro.lrms.entity.LawyerRecord;
+
+/**
+ * Asynchronous variants of the LawyerService read operations.
+ * Each call runs on the service executor (virtual threads or a bounded platform pool, depending on
+ * spring.threads.virtual.enabled) and fails the returned future with the same exceptions as the
+ * synchronous method.
+ */
+public interface LawyerAsyncService {
+
+    /**
+     * @see LawyerService#getLawyerByID(String)
+     */
+    CompletableFuture<LawyerRecord> getLawyerByID(String lawyerID);
+
+    /**
+     * @see LawyerService#getAllLawyer(String, Integer)
+     */
+    CompletableFuture<LawyerPage<LawyerRecord>> getAllLawyer(String cursor, Integer size);
+
+    /**
+     * @see LawyerService#getActiveLawyers(String, Integer)
+     */
+    CompletableFuture<LawyerPage<LawyerRecord>> getActiveLawyers(String cursor, Integer size);
+
+    /**
+     * @see LawyerService#getLawyerByDomain(String, String, Integer)
+     */
+    CompletableFuture<LawyerPage<LawyerRecord>> getLawyerByDomain(String domain, String cursor, Integer size);
+
+    /**
+     * @see LawyerService#getLawyerSummary()
+     */
+    CompletableFuture<List<LawyerSummary>> getLawyerSummary();
+
+    /**
+     * @see LawyerService#searchLawyers(LawyerSearchCriteria, String, Integer)
+     */
+    CompletableFuture<LawyerPage<LawyerRecord>> searchLawyers(LawyerSearchCriteria criteria, String cursor, Integer size);
+
+    /**
+     * @see LawyerService#getLawyerStatistics()
+     */
+    CompletableFuture<LawyerStatisticsView> getLawyerStatistics();
+
+    /**
+     * Retrieves execution-mode diagnostics: service executor load, platform threads and virtual-thread pinning.
+     *
+     * @return The current ThreadStatistics.
+     */
+    ThreadStatistics getThreadStatistics();
+}
@@ -0,0 +1,21 @@
+package com.pro.lrms.service;
+
+import java.util.Iterator;
+import com.pro.lrms.dto.ImportReport;
+import com.pro.lrms.entity.LawyerRecord;
+
+/**
+ * Service interface for importing lawyer records in bulk.
+ */
+public interface LawyerImportService {
+
+    /**
+     * Imports lawyer records in chunks, committing each chunk in its own transaction.
+     * Rows whose ID or license number already exists (in the database or earlier in the same import) are rejected.
+     * If the input iterator fails (e.g., malformed JSON), the rows read so far are kept and the failure is reported as an INVALID row.
+     *
+     * @param lawyers The records to import, read lazily so the whole input never has to be in memory.
+     * @return An ImportReport with the outcome of every row.
+     */
+    ImportReport importLawyers(Iterator<LawyerRecord> lawyers);
+}
@@ -0,0 +1,42 @@
+package com.pro.lrms.service;
+
+import java.nio.file.Path;
+import com.pro.lrms.dto.ExportFormat;
+import com.pro.lrms.dto.ReportJobStatus;
+import com.pro.lrms.dto.ReportType;
+
+/**
+ * Service interface for reports over the whole registry, generated by background jobs into files.
+ */
+public interface LawyerReportService {
+
+    /**
+     * Submits a report job. An identical report that is still queued or running is joined instead.
+     *
+     * @param type The report to generate.
+     * @param format The output format (NDJSON or CSV).
+     * @param domain For roster reports, the domain to restrict it to; null for all domains.
+     * @return The status of the job that will produce the report.
+     * @throws IllegalArgumentException if a domain is given for a report other than the roster.
+     */
+    ReportJobStatus submitReport(ReportType type, ExportFormat format, String domain);
+
+    /**
+     * Retrieves the state and progress of a report job.
+     *
+     * @param jobId The job ID returned on submission.
+     * @return The ReportJobStatus of the job.
+     * @throws com.pro.lrms.exception.ReportJobNotFoundException if the job is unknown or has expired.
+     */
+    ReportJobStatus getReportJob(String jobId);
+
+    /**
+     * Retrieves the file of a completed report.
+     *
+     * @param jobId The job ID returned on submission.
+     * @return The path of the report file.
+     * @throws com.pro.lrms.exception.ReportJobNotFoundException if the job is unknown, has expired or has not
+     *         completed.
+     */
+    Path getReportFile(String jobId);
+}
@@ -1,6 +1,25 @@
 package com.pro.lrms.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.pro.lrms.dto.AdmissionStatistics;
+import com.pro.lrms.dto.AnalyticsFilter;
+import com.pro.lrms.dto.AnalyticsGroup;
+import com.pro.lrms.dto.BulkStatusRequest;
+import com.pro.lrms.dto.CacheStatistics;
+import com.pro.lrms.dto.CoalescingStatistics;
+import com.pro.lrms.dto.ExportFormat;
+import com.pro.lrms.dto.LicenseFilterStatistics;
+import com.pro.lrms.dto.LawyerPage;
+import com.pro.lrms.dto.LawyerSearchCriteria;
+import com.pro.lrms.dto.LawyerListItem;
+import com.pro.lrms.dto.LawyerStatisticsView;
+import com.pro.lrms.dto.LawyerSummary;
+import com.pro.lrms.dto.LeaderboardEntry;
+import com.pro.lrms.dto.SnapshotStatistics;
 import com.pro.lrms.entity.LawyerRecord;
 
 /**
@@ -18,11 +37,34 @@ public interface LawyerService {
     
     
     /**
-     * Updates the status of a lawyer (e.g., Active/Inactive) based on their ID.
+     * Toggles the status of a lawyer (Active/Inactive) based on their ID.
      * 
      * @param lawyerID The unique ID of the lawyer whose status needs to be updated.
+     * @return The new status of the lawyer.
      */
-    public void changeLawyerStatus(String lawyerID);
+    public String changeLawyerStatus(String lawyerID);
+
+
+    /**
+     * Toggles the status of a lawyer (Active/Inactive) if the record is still at the expected version.
+     *
+     * @param lawyerID The unique ID of the lawyer whose status needs to be updated.
+     * @param expectedVersion The version the caller last saw (from its ETag), or null to toggle unconditionally.
+     * @return The updated LawyerRecord, carrying its new version.
+     * @throws LawyerDetailsNotFoundException if the lawyer is not found.
+     * @throws LawyerVersionConflictException if the record has changed since expectedVersion.
+     */
+    LawyerRecord changeLawyerStatus(String lawyerID, Long expectedVersion);
+
+
+    /**
+     * Sets the status of many lawyers at once, selected by ID list or by filter.
+     *
+     * @param request The new status and the lawyers to apply it to.
+     * @return The number of lawyers whose status changed.
+     * @throws IllegalArgumentException if the status is invalid or no lawyers are selected.
+     */
+    public int changeLawyerStatus(BulkStatusRequest request);
     
     
     /**
@@ -61,10 +103,9 @@ public interface LawyerService {
      * Retrieves a summary of lawyers, including their name, domain, 
      * contact number, and calculated win ratio.
      * 
-     * @return A list of object arrays containing lawyer summary details.
-     * Each array contains: [lawyerName, lawyerDomain, lawyerNumber, calculatedWinRatio].
+     * @return A list of typed LawyerSummary rows.
      */
-    public List<Object[]> getLawyerSummary();
+    public List<LawyerSummary> getLawyerSummary();
     
     
     /**
@@ -85,4 +126,230 @@ public interface LawyerService {
      */
     List<LawyerRecord> getLawyerByDomain(String domain);
 
+
+    /**
+     * Retrieves one page of all lawyers using keyset pagination ordered by lawyer ID.
+     *
+     * @param cursor The continuation token from the previous page, or null for the first page.
+     * @param size The requested page size, or null for the configured default; capped at the configured maximum.
+     * @return A LawyerPage with the records and the cursor for the next page.
+     * @throws LawyerDetailsNotFoundException if the first page is empty.
+     */
+    LawyerPage<LawyerRecord> getAllLawyer(String cursor, Integer size);
+
+
+    /**
+     * Retrieves one page of active lawyers using keyset pagination ordered by lawyer ID.
+     *
+     * @param cursor The continuation token from the previous page, or null for the first page.
+     * @param size The requested page size, or null for the configured default; capped at the configured maximum.
+     * @return A LawyerPage with the records and the cursor for the next page.
+     * @throws LawyerDetailsNotFoundException if the first page is empty.
+     */
+    LawyerPage<LawyerRecord> getActiveLawyers(String cursor, Integer size);
+
+
+    /**
+     * Retrieves one page of lawyers in the given domain using keyset pagination ordered by lawyer ID.
+     *
+     * @param domain The domain of expertise for the lawyer (e.g., Civil, Criminal).
+     * @param cursor The continuation token from the previous page, or null for the first page.
+     * @param size The requested page size, or null for the configured default; capped at the configured maximum.
+     * @return A LawyerPage with the records and the cursor for the next page; the content may be empty.
+     */
+    LawyerPage<LawyerRecord> getLawyerByDomain(String domain, String cursor, Integer size);
+
+
+    /**
+     * Streams every lawyer record to the given output as soon as each row is read from the database.
+     * Memory use stays constant regardless of the number of records.
+     *
+     * @param format The output format (NDJSON or CSV).
+     * @param out The stream to write the export to; it is flushed but not closed.
+     * @throws IOException if writing to the output fails.
+     */
+    void exportLawyers(ExportFormat format, OutputStream out) throws IOException;
+
+
+    /**
+     * Retrieves hit, miss and eviction statistics of the lawyer lookup cache.
+     *
+     * @return One CacheStatistics entry per cache (by ID and by license number).
+     */
+    List<CacheStatistics> getCacheStatistics();
+
+
+    /**
+     * Retrieves how many concurrent lookups shared an in-flight database query, per coalesced query.
+     *
+     * @return One CoalescingStatistics entry per query, with the database calls saved as its shared count.
+     */
+    List<CoalescingStatistics> getCoalescingStatistics();
+
+
+    /**
+     * Retrieves fill ratio, false-positive rates and probe counters of the license-number existence filter.
+     *
+     * @return The LicenseFilterStatistics of the filter.
+     */
+    LicenseFilterStatistics getLicenseFilterStatistics();
+
+
+    /**
+     * Retrieves the state of admission control: concurrency limit, database latency and request outcomes.
+     *
+     * @return The AdmissionStatistics.
+     */
+    AdmissionStatistics getAdmissionStatistics();
+
+
+    /**
+     * Searches lawyers by any combination of domain, status, experience/case/win-ratio ranges and name prefix.
+     *
+     * @param criteria The search filters and ordering.
+     * @param cursor The continuation token from the previous page, or null for the first page.
+     * @param size The requested page size, or null for the configured default; capped at the configured maximum.
+     * @return A LawyerPage with the matching records and the cursor for the next page; the content may be empty.
+     * @throws IllegalArgumentException if the sort property, direction or cursor is invalid.
+     */
+    LawyerPage<LawyerRecord> searchLawyers(LawyerSearchCriteria criteria, String cursor, Integer size);
+
+
+    /**
+     * Searches lawyers like searchLawyers, reading only the requested columns.
+     *
+     * @param criteria The search filters and ordering.
+     * @param fields Comma-separated LawyerRecord field names; lawyerID is always included.
+     * @param cursor The continuation token from the previous page, or null for the first page.
+     * @param size The requested page size, or null for the configured default; capped at the configured maximum.
+     * @return A LawyerPage of rows holding only the requested fields, with the cursor for the next page.
+     * @throws IllegalArgumentException if a field is not a LawyerRecord field.
+     */
+    LawyerPage<Map<String, Object>> searchLawyers(LawyerSearchCriteria criteria, String fields, String cursor, Integer size);
+
+
+    /**
+     * Retrieves per-domain and per-status statistics (count, total cases, win ratio mean and percentiles,
+     * experience histogram), served from memory.
+     *
+     * @return The current LawyerStatisticsView.
+     */
+    LawyerStatisticsView getLawyerStatistics();
+
+
+    /**
+     * Retrieves the best lawyers of a domain by win ratio, experience or case count, served from memory.
+     *
+     * @param domain The domain of expertise (case-insensitive).
+     * @param metric The ranking metric: lawyerWinRatio, lawyerExperienece or laywerCase.
+     * @param k The number of lawyers to return; capped at the configured maximum page size.
+     * @param activeOnly Whether to exclude lawyers that are not Active.
+     * @return Up to K leaderboard entries, best first.
+     * @throws IllegalArgumentException if the metric is not supported or k is not positive.
+     */
+    List<LeaderboardEntry> getLeaderboard(String domain, String metric, int k, boolean activeOnly);
+
+
+    /**
+     * Retrieves one page of the compact lawyer projection, ordered by lawyer ID, optionally filtered by status or domain.
+     * Only the projected columns are read and no entities are loaded.
+     *
+     * @param status Only lawyers with this status, or null for any status.
+     * @param domain Only lawyers in this domain (case-insensitive), or null for any domain; ignored when status is given.
+     * @param cursor The continuation token from the previous page, or null for the first page.
+     * @param size The requested page size, or null for the configured default; capped at the configured maximum.
+     * @return A LawyerPage of LawyerListItem rows with the cursor for the next page.
+     * @throws LawyerDetailsNotFoundException if the first page is empty and no domain filter is given.
+     */
+    LawyerPage<LawyerListItem> getCompactLawyers(String status, String domain, String cursor, Integer size);
+
+
+    /**
+     * Retrieves one page of a sparse fieldset of lawyers, ordered by lawyer ID, optionally filtered by status or domain.
+     * Only the requested columns are read and no entities are loaded.
+     *
+     * @param fields Comma-separated LawyerRecord field names; lawyerID is always included.
+     * @param status Only lawyers with this status, or null for any status.
+     * @param domain Only lawyers in this domain (case-insensitive), or null for any domain; ignored when status is given.
+     * @param cursor The continuation token from the previous page, or null for the first page.
+     * @param size The requested page size, or null for the configured default; capped at the configured maximum.
+     * @return A LawyerPage of rows holding only the requested fields, with the cursor for the next page.
+     * @throws IllegalArgumentException if a field is not a LawyerRecord field.
+     * @throws LawyerDetailsNotFoundException if the first page is empty and no domain filter is given.
+     */
+    LawyerPage<Map<String, Object>> getLawyerFields(String fields, String status, String domain, String cursor, Integer size);
+
+
+    /**
+     * Reduces a lawyer record to a sparse fieldset, e.g. one already served from the near cache.
+     *
+     * @param lawyer The lawyer record.
+     * @param fields Comma-separated LawyerRecord field names; lawyerID is always included.
+     * @return The requested fields of the record by name.
+     * @throws IllegalArgumentException if a field is not a LawyerRecord field.
+     */
+    Map<String, Object> getLawyerFields(LawyerRecord lawyer, String fields);
+
+
+    /**
+     * Retrieves the version of the lawyer collection, which changes whenever any lawyer is created, updated or deleted.
+     * Costs one lookup of the latest change log position on the primary, so conditional list requests read no records.
+     *
+     * @return The current collection version.
+     */
+    String getCollectionVersion();
+
+
+    /**
+     * Opens a server-sent event stream of committed creates, status changes and deletes, oldest first.
+     *
+     * @param since The sequence of the last change the consumer has seen, or null to receive only new changes.
+     * @return The emitter streaming the changes.
+     * @throws IllegalArgumentException if since is negative.
+     */
+    SseEmitter streamChanges(Long since);
+
+
+    /**
+     * Aggregates a metric per domain, status or experience band, from the in-memory analytics snapshot.
+     *
+     * @param by The grouping: domain, status or experience.
+     * @param metric The metric: laywerCase, lawyerExperienece or lawyerWinRatio.
+     * @param band Width of the experience bands in years, for grouping by experience.
+     * @param filter Rows to include.
+     * @return Count, sum, mean, min and max of the metric per non-empty group.
+     * @throws IllegalArgumentException if the grouping or metric is not supported, or band is not positive.
+     */
+    List<AnalyticsGroup> getAnalyticsGroups(String by, String metric, int band, AnalyticsFilter filter);
+
+
+    /**
+     * Counts lawyers per value range of a metric, from the in-memory analytics snapshot.
+     *
+     * @param metric The metric: laywerCase, lawyerExperienece or lawyerWinRatio.
+     * @param width Bucket width in the metric's unit.
+     * @param filter Rows to include.
+     * @return Counts of the non-empty buckets in ascending order, labelled by their inclusive bounds.
+     * @throws IllegalArgumentException if the metric is not supported or width is not positive.
+     */
+    Map<String, Long> getAnalyticsHistogram(String metric, double width, AnalyticsFilter filter);
+
+
+    /**
+     * Computes percentiles of a metric, from the in-memory analytics snapshot.
+     *
+     * @param metric The metric: laywerCase, lawyerExperienece or lawyerWinRatio.
+     * @param percentiles Fractions between 0 and 1, e.g. 0.5, 0.9, 0.99.
+     * @param filter Rows to include.
+     * @return The value at each percentile keyed by label (e.g., p99); empty if no lawyer matches.
+     * @throws IllegalArgumentException if the metric is not supported or a percentile is out of range.
+     */
+    Map<String, Double> getAnalyticsPercentiles(String metric, List<Double> percentiles, AnalyticsFilter filter);
+
+
+    /**
+     * @return Row count and heap footprint of the in-memory analytics snapshot.
+     */
+    SnapshotStatistics getSnapshotStatistics();
+
 }
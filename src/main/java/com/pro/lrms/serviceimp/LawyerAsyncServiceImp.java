@@ -0,0 +1,82 @@
+package com.pro.lrms.serviceimp;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import com.pro.lrms.concurrency.PinningMonitor;
+import com.pro.lrms.concurrency.ServiceExecutor;
+import com.pro.lrms.dto.LawyerPage;
+import com.pro.lrms.dto.LawyerSearchCriteria;
+import com.pro.lrms.dto.LawyerStatisticsView;
+import com.pro.lrms.dto.LawyerSummary;
+import com.pro.lrms.dto.ThreadStatistics;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.service.LawyerAsyncService;
+import com.pro.lrms.service.LawyerService;
+
+/**
+ * Service implementation of the asynchronous read operations.
+ * Calls are delegated to the transactional LawyerService on the service executor, so each one blocks a
+ * virtual thread (or a pooled platform thread) instead of the request thread.
+ */
+@Service
+public class LawyerAsyncServiceImp implements LawyerAsyncService {
+
+    private final LawyerService lawyerService;
+    private final ServiceExecutor serviceExecutor;
+    private final PinningMonitor pinningMonitor;
+
+    @Autowired
+    public LawyerAsyncServiceImp(LawyerService lawyerService, ServiceExecutor serviceExecutor, PinningMonitor pinningMonitor) {
+        this.lawyerService = lawyerService;
+        this.serviceExecutor = serviceExecutor;
+        this.pinningMonitor = pinningMonitor;
+    }
+
+    @Override
+    public CompletableFuture<LawyerRecord> getLawyerByID(String lawyerID) {
+        return CompletableFuture.supplyAsync(() -> lawyerService.getLawyerByID(lawyerID), serviceExecutor);
+    }
+
+    @Override
+    public CompletableFuture<LawyerPage<LawyerRecord>> getAllLawyer(String cursor, Integer size) {
+        return CompletableFuture.supplyAsync(() -> lawyerService.getAllLawyer(cursor, size), serviceExecutor);
+    }
+
+    @Override
+    public CompletableFuture<LawyerPage<LawyerRecord>> getActiveLawyers(String cursor, Integer size) {
+        return CompletableFuture.supplyAsync(() -> lawyerService.getActiveLawyers(cursor, size), serviceExecutor);
+    }
+
+    @Override
+    public CompletableFuture<LawyerPage<LawyerRecord>> getLawyerByDomain(String domain, String cursor, Integer size) {
+        return CompletableFuture.supplyAsync(() -> lawyerService.getLawyerByDomain(domain, cursor, size), serviceExecutor);
+    }
+
+    @Override
+    public CompletableFuture<List<LawyerSummary>> getLawyerSummary() {
+        return CompletableFuture.supplyAsync(lawyerService::getLawyerSummary, serviceExecutor);
+    }
+
+    @Override
+    public CompletableFuture<LawyerPage<LawyerRecord>> searchLawyers(LawyerSearchCriteria criteria, String cursor, Integer size) {
+        return CompletableFuture.supplyAsync(() -> lawyerService.searchLawyers(criteria, cursor, size), serviceExecutor);
+    }
+
+    @Override
+    public CompletableFuture<LawyerStatisticsView> getLawyerStatistics() {
+        return CompletableFuture.supplyAsync(lawyerService::getLawyerStatistics, serviceExecutor);
+    }
+
+    @Override
+    public ThreadStatistics getThreadStatistics() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return new ThreadStatistics(serviceExecutor.isVirtual(), serviceExecutor.statistics(),
+                threads.getThreadCount(), threads.getPeakThreadCount(),
+                pinningMonitor.isActive(), pinningMonitor.getEvents(), pinningMonitor.getPinnedMillis(),
+                pinningMonitor.getSites());
+    }
+}
@@ -0,0 +1,84 @@
+package com.pro.lrms.serviceimp;
+
+import java.io.IOException;
+import java.io.Writer;
+import com.pro.lrms.dto.LawyerSummary;
+import com.pro.lrms.entity.LawyerRecord;
+
+/**
+ * CSV encoding of lawyer records, shared by the streaming export and the report jobs.
+ */
+final class LawyerCsv {
+
+    static final String HEADER = "lawyerID,lawyerName,lawyerNumber,laywerAddress,lawyerDomain,laywerCase,"
+            + "lawyerExperienece,lawyerWinRatio,lawyerLicenseNumber,lawyerStatus\n";
+
+    static final String SUMMARY_HEADER = "lawyerName,lawyerDomain,lawyerNumber,winRatio\n";
+
+    private LawyerCsv() {
+    }
+
+    /**
+     * Writes one lawyer as a CSV row.
+     *
+     * @param writer The destination writer.
+     * @param lawyer The lawyer record to write.
+     * @throws IOException if writing fails.
+     */
+    static void writeRow(Writer writer, LawyerRecord lawyer) throws IOException {
+        writer.write(escape(lawyer.getLawyerID()));
+        writer.write(',');
+        writer.write(escape(lawyer.getLawyerName()));
+        writer.write(',');
+        writer.write(escape(lawyer.getLawyerNumber()));
+        writer.write(',');
+        writer.write(escape(lawyer.getLaywerAddress()));
+        writer.write(',');
+        writer.write(escape(lawyer.getLawyerDomain()));
+        writer.write(',');
+        writer.write(Integer.toString(lawyer.getLaywerCase()));
+        writer.write(',');
+        writer.write(Integer.toString(lawyer.getLawyerExperienece()));
+        writer.write(',');
+        writer.write(Float.toString(lawyer.getLawyerWinRatio()));
+        writer.write(',');
+        writer.write(escape(lawyer.getLawyerLicenseNumber()));
+        writer.write(',');
+        writer.write(escape(lawyer.getLawyerStatus()));
+        writer.write('\n');
+    }
+
+    /**
+     * Writes one lawyer summary as a CSV row.
+     *
+     * @param writer The destination writer.
+     * @param summary The summary row to write.
+     * @throws IOException if writing fails.
+     */
+    static void writeSummaryRow(Writer writer, LawyerSummary summary) throws IOException {
+        writer.write(escape(summary.lawyerName()));
+        writer.write(',');
+        writer.write(escape(summary.lawyerDomain()));
+        writer.write(',');
+        writer.write(escape(summary.lawyerNumber()));
+        writer.write(',');
+        writer.write(Float.toString(summary.winRatio()));
+        writer.write('\n');
+    }
+
+    /**
+     * Escapes a value for CSV output, quoting it when it contains a separator, quote or line break.
+     *
+     * @param value The raw value, possibly null.
+     * @return The CSV-safe value; an empty string for null.
+     */
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,241 @@
+package com.pro.lrms.serviceimp;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.pro.lrms.cache.LawyerCache;
+import com.pro.lrms.cache.LicenseFilter;
+import com.pro.lrms.dto.ImportReport;
+import com.pro.lrms.dto.ImportRowResult;
+import com.pro.lrms.dto.ImportRowResult.Status;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.event.LawyerChangeEvent;
+import com.pro.lrms.repository.LawyerRepository;
+import com.pro.lrms.service.LawyerImportService;
+import com.pro.lrms.sharding.Shards;
+
+/**
+ * Service implementation for bulk lawyer imports.
+ * Rows are processed in chunks: one duplicate-check query per chunk, then a JDBC batch insert
+ * committed in its own transaction, so a 100k-row import needs only a few hundred round trips.
+ */
+@Service
+public class LawyerImportServiceImp implements LawyerImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO lawyerrecord (lawyerid, lawyername, lawyerphonenumber, "
+            + "lawyeraddress, lawyerdomain, lawyercase, lawyerexperience, lawyerwr, lawyerlicense, lawyerstatus, lawyerversion) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    @Autowired
+    private LawyerRepository lawyerRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private LawyerCache lawyerCache;
+
+    @Autowired
+    private LicenseFilter licenseFilter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private Shards shards;
+
+    @Value("${lrms.import.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * Imports lawyer records chunk by chunk.
+     *
+     * @param lawyers The records to import, read lazily.
+     * @return An ImportReport with the outcome of every row.
+     */
+    @Override
+    public ImportReport importLawyers(Iterator<LawyerRecord> lawyers) {
+        ImportReport report = new ImportReport();
+        // IDs and licenses accepted earlier in this import, so duplicates inside the payload are caught too
+        Set<String> seenIDs = new HashSet<>();
+        Set<String> seenLicenses = new HashSet<>();
+        List<LawyerRecord> chunk = new ArrayList<>(chunkSize);
+        int row = 0;
+
+        while (true) {
+            LawyerRecord lawyer;
+            try {
+                if (!lawyers.hasNext()) {
+                    break;
+                }
+                lawyer = lawyers.next();
+            } catch (RuntimeException e) {
+                // Malformed input: keep what was read so far and report where reading stopped
+                importChunk(chunk, row - chunk.size(), seenIDs, seenLicenses, report);
+                chunk.clear();
+                report.add(new ImportRowResult(row, null, Status.INVALID, "Unreadable input: " + e.getMessage()));
+                return report;
+            }
+
+            chunk.add(lawyer);
+            row++;
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, row - chunk.size(), seenIDs, seenLicenses, report);
+                chunk.clear();
+            }
+        }
+        importChunk(chunk, row - chunk.size(), seenIDs, seenLicenses, report);
+        return report;
+    }
+
+    /**
+     * Validates one chunk, checks it for duplicates with a single query and inserts the accepted rows in one transaction.
+     *
+     * @param chunk The records of this chunk.
+     * @param firstRow The position of the first record of the chunk in the request.
+     * @param seenIDs Lawyer IDs accepted so far in this import.
+     * @param seenLicenses License numbers accepted so far in this import.
+     * @param report The report to add row outcomes to.
+     */
+    private void importChunk(List<LawyerRecord> chunk, int firstRow, Set<String> seenIDs,
+                             Set<String> seenLicenses, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Set<String> existingIDs = new HashSet<>();
+        Set<String> existingLicenses = new HashSet<>();
+        List<String> ids = new ArrayList<>(chunk.size());
+        List<String> licenses = new ArrayList<>(chunk.size());
+        for (LawyerRecord lawyer : chunk) {
+            if (lawyer.getLawyerID() != null) {
+                ids.add(lawyer.getLawyerID());
+            }
+            if (lawyer.getLawyerLicenseNumber() != null) {
+                licenses.add(lawyer.getLawyerLicenseNumber());
+            }
+        }
+        if (!ids.isEmpty() || !licenses.isEmpty()) {
+            // Read-write transaction, so the duplicate check reads the primary rather than a lagging replica.
+            // A license may be held on any shard, so every shard is asked
+            for (List<Object[]> keys : shards.scatter(() -> transactionTemplate.execute(tx -> lawyerRepo.findExistingKeys(ids, licenses)))) {
+                for (Object[] key : keys) {
+                    existingIDs.add((String) key[0]);
+                    existingLicenses.add((String) key[1]);
+                }
+            }
+        }
+
+        // Classify every row; accepted rows are inserted below and reported once the chunk commits
+        ImportRowResult[] results = new ImportRowResult[chunk.size()];
+        List<LawyerRecord> accepted = new ArrayList<>(chunk.size());
+        List<Integer> acceptedIndexes = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            LawyerRecord lawyer = chunk.get(i);
+            String id = lawyer.getLawyerID();
+            String license = lawyer.getLawyerLicenseNumber();
+            int row = firstRow + i;
+
+            if (id == null || id.isBlank()) {
+                results[i] = new ImportRowResult(row, id, Status.INVALID, "lawyerID is required");
+            } else if (license == null || license.isBlank()) {
+                results[i] = new ImportRowResult(row, id, Status.INVALID, "lawyerLicenseNumber is required");
+            } else if (existingIDs.contains(id) || !seenIDs.add(id)) {
+                results[i] = new ImportRowResult(row, id, Status.DUPLICATE_ID, "Lawyer ID already exists");
+            } else if (existingLicenses.contains(license) || !seenLicenses.add(license)) {
+                seenIDs.remove(id);
+                results[i] = new ImportRowResult(row, id, Status.DUPLICATE_LICENSE, "Lawyer license number already exists");
+            } else {
+                accepted.add(lawyer);
+                acceptedIndexes.add(i);
+            }
+        }
+
+        // One batch per shard, each committed on its own; without sharding that is the whole chunk
+        for (List<Integer> indexes : shards.byShard(acceptedIndexes, i -> chunk.get(i).getLawyerID()).values()) {
+            List<LawyerRecord> lawyers = indexes.stream().map(chunk::get).toList();
+            Status insertStatus = Status.CREATED;
+            String insertMessage = null;
+            try {
+                insertBatch(lawyers);
+                // Drop cached "not found" entries for the new rows now that the batch has committed
+                for (LawyerRecord lawyer : lawyers) {
+                    lawyerCache.invalidate(lawyer.getLawyerID(), lawyer.getLawyerLicenseNumber());
+                    licenseFilter.add(lawyer.getLawyerLicenseNumber());
+                    eventPublisher.publishEvent(LawyerChangeEvent.created(lawyer));
+                }
+            } catch (RuntimeException e) {
+                // The batch's transaction was rolled back, so none of its rows were written
+                insertStatus = Status.FAILED;
+                insertMessage = "Chunk insert failed: " + e.getMessage();
+                for (LawyerRecord lawyer : lawyers) {
+                    seenIDs.remove(lawyer.getLawyerID());
+                    seenLicenses.remove(lawyer.getLawyerLicenseNumber());
+                }
+            }
+            for (int i : indexes) {
+                results[i] = new ImportRowResult(firstRow + i, chunk.get(i).getLawyerID(), insertStatus, insertMessage);
+            }
+        }
+
+        for (ImportRowResult result : results) {
+            report.add(result);
+        }
+    }
+
+    /**
+     * Inserts the given records of one shard with a single JDBC batch inside one transaction. When sharded, their
+     * license numbers are claimed in the global index first and released again if the batch fails.
+     *
+     * @param lawyers The records to insert, all on the same shard.
+     */
+    private void insertBatch(List<LawyerRecord> lawyers) {
+        if (!shards.isSharded()) {
+            insertRows(lawyers);
+            return;
+        }
+        Map<String, String> licenses = new LinkedHashMap<>();
+        for (LawyerRecord lawyer : lawyers) {
+            licenses.put(lawyer.getLawyerLicenseNumber(), lawyer.getLawyerID());
+        }
+        try {
+            shards.licenses().putAll(licenses);
+            shards.onShardOf(lawyers.get(0).getLawyerID(), () -> {
+                insertRows(lawyers);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            shards.licenses().removeAll(licenses);
+            throw e;
+        }
+    }
+
+    private void insertRows(List<LawyerRecord> lawyers) {
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.batchUpdate(INSERT_SQL, lawyers, lawyers.size(), (ps, lawyer) -> {
+                ps.setString(1, lawyer.getLawyerID());
+                ps.setString(2, lawyer.getLawyerName());
+                ps.setString(3, lawyer.getLawyerNumber());
+                ps.setString(4, lawyer.getLaywerAddress());
+                ps.setString(5, lawyer.getLawyerDomain());
+                ps.setInt(6, lawyer.getLaywerCase());
+                ps.setInt(7, lawyer.getLawyerExperienece());
+                ps.setFloat(8, lawyer.getLawyerWinRatio());
+                ps.setString(9, lawyer.getLawyerLicenseNumber());
+                ps.setString(10, lawyer.getLawyerStatus());
+            }));
+    }
+}
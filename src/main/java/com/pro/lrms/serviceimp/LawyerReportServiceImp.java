@@ -0,0 +1,172 @@
+package com.pro.lrms.serviceimp;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pro.lrms.dto.ExportFormat;
+import com.pro.lrms.dto.LawyerSummary;
+import com.pro.lrms.dto.ReportJobStatus;
+import com.pro.lrms.dto.ReportType;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.exception.ReportJobNotFoundException;
+import com.pro.lrms.report.ReportJob;
+import com.pro.lrms.report.ReportJobs;
+import com.pro.lrms.report.ReportKey;
+import com.pro.lrms.repository.LawyerRepository;
+import com.pro.lrms.service.LawyerReportService;
+import com.pro.lrms.sharding.Shards;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Service implementation for report jobs. Each report streams its rows from a forward-only database cursor in
+ * a read-only transaction (served by a read replica when one is configured) into the job's file, so neither
+ * the request thread nor the heap holds the whole registry.
+ */
+@Service
+public class LawyerReportServiceImp implements LawyerReportService {
+
+    @Autowired
+    private LawyerRepository lawyerRepo;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReportJobs reportJobs;
+
+    @Autowired
+    private Shards shards;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Submits a report job, or joins an identical one that is still queued or running.
+     *
+     * @param type The report to generate.
+     * @param format The output format (NDJSON or CSV).
+     * @param domain For roster reports, the domain to restrict it to; null for all domains.
+     * @return The status of the job that will produce the report.
+     */
+    @Override
+    public ReportJobStatus submitReport(ReportType type, ExportFormat format, String domain) {
+        String reportDomain = StringUtils.hasText(domain) ? domain.trim().toLowerCase() : null;
+        if (reportDomain != null && type != ReportType.ROSTER) {
+            throw new IllegalArgumentException("Only roster reports can be restricted to a domain");
+        }
+        ReportKey key = new ReportKey(type, format, reportDomain);
+        ReportJob job = reportJobs.submit(key, (out, progress) -> generate(key, out, progress));
+        return job.toStatus(reportJobs.getTtl());
+    }
+
+    /**
+     * Retrieves the state and progress of a report job.
+     *
+     * @param jobId The job ID returned on submission.
+     * @return The ReportJobStatus of the job.
+     */
+    @Override
+    public ReportJobStatus getReportJob(String jobId) {
+        return findJob(jobId).toStatus(reportJobs.getTtl());
+    }
+
+    /**
+     * Retrieves the file of a completed report.
+     *
+     * @param jobId The job ID returned on submission.
+     * @return The path of the report file.
+     */
+    @Override
+    public Path getReportFile(String jobId) {
+        Path file = findJob(jobId).getFile();
+        if (file == null) {
+            throw new ReportJobNotFoundException("Report job " + jobId + " has not completed");
+        }
+        return file;
+    }
+
+    private ReportJob findJob(String jobId) {
+        ReportJob job = reportJobs.find(jobId);
+        if (job == null) {
+            throw new ReportJobNotFoundException("Report job not found or expired: " + jobId);
+        }
+        return job;
+    }
+
+    /**
+     * Runs on a report worker: counts the rows for progress, then writes them in one read-only transaction per
+     * shard, one shard after the other.
+     */
+    private void generate(ReportKey key, Writer out, ReportJob job) throws IOException {
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        boolean summary = key.type() == ReportType.SUMMARY;
+        job.setExpectedRows(shards.scatter(() -> readOnlyTx.execute(tx -> summary || key.domain() == null
+                ? lawyerRepo.count() : lawyerRepo.countByLawyerDomain(key.domain())))
+                .stream().mapToLong(Long::longValue).sum());
+        if (key.format() == ExportFormat.CSV) {
+            out.write(summary ? LawyerCsv.SUMMARY_HEADER : LawyerCsv.HEADER);
+        }
+        try {
+            shards.forEachShard(() -> readOnlyTx.executeWithoutResult(status -> {
+                try {
+                    if (summary) {
+                        writeSummary(key.format(), out, job);
+                    } else {
+                        writeRoster(key.format(), key.domain(), out, job);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeSummary(ExportFormat format, Writer out, ReportJob job) throws IOException {
+        try (Stream<LawyerSummary> rows = lawyerRepo.streamSummary()) {
+            Iterator<LawyerSummary> it = rows.iterator();
+            while (it.hasNext()) {
+                LawyerSummary summary = it.next();
+                if (format == ExportFormat.CSV) {
+                    LawyerCsv.writeSummaryRow(out, summary);
+                } else {
+                    out.write(objectMapper.writeValueAsString(summary));
+                    out.write('\n');
+                }
+                job.rowWritten();
+            }
+        }
+    }
+
+    private void writeRoster(ExportFormat format, String domain, Writer out, ReportJob job) throws IOException {
+        try (Stream<LawyerRecord> lawyers = domain == null ? lawyerRepo.streamAll() : lawyerRepo.streamByLawyerDomain(domain)) {
+            Iterator<LawyerRecord> it = lawyers.iterator();
+            while (it.hasNext()) {
+                LawyerRecord lawyer = it.next();
+                if (format == ExportFormat.CSV) {
+                    LawyerCsv.writeRow(out, lawyer);
+                } else {
+                    out.write(objectMapper.writeValueAsString(lawyer));
+                    out.write('\n');
+                }
+                entityManager.detach(lawyer);
+                job.rowWritten();
+            }
+        }
+    }
+}
@@ -1,12 +1,69 @@
 package com.pro.lrms.serviceimp;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pro.lrms.admission.AdmissionControl;
+import com.pro.lrms.cache.CollectionVersion;
+import com.pro.lrms.cache.LawyerCache;
+import com.pro.lrms.cache.LicenseFilter;
+import com.pro.lrms.cache.RequestCoalescing;
+import com.pro.lrms.dto.AdmissionStatistics;
+import com.pro.lrms.dto.AnalyticsFilter;
+import com.pro.lrms.dto.AnalyticsGroup;
+import com.pro.lrms.dto.BulkStatusRequest;
+import com.pro.lrms.dto.CacheStatistics;
+import com.pro.lrms.dto.CoalescingStatistics;
+import com.pro.lrms.dto.ExportFormat;
+import com.pro.lrms.dto.LicenseFilterStatistics;
+import com.pro.lrms.dto.LawyerPage;
+import com.pro.lrms.dto.LawyerSearchCriteria;
+import com.pro.lrms.dto.LawyerListItem;
+import com.pro.lrms.dto.LawyerStatisticsView;
+import com.pro.lrms.dto.LawyerSummary;
+import com.pro.lrms.dto.LeaderboardEntry;
+import com.pro.lrms.dto.SnapshotStatistics;
+import com.pro.lrms.dto.PageCursor;
+import com.pro.lrms.dto.PageCursor.SearchPosition;
 import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.event.LawyerChangeEvent;
+import com.pro.lrms.event.LawyerChangeFeed;
+import com.pro.lrms.exception.DuplicateLawyerException;
 import com.pro.lrms.exception.LawyerDetailsNotFoundException;
+import com.pro.lrms.exception.LawyerVersionConflictException;
+import com.pro.lrms.repository.LawyerProjection;
+import com.pro.lrms.repository.LawyerProjections;
 import com.pro.lrms.repository.LawyerRepository;
 import com.pro.lrms.service.LawyerService;
+import com.pro.lrms.sharding.Shards;
+import com.pro.lrms.stats.ColumnarLawyers;
+import com.pro.lrms.stats.LawyerLeaderboard;
+import com.pro.lrms.stats.LawyerSnapshot;
+import com.pro.lrms.stats.LawyerStatistics;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 /**
  * Service implementation for managing operations related to LawyerRecord entities.
@@ -18,6 +75,100 @@ public class LawyerServiceImp implements LawyerService {
     @Autowired
     private LawyerRepository lawyerRepo;
 
+    @Autowired
+    private LawyerProjections lawyerProjections;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private LawyerCache lawyerCache;
+
+    @Autowired
+    private LicenseFilter licenseFilter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private LawyerStatistics lawyerStatistics;
+
+    @Autowired
+    private LawyerLeaderboard lawyerLeaderboard;
+
+    @Autowired
+    private CollectionVersion collectionVersion;
+
+    @Autowired
+    private LawyerChangeFeed lawyerChangeFeed;
+
+    @Autowired
+    private LawyerSnapshot lawyerSnapshot;
+
+    @Autowired
+    private AdmissionControl admissionControl;
+
+    @Autowired
+    private RequestCoalescing requestCoalescing;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private Shards shards;
+
+    /**
+     * Order of lists merged from the shards: the order the keyset-paginated queries use on each shard.
+     */
+    private static final Comparator<LawyerRecord> BY_ID = Comparator.comparing(LawyerRecord::getLawyerID);
+
+    /**
+     * Order of the summary merged from the shards, which has no lawyer ID to order by.
+     */
+    private static final Comparator<LawyerSummary> SUMMARY_ORDER =
+            Comparator.comparing(LawyerSummary::lawyerName, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                    .thenComparing(LawyerSummary::lawyerDomain, Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+
+    /**
+     * Name of the coalesced list queries (active lawyers and lawyers by domain), also the metric tag.
+     */
+    private static final String LIST_FLIGHT = "lawyerLists";
+
+    /**
+     * Identifies a coalesced list query. The collection version is part of the key, so a request made after a
+     * write never joins a query that started before it.
+     *
+     * @param query Which list: "active" or "domain".
+     * @param domain The lower-cased domain pattern of a domain list, otherwise null.
+     * @param afterID The lawyer ID the page starts after, or null for the unpaged list.
+     * @param limit The number of rows fetched, or 0 for the unpaged list.
+     * @param version The collection version when the request arrived.
+     */
+    private record ListQuery(String query, String domain, String afterID, int limit, String version) {
+    }
+
+    /**
+     * Maximum number of IDs bound into one bulk UPDATE, well below the database's bind-parameter limit.
+     */
+    private static final int BULK_STATUS_ID_BATCH = 10000;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Number of exported rows written between flushes of the response stream.
+     */
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
+    @Value("${lrms.pagination.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${lrms.pagination.max-size:500}")
+    private int maxPageSize;
+
     /**
      * Retrieves a list of all lawyers.
      * 
@@ -26,7 +177,7 @@ public class LawyerServiceImp implements LawyerService {
      */
     @Override
     public List<LawyerRecord> getAllLawyer() {
-        List<LawyerRecord> lawyers = lawyerRepo.findAll();
+        List<LawyerRecord> lawyers = gather(() -> lawyerRepo.findAll(), BY_ID, Integer.MAX_VALUE);
 
         if (lawyers.isEmpty()) {
             throw new LawyerDetailsNotFoundException("No Lawyer Details Found");
@@ -38,18 +189,103 @@ public class LawyerServiceImp implements LawyerService {
     
     /**
      * Toggles the status of a lawyer (Active/Inactive) based on their ID.
+     * The flip happens in a single conditional UPDATE, so concurrent toggles cannot cancel each other out.
      * 
      * @param lawyerID The unique ID of the lawyer whose status needs to be updated.
+     * @return The new status of the lawyer.
      * @throws LawyerDetailsNotFoundException if the lawyer is not found.
      */
     @Override
-    public void changeLawyerStatus(String lawyerID) {
-        LawyerRecord lawyer = lawyerRepo.findByLawyerID(lawyerID);
-        if (lawyer == null) {
+    public String changeLawyerStatus(String lawyerID) {
+        return changeLawyerStatus(lawyerID, null).getLawyerStatus();
+    }
+
+
+    /**
+     * Toggles the status of a lawyer, optionally only if the record is still at the expected version.
+     * The version check is part of the conditional UPDATE, so it cannot race with other writers.
+     *
+     * @param lawyerID The unique ID of the lawyer whose status needs to be updated.
+     * @param expectedVersion The version the caller last saw, or null to toggle unconditionally.
+     * @return The updated LawyerRecord, carrying its new version.
+     * @throws LawyerDetailsNotFoundException if the lawyer is not found.
+     * @throws LawyerVersionConflictException if the record has changed since expectedVersion.
+     */
+    @Override
+    public LawyerRecord changeLawyerStatus(String lawyerID, Long expectedVersion) {
+        LawyerRecord updated = shards.onShardOf(lawyerID, () -> transactionTemplate.execute(tx -> {
+            if (lawyerRepo.toggleStatus(lawyerID, expectedVersion) == 0) {
+                if (expectedVersion != null && lawyerRepo.existsById(lawyerID)) {
+                    throw new LawyerVersionConflictException("Lawyer " + lawyerID + " has changed since version " + expectedVersion);
+                }
+                return null;
+            }
+            // Same transaction and row lock as the update, so this reads the row it just wrote
+            return lawyerRepo.findByLawyerID(lawyerID);
+        }));
+        if (updated == null) {
             throw new LawyerDetailsNotFoundException("Lawyer not found");
         }
-        lawyer.setLawyerStatus("Active".equals(lawyer.getLawyerStatus()) ? "Inactive" : "Active");
-        lawyerRepo.save(lawyer);
+        lawyerCache.invalidate(lawyerID, updated.getLawyerLicenseNumber());
+
+        LawyerRecord before = copyOf(updated);
+        before.setLawyerStatus("Active".equals(updated.getLawyerStatus()) ? "Inactive" : "Active");
+        eventPublisher.publishEvent(LawyerChangeEvent.statusChanged(before, updated));
+        return updated;
+    }
+
+
+    /**
+     * Sets the status of many lawyers at once in a single transaction per shard.
+     * An ID list is applied in UPDATE statements of up to BULK_STATUS_ID_BATCH IDs; a filter is applied in one UPDATE.
+     * When sharded, each shard commits on its own: a failure on one shard does not undo the others.
+     *
+     * @param request The new status and the lawyers to apply it to.
+     * @return The number of lawyers whose status changed.
+     * @throws IllegalArgumentException if the status is invalid or no lawyers are selected.
+     */
+    @Override
+    public int changeLawyerStatus(BulkStatusRequest request) {
+        String status = request.getStatus();
+        if (!"Active".equals(status) && !"Inactive".equals(status)) {
+            throw new IllegalArgumentException("Status must be Active or Inactive");
+        }
+        List<String> ids = request.getLawyerIDs();
+        boolean hasFilter = request.getLawyerDomain() != null || request.getCurrentStatus() != null;
+        if ((ids == null || ids.isEmpty()) && !hasFilter) {
+            throw new IllegalArgumentException("Specify lawyerIDs or at least one filter (lawyerDomain, currentStatus)");
+        }
+
+        int changed = 0;
+        try {
+            if (ids == null || ids.isEmpty()) {
+                for (Integer count : shards.scatter(() -> transactionTemplate.execute(tx ->
+                        lawyerRepo.updateStatusByFilter(request.getLawyerDomain(), request.getCurrentStatus(), status)))) {
+                    changed += count;
+                }
+            } else {
+                for (Map.Entry<Integer, List<String>> shard : shards.byShard(ids, Function.identity()).entrySet()) {
+                    changed += shards.onShard(shard.getKey(), () -> updateStatusByIDs(shard.getValue(), status));
+                }
+            }
+        } finally {
+            if (changed > 0) {
+                // The updated rows are not known individually, so drop every cached lawyer and let views resynchronise
+                lawyerCache.invalidateAll();
+                eventPublisher.publishEvent(LawyerChangeEvent.bulkChanged());
+            }
+        }
+        return changed;
+    }
+
+    private int updateStatusByIDs(List<String> ids, String status) {
+        return transactionTemplate.execute(tx -> {
+            int count = 0;
+            for (int from = 0; from < ids.size(); from += BULK_STATUS_ID_BATCH) {
+                count += lawyerRepo.updateStatusByIDs(ids.subList(from, Math.min(ids.size(), from + BULK_STATUS_ID_BATCH)), status);
+            }
+            return count;
+        });
     }
 
     
@@ -61,12 +297,23 @@ public class LawyerServiceImp implements LawyerService {
      */
     @Override
     public void deleteLaywer(String lawyerID) {
-        LawyerRecord lawyerRecord = lawyerRepo.findByLawyerID(lawyerID);
+        // Looked up and deleted in one transaction on the primary, which has the current row version
+        LawyerRecord lawyerRecord = shards.onShardOf(lawyerID, () -> transactionTemplate.execute(tx -> {
+            LawyerRecord existing = lawyerRepo.findByLawyerID(lawyerID);
+            if (existing != null) {
+                lawyerRepo.delete(existing);
+            }
+            return existing;
+        }));
 
         if (lawyerRecord == null) {
             throw new LawyerDetailsNotFoundException("Lawyer with ID " + lawyerID + " does not exist");
         }
-        lawyerRepo.delete(lawyerRecord);
+        if (shards.isSharded() && lawyerRecord.getLawyerLicenseNumber() != null) {
+            shards.licenses().remove(lawyerRecord.getLawyerLicenseNumber(), lawyerID);
+        }
+        lawyerCache.invalidate(lawyerID, lawyerRecord.getLawyerLicenseNumber());
+        eventPublisher.publishEvent(LawyerChangeEvent.deleted(lawyerRecord));
     }
 
     
@@ -74,20 +321,54 @@ public class LawyerServiceImp implements LawyerService {
      * Creates a new lawyer profile in the system.
      * 
      * @param lawyerRecord The LawyerRecord object containing the details of the new lawyer.
+     * @throws DuplicateLawyerException if another lawyer already has the ID or license number.
      * @throws RuntimeException if an error occurs during the save operation.
      */
     @Override
     public void createLawyerProfile(LawyerRecord lawyerRecord) {
         try {
-            lawyerRepo.save(lawyerRecord);
+            LawyerRecord saved = shards.isSharded() ? saveOnShard(lawyerRecord) : lawyerRepo.save(lawyerRecord);
+            // Replaces any cached "not found" entries left by the duplicate check
+            lawyerCache.put(saved);
+            licenseFilter.add(saved.getLawyerLicenseNumber());
+            eventPublisher.publishEvent(LawyerChangeEvent.created(saved));
+        } catch (DataIntegrityViolationException ex) {
+            // The unique constraints are the duplicate guard; the caller's check may have missed a lawyer created
+            // on another instance, so drop the "not found" entries and filter gaps that let it through
+            lawyerCache.invalidate(lawyerRecord.getLawyerID(), lawyerRecord.getLawyerLicenseNumber());
+            licenseFilter.add(lawyerRecord.getLawyerLicenseNumber());
+            throw new DuplicateLawyerException("Lawyer with ID " + lawyerRecord.getLawyerID()
+                    + " or license number " + lawyerRecord.getLawyerLicenseNumber() + " already exists");
         } catch (Exception ex) {
             throw new RuntimeException("Error saving lawyer profile: " + ex.getMessage());
         }
     }
 
+    /**
+     * Saves a new record on its shard. Its license number is claimed in the global index first, which is what
+     * keeps license numbers unique across shards, and released again if the record cannot be saved.
+     *
+     * @param lawyerRecord The new record.
+     * @return The saved record.
+     */
+    private LawyerRecord saveOnShard(LawyerRecord lawyerRecord) {
+        String license = lawyerRecord.getLawyerLicenseNumber();
+        if (license != null) {
+            shards.licenses().put(license, lawyerRecord.getLawyerID());
+        }
+        try {
+            return shards.onShardOf(lawyerRecord.getLawyerID(), () -> lawyerRepo.save(lawyerRecord));
+        } catch (RuntimeException e) {
+            if (license != null) {
+                shards.licenses().remove(license, lawyerRecord.getLawyerID());
+            }
+            throw e;
+        }
+    }
+
     
     /**
-     * Retrieves the details of a specific lawyer based on their ID.
+     * Retrieves the details of a specific lawyer based on their ID, served from the near cache when possible.
      * 
      * @param lawyerID The unique ID of the lawyer to be retrieved.
      * @return The LawyerRecord object for the specified lawyer.
@@ -95,7 +376,9 @@ public class LawyerServiceImp implements LawyerService {
      */
     @Override
     public LawyerRecord getLawyerByID(String lawyerID) {
-        LawyerRecord lawyer = lawyerRepo.findByLawyerID(lawyerID);
+        // Read-write transaction, so a miss is filled from the primary and never caches a lagging replica's copy
+        LawyerRecord lawyer = lawyerCache.getById(lawyerID,
+                id -> shards.onShardOf(id, () -> transactionTemplate.execute(tx -> lawyerRepo.findByLawyerID(id))));
         if (lawyer == null) {
             throw new LawyerDetailsNotFoundException("Lawyer with ID " + lawyerID + " not found.");
         }
@@ -107,13 +390,13 @@ public class LawyerServiceImp implements LawyerService {
      * Retrieves a summary of lawyers, including their name, domain, 
      * contact number, and calculated win ratio.
      * 
-     * @return A list of object arrays containing lawyer summary details.
+     * @return A list of typed LawyerSummary rows.
      * @throws RuntimeException if an error occurs during the query execution.
      */
     @Override
-    public List<Object[]> getLawyerSummary() {
+    public List<LawyerSummary> getLawyerSummary() {
         try {
-            return lawyerRepo.getLawyerSummary();
+            return gather(() -> lawyerRepo.getLawyerSummary(), SUMMARY_ORDER, Integer.MAX_VALUE);
         } catch (Exception e) { 
             throw new RuntimeException("An error occurred while fetching the lawyer summary.", e);
         }
@@ -127,7 +410,8 @@ public class LawyerServiceImp implements LawyerService {
      */
     @Override
     public List<LawyerRecord> getActiveLawyers() {
-        List<LawyerRecord> lawyers = lawyerRepo.findByLawyerStatus("Active");
+        List<LawyerRecord> lawyers = coalesce(new ListQuery("active", null, null, 0, collectionVersion.current()),
+                () -> lawyerRepo.findByLawyerStatus("Active"));
 
         if (lawyers.isEmpty()) {
             throw new LawyerDetailsNotFoundException("No Active Lawyer Details Found");
@@ -146,11 +430,41 @@ public class LawyerServiceImp implements LawyerService {
      */
 	@Override
 	public LawyerRecord getLawyerByLicenseNumber(String lawyerLicenseNumber) {
-		LawyerRecord lawyer = lawyerRepo.findByLawyerLicenseNumber(lawyerLicenseNumber);
+		if (lawyerLicenseNumber == null) {
+			return lawyerRepo.findByLawyerLicenseNumber(null);
+		}
+		// A "definitely absent" answer from the license filter skips the database entirely
+		if (!licenseFilter.mightContain(lawyerLicenseNumber)) {
+			return null;
+		}
+		// Served from the near cache; misses (including "not found") are cached for later duplicate checks
+		LawyerRecord lawyer = lawyerCache.getByLicense(lawyerLicenseNumber, license -> shards.isSharded()
+				? findByIndexedLicense(license)
+				: transactionTemplate.execute(tx -> lawyerRepo.findByLawyerLicenseNumber(license)));
+		if (lawyer == null) {
+			licenseFilter.recordFalsePositive();
+		}
 		// Return the found lawyer details if found or returns the null if details is not found
 		return lawyer;
 	}
 
+	/**
+	 * Looks a license number up in the global index and reads the record from its one shard, instead of asking
+	 * every shard.
+	 *
+	 * @param license The license number.
+	 * @return The lawyer holding the license, or null if there is none.
+	 */
+	private LawyerRecord findByIndexedLicense(String license) {
+	    String lawyerID = shards.licenses().find(license);
+	    if (lawyerID == null) {
+	        return null;
+	    }
+	    LawyerRecord lawyer = shards.onShardOf(lawyerID, () -> transactionTemplate.execute(tx -> lawyerRepo.findByLawyerID(lawyerID)));
+	    // The index is claimed before a record is written and released after it is deleted, so check the record
+	    return lawyer != null && license.equals(lawyer.getLawyerLicenseNumber()) ? lawyer : null;
+	}
+
 	/**
 	 * Retrieves a list of lawyers based on their domain of expertise.
 	 * 
@@ -160,11 +474,526 @@ public class LawyerServiceImp implements LawyerService {
 	 */
 	@Override
 	public List<LawyerRecord> getLawyerByDomain(String domain) {
-	    // Fetch lawyers from the repository who have the given domain expertise
-	    List<LawyerRecord> lawyers = lawyerRepo.findByLawyerDomain(domain);
+	    // Fetch lawyers from the repository who have the given domain expertise, sharing an identical query in flight
+	    List<LawyerRecord> lawyers = coalesce(new ListQuery("domain", lowerCase(domain), null, 0, collectionVersion.current()),
+	            () -> lawyerRepo.findByLawyerDomain(domain));
 	    
 	    // Return the list of lawyers. If no lawyers are found, an empty list is returned.
 	    return lawyers;
 	}
 
+	/**
+	 * Retrieves one page of all lawyers ordered by lawyer ID.
+	 *
+	 * @param cursor The continuation token from the previous page, or null for the first page.
+	 * @param size The requested page size, or null for the default.
+	 * @return A LawyerPage with the records and the cursor for the next page.
+	 * @throws LawyerDetailsNotFoundException if the first page is empty.
+	 */
+	@Override
+	public LawyerPage<LawyerRecord> getAllLawyer(String cursor, Integer size) {
+	    int pageSize = resolvePageSize(size);
+	    String afterID = PageCursor.decode(cursor);
+	    List<LawyerRecord> lawyers = gather(() -> lawyerRepo.findPageAfter(afterID, Limit.of(pageSize + 1)), BY_ID, pageSize + 1);
+
+	    if (lawyers.isEmpty() && cursor == null) {
+	        throw new LawyerDetailsNotFoundException("No Lawyer Details Found");
+	    }
+
+	    return toPage(lawyers, pageSize);
+	}
+
+	/**
+	 * Retrieves one page of active lawyers ordered by lawyer ID.
+	 *
+	 * @param cursor The continuation token from the previous page, or null for the first page.
+	 * @param size The requested page size, or null for the default.
+	 * @return A LawyerPage with the records and the cursor for the next page.
+	 * @throws LawyerDetailsNotFoundException if the first page is empty.
+	 */
+	@Override
+	public LawyerPage<LawyerRecord> getActiveLawyers(String cursor, Integer size) {
+	    int pageSize = resolvePageSize(size);
+	    String afterID = PageCursor.decode(cursor);
+	    List<LawyerRecord> lawyers = coalesce(new ListQuery("active", null, afterID, pageSize + 1, collectionVersion.current()),
+	            () -> lawyerRepo.findPageByLawyerStatusAfter("Active", afterID, Limit.of(pageSize + 1)));
+
+	    if (lawyers.isEmpty() && cursor == null) {
+	        throw new LawyerDetailsNotFoundException("No Active Lawyer Details Found");
+	    }
+
+	    return toPage(lawyers, pageSize);
+	}
+
+	/**
+	 * Retrieves one page of lawyers in the given domain ordered by lawyer ID.
+	 *
+	 * @param domain The domain of expertise (e.g., Civil, Criminal) to filter lawyers.
+	 * @param cursor The continuation token from the previous page, or null for the first page.
+	 * @param size The requested page size, or null for the default.
+	 * @return A LawyerPage with the records and the cursor for the next page; the content may be empty.
+	 */
+	@Override
+	public LawyerPage<LawyerRecord> getLawyerByDomain(String domain, String cursor, Integer size) {
+	    int pageSize = resolvePageSize(size);
+	    String afterID = PageCursor.decode(cursor);
+	    List<LawyerRecord> lawyers = coalesce(new ListQuery("domain", lowerCase(domain), afterID, pageSize + 1, collectionVersion.current()),
+	            () -> lawyerRepo.findPageByLawyerDomainAfter(domain, afterID, Limit.of(pageSize + 1)));
+	    return toPage(lawyers, pageSize);
+	}
+
+	/**
+	 * Runs a list query, or joins the identical one already in flight. The query runs in its own read-only
+	 * transaction, so callers waiting for it hold no database connection. Every caller gets the same, unmodifiable
+	 * list and builds its own page from it.
+	 *
+	 * @param query The key of the query.
+	 * @param loader Runs the query.
+	 * @return The fetched records, gathered from every shard.
+	 */
+	private List<LawyerRecord> coalesce(ListQuery query, Supplier<List<LawyerRecord>> loader) {
+	    return requestCoalescing.<ListQuery, List<LawyerRecord>>flight(LIST_FLIGHT).execute(query,
+	            () -> List.copyOf(gather(loader, BY_ID, query.limit() == 0 ? Integer.MAX_VALUE : query.limit())));
+	}
+
+	/**
+	 * Runs a query on every shard in parallel, each in its own read-only transaction, and merges the results.
+	 * Without sharding this is the query itself, and its rows are returned in the order the query gave them.
+	 *
+	 * @param query Runs the query against the current shard.
+	 * @param order The order of the merged rows.
+	 * @param limit The maximum number of rows to return.
+	 * @return The first limit rows of all shards in the given order.
+	 */
+	private <T> List<T> gather(Supplier<List<T>> query, Comparator<? super T> order, int limit) {
+	    TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+	    readOnlyTx.setReadOnly(true);
+	    return Shards.merge(shards.scatter(() -> readOnlyTx.execute(tx -> query.get())), order, limit);
+	}
+
+	private static String lowerCase(String value) {
+	    return value == null ? null : value.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Copies a lawyer record, e.g. to describe its state before a change.
+	 *
+	 * @param lawyer The record to copy.
+	 * @return A new, unmanaged LawyerRecord with the same field values.
+	 */
+	private static LawyerRecord copyOf(LawyerRecord lawyer) {
+	    return new LawyerRecord(lawyer.getLawyerID(), lawyer.getLawyerName(), lawyer.getLawyerNumber(),
+	            lawyer.getLaywerAddress(), lawyer.getLawyerDomain(), lawyer.getLaywerCase(),
+	            lawyer.getLawyerExperienece(), lawyer.getLawyerWinRatio(), lawyer.getLawyerLicenseNumber(),
+	            lawyer.getLawyerStatus());
+	}
+
+	/**
+	 * Applies the default page size and the hard cap to a requested size.
+	 *
+	 * @param size The requested page size, or null for the default.
+	 * @return The effective page size.
+	 * @throws IllegalArgumentException if the requested size is not positive.
+	 */
+	private int resolvePageSize(Integer size) {
+	    if (size == null) {
+	        return Math.min(defaultPageSize, maxPageSize);
+	    }
+	    if (size < 1) {
+	        throw new IllegalArgumentException("Page size must be at least 1");
+	    }
+	    return Math.min(size, maxPageSize);
+	}
+
+	/**
+	 * Builds a page from a slice fetched with one extra row; the extra row only signals that more data exists.
+	 *
+	 * @param lawyers The fetched records (at most pageSize + 1).
+	 * @param pageSize The effective page size.
+	 * @return The LawyerPage, with a next cursor when more records remain.
+	 */
+	private LawyerPage<LawyerRecord> toPage(List<LawyerRecord> lawyers, int pageSize) {
+	    return toPage(lawyers, pageSize, LawyerRecord::getLawyerID);
+	}
+
+	/**
+	 * Builds a page of any row type from a slice fetched with one extra row.
+	 *
+	 * @param rows The fetched rows (at most pageSize + 1), ordered by lawyer ID.
+	 * @param pageSize The effective page size.
+	 * @param idOf Extracts the lawyer ID of a row, used for the next cursor.
+	 * @return The LawyerPage, with a next cursor when more rows remain.
+	 */
+	private static <T> LawyerPage<T> toPage(List<T> rows, int pageSize, Function<T, String> idOf) {
+	    if (rows.size() <= pageSize) {
+	        return new LawyerPage<>(rows, pageSize, null, null);
+	    }
+	    List<T> content = rows.subList(0, pageSize);
+	    String nextCursor = PageCursor.encode(idOf.apply(content.get(pageSize - 1)));
+	    return new LawyerPage<>(content, pageSize, nextCursor, null);
+	}
+
+	/**
+	 * Streams every lawyer record to the output through a forward-only database cursor.
+	 * Each row is written and detached as soon as it is read, so the persistence context never grows.
+	 * The first row is flushed immediately and later rows every EXPORT_FLUSH_INTERVAL records.
+	 * When sharded, the shards are exported one after the other, each in lawyer ID order.
+	 *
+	 * @param format The output format (NDJSON or CSV).
+	 * @param out The stream to write the export to; it is flushed but not closed.
+	 * @throws IOException if writing to the output fails.
+	 */
+	@Override
+	public void exportLawyers(ExportFormat format, OutputStream out) throws IOException {
+	    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+	    if (format == ExportFormat.CSV) {
+	        writer.write(LawyerCsv.HEADER);
+	    }
+
+	    TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+	    readOnlyTx.setReadOnly(true);
+	    long[] written = { 0 };
+	    try {
+	        shards.forEachShard(() -> readOnlyTx.executeWithoutResult(tx -> {
+	            try (Stream<LawyerRecord> lawyers = lawyerRepo.streamAll()) {
+	                Iterator<LawyerRecord> it = lawyers.iterator();
+	                while (it.hasNext()) {
+	                    LawyerRecord lawyer = it.next();
+	                    if (format == ExportFormat.CSV) {
+	                        LawyerCsv.writeRow(writer, lawyer);
+	                    } else {
+	                        writer.write(objectMapper.writeValueAsString(lawyer));
+	                        writer.write('\n');
+	                    }
+	                    entityManager.detach(lawyer);
+
+	                    if (++written[0] == 1 || written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+	                        writer.flush();
+	                    }
+	                }
+	            } catch (IOException e) {
+	                throw new UncheckedIOException(e);
+	            }
+	        }));
+	    } catch (UncheckedIOException e) {
+	        throw e.getCause();
+	    }
+	    writer.flush();
+	}
+
+	/**
+	 * Retrieves hit, miss and eviction statistics of the lawyer lookup cache.
+	 *
+	 * @return One CacheStatistics entry per cache (by ID and by license number).
+	 */
+	@Override
+	public List<CacheStatistics> getCacheStatistics() {
+	    return lawyerCache.statistics();
+	}
+
+	/**
+	 * Retrieves how many concurrent lookups shared an in-flight database query, per coalesced query.
+	 *
+	 * @return One CoalescingStatistics entry per query, with the database calls saved as its shared count.
+	 */
+	@Override
+	public List<CoalescingStatistics> getCoalescingStatistics() {
+	    return requestCoalescing.statistics();
+	}
+
+	/**
+	 * Retrieves fill ratio, false-positive rates and probe counters of the license-number existence filter.
+	 *
+	 * @return The LicenseFilterStatistics of the filter.
+	 */
+	@Override
+	public LicenseFilterStatistics getLicenseFilterStatistics() {
+	    return licenseFilter.statistics();
+	}
+
+	/**
+	 * Retrieves the adaptive concurrency limit, the database latency it follows and the request outcomes.
+	 *
+	 * @return The AdmissionStatistics of admission control.
+	 */
+	@Override
+	public AdmissionStatistics getAdmissionStatistics() {
+	    return admissionControl.statistics();
+	}
+
+	/**
+	 * Searches lawyers by any combination of filters in a single query.
+	 *
+	 * @param criteria The search filters and ordering.
+	 * @param cursor The continuation token from the previous page, or null for the first page.
+	 * @param size The requested page size, or null for the default.
+	 * @return A LawyerPage with the matching records and the cursor for the next page; the content may be empty.
+	 */
+	@Override
+	public LawyerPage<LawyerRecord> searchLawyers(LawyerSearchCriteria criteria, String cursor, Integer size) {
+	    int pageSize = resolvePageSize(size);
+	    SearchPosition after = searchPosition(criteria, cursor);
+	    // Each shard seeks past the same position, so it never returns more than one page plus the look-ahead row
+	    List<LawyerRecord> lawyers = gather(() -> lawyerRepo.search(criteria, after, pageSize + 1),
+	            searchOrder(criteria, lawyerProjections::valueOf), pageSize + 1);
+
+	    if (lawyers.size() <= pageSize) {
+	        return new LawyerPage<>(lawyers, pageSize, null, null);
+	    }
+	    LawyerRecord last = lawyers.get(pageSize - 1);
+	    String next = PageCursor.encodeSearch(sortOf(criteria), directionOf(criteria),
+	            lawyerProjections.valueOf(last, sortOf(criteria)), last.getLawyerID());
+	    return new LawyerPage<>(lawyers.subList(0, pageSize), pageSize, next, null);
+	}
+
+	/**
+	 * Searches lawyers like searchLawyers, selecting only the requested columns.
+	 *
+	 * @param criteria The search filters and ordering.
+	 * @param fields Comma-separated LawyerRecord field names; lawyerID is always included.
+	 * @param cursor The continuation token from the previous page, or null for the first page.
+	 * @param size The requested page size, or null for the default.
+	 * @return A LawyerPage of rows holding only the requested fields; the content may be empty.
+	 */
+	@Override
+	public LawyerPage<Map<String, Object>> searchLawyers(LawyerSearchCriteria criteria, String fields, String cursor, Integer size) {
+	    LawyerProjection projection = lawyerProjections.resolve(fields);
+	    int pageSize = resolvePageSize(size);
+	    SearchPosition after = searchPosition(criteria, cursor);
+	    // The next cursor and the merge of several shards need the sort value, so it is selected even if not requested
+	    String sort = sortOf(criteria);
+	    LawyerProjection selected = lawyerProjections.resolve(fields + "," + sort);
+	    List<Map<String, Object>> rows = gather(() -> lawyerRepo.search(criteria, selected, after, pageSize + 1),
+	            searchOrder(criteria, Map::get), pageSize + 1);
+
+	    String next = null;
+	    if (rows.size() > pageSize) {
+	        Map<String, Object> last = rows.get(pageSize - 1);
+	        next = PageCursor.encodeSearch(sort, directionOf(criteria), last.get(sort), (String) last.get("lawyerID"));
+	        rows = rows.subList(0, pageSize);
+	    }
+	    if (selected != projection) {
+	        rows.forEach(row -> row.keySet().retainAll(projection.getFields()));
+	    }
+	    return new LawyerPage<>(rows, pageSize, next, null);
+	}
+
+	private static String sortOf(LawyerSearchCriteria criteria) {
+	    return criteria.getSort() == null ? "lawyerID" : criteria.getSort();
+	}
+
+	private static String directionOf(LawyerSearchCriteria criteria) {
+	    return criteria.getDirection() == null ? "asc" : criteria.getDirection();
+	}
+
+	/**
+	 * Decodes a search cursor and checks that it continues this search's order with a sort value of the right type,
+	 * so a crafted cursor fails as a bad request instead of in the query.
+	 *
+	 * @param criteria The search filters and ordering.
+	 * @param cursor The continuation token from the previous page, or null for the first page.
+	 * @return The last row of the previous page, or null for the first page.
+	 * @throws IllegalArgumentException if the cursor is malformed or belongs to another search order.
+	 */
+	private SearchPosition searchPosition(LawyerSearchCriteria criteria, String cursor) {
+	    SearchPosition after = PageCursor.decodeSearch(cursor, sortOf(criteria), directionOf(criteria));
+	    if (after != null && (after.lawyerID().isEmpty() || (after.sortValue() != null
+	            && !lawyerProjections.typeOf(sortOf(criteria)).isInstance(after.sortValue())))) {
+	        throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+	    }
+	    return after;
+	}
+
+	/**
+	 * The order of a search, for merging rows gathered from the shards: the sort property in the requested
+	 * direction, with nulls sorted as PostgreSQL does, then lawyer ID. Both are validated by the search query.
+	 *
+	 * @param criteria The search filters and ordering.
+	 * @param valueOf Reads a property of a row by name.
+	 * @return The comparator.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> Comparator<T> searchOrder(LawyerSearchCriteria criteria, BiFunction<T, String, Object> valueOf) {
+	    String sort = sortOf(criteria);
+	    Comparator<T> order = Comparator.comparing(row -> (Comparable<Object>) valueOf.apply(row, sort),
+	            Comparator.nullsLast(Comparator.naturalOrder()));
+	    if ("desc".equalsIgnoreCase(criteria.getDirection())) {
+	        order = order.reversed();
+	    }
+	    return order.thenComparing(row -> (String) valueOf.apply(row, "lawyerID"));
+	}
+
+	/**
+	 * Retrieves the incrementally maintained per-domain and per-status statistics.
+	 *
+	 * @return The current LawyerStatisticsView.
+	 */
+	@Override
+	public LawyerStatisticsView getLawyerStatistics() {
+	    return lawyerStatistics.view();
+	}
+
+	/**
+	 * Retrieves the best K lawyers of a domain from the in-memory leaderboards.
+	 *
+	 * @param domain The domain of expertise (case-insensitive).
+	 * @param metric The ranking metric: lawyerWinRatio, lawyerExperienece or laywerCase.
+	 * @param k The number of lawyers to return; capped at the maximum page size.
+	 * @param activeOnly Whether to exclude lawyers that are not Active.
+	 * @return Up to K leaderboard entries, best first.
+	 */
+	@Override
+	public List<LeaderboardEntry> getLeaderboard(String domain, String metric, int k, boolean activeOnly) {
+	    return lawyerLeaderboard.top(domain, metric, resolvePageSize(k), activeOnly);
+	}
+
+	/**
+	 * Retrieves one page of the compact lawyer projection, ordered by lawyer ID.
+	 *
+	 * @param status Only lawyers with this status, or null for any status.
+	 * @param domain Only lawyers in this domain (case-insensitive), or null for any domain; ignored when status is given.
+	 * @param cursor The continuation token from the previous page, or null for the first page.
+	 * @param size The requested page size, or null for the default.
+	 * @return A LawyerPage of LawyerListItem rows with the cursor for the next page.
+	 * @throws LawyerDetailsNotFoundException if the first page is empty and no domain filter is given.
+	 */
+	@Override
+	public LawyerPage<LawyerListItem> getCompactLawyers(String status, String domain, String cursor, Integer size) {
+	    int pageSize = resolvePageSize(size);
+	    String afterID = PageCursor.decode(cursor);
+	    Limit limit = Limit.of(pageSize + 1);
+	    List<LawyerListItem> lawyers = gather(() -> {
+	        if (status != null) {
+	            return lawyerRepo.findListItemsByLawyerStatusAfter(status, afterID, limit);
+	        } else if (domain != null) {
+	            return lawyerRepo.findListItemsByLawyerDomainAfter(domain, afterID, limit);
+	        }
+	        return lawyerRepo.findListItemsAfter(afterID, limit);
+	    }, Comparator.comparing(LawyerListItem::lawyerID), pageSize + 1);
+
+	    // Same not-found rules as the full view: only the domain listing may be empty
+	    if (lawyers.isEmpty() && cursor == null && domain == null) {
+	        throw new LawyerDetailsNotFoundException(status != null ? "No Active Lawyer Details Found" : "No Lawyer Details Found");
+	    }
+	    return toPage(lawyers, pageSize, LawyerListItem::lawyerID);
+	}
+
+	/**
+	 * Retrieves one page of a sparse fieldset of lawyers, reading only the requested columns.
+	 *
+	 * @param fields Comma-separated LawyerRecord field names; lawyerID is always included.
+	 * @param status Only lawyers with this status, or null for any status.
+	 * @param domain Only lawyers in this domain (case-insensitive), or null; ignored when status is given.
+	 * @param cursor The continuation token from the previous page, or null for the first page.
+	 * @param size The requested page size, or null for the default.
+	 * @return A LawyerPage of rows holding only the requested fields, with the cursor for the next page.
+	 * @throws LawyerDetailsNotFoundException if the first page is empty and no domain filter is given.
+	 */
+	@Override
+	public LawyerPage<Map<String, Object>> getLawyerFields(String fields, String status, String domain, String cursor, Integer size) {
+	    LawyerProjection projection = lawyerProjections.resolve(fields);
+	    int pageSize = resolvePageSize(size);
+	    String afterID = PageCursor.decode(cursor);
+	    List<Map<String, Object>> rows = gather(() -> lawyerRepo.findProjectedAfter(projection, status,
+	            status == null ? domain : null, afterID, pageSize + 1),
+	            Comparator.comparing(row -> (String) row.get("lawyerID")), pageSize + 1);
+
+	    // Same not-found rules as the full view: only the domain listing may be empty
+	    if (rows.isEmpty() && cursor == null && domain == null) {
+	        throw new LawyerDetailsNotFoundException(status != null ? "No Active Lawyer Details Found" : "No Lawyer Details Found");
+	    }
+	    return toPage(rows, pageSize, row -> (String) row.get("lawyerID"));
+	}
+
+	/**
+	 * Reduces a lawyer record to a sparse fieldset; used for records served from the near cache.
+	 *
+	 * @param lawyer The lawyer record.
+	 * @param fields Comma-separated LawyerRecord field names; lawyerID is always included.
+	 * @return The requested fields of the record by name.
+	 */
+	@Override
+	public Map<String, Object> getLawyerFields(LawyerRecord lawyer, String fields) {
+	    return lawyerProjections.resolve(fields).toRow(lawyer);
+	}
+
+
+	/**
+	 * Retrieves the version of the lawyer collection from the change log on the primary.
+	 *
+	 * @return The current collection version.
+	 */
+	@Override
+	public String getCollectionVersion() {
+	    return collectionVersion.current();
+	}
+
+
+	/**
+	 * Opens a change stream, served from the change feed's ring buffer or, for consumers that have fallen
+	 * behind it, from the persisted change log.
+	 *
+	 * @param since The sequence of the last change the consumer has seen, or null to receive only new changes.
+	 * @return The emitter streaming the changes.
+	 * @throws IllegalArgumentException if since is negative.
+	 */
+	@Override
+	public SseEmitter streamChanges(Long since) {
+	    if (since != null && since < 0) {
+	        throw new IllegalArgumentException("since must not be negative");
+	    }
+	    return lawyerChangeFeed.subscribe(since);
+	}
+
+	/**
+	 * Aggregates a metric per group from the analytics snapshot.
+	 *
+	 * @param by The grouping: domain, status or experience.
+	 * @param metric The metric name.
+	 * @param band Width of the experience bands in years.
+	 * @param filter Rows to include.
+	 * @return Count, sum, mean, min and max of the metric per non-empty group.
+	 */
+	@Override
+	public List<AnalyticsGroup> getAnalyticsGroups(String by, String metric, int band, AnalyticsFilter filter) {
+	    return lawyerSnapshot.groupBy(ColumnarLawyers.GroupBy.from(by), band, ColumnarLawyers.Metric.from(metric), filter);
+	}
+
+	/**
+	 * Counts lawyers per value range of a metric from the analytics snapshot.
+	 *
+	 * @param metric The metric name.
+	 * @param width Bucket width in the metric's unit.
+	 * @param filter Rows to include.
+	 * @return Counts of the non-empty buckets in ascending order.
+	 */
+	@Override
+	public Map<String, Long> getAnalyticsHistogram(String metric, double width, AnalyticsFilter filter) {
+	    return lawyerSnapshot.histogram(ColumnarLawyers.Metric.from(metric), width, filter);
+	}
+
+	/**
+	 * Computes percentiles of a metric from the analytics snapshot.
+	 *
+	 * @param metric The metric name.
+	 * @param percentiles Fractions between 0 and 1.
+	 * @param filter Rows to include.
+	 * @return The value at each percentile keyed by label.
+	 */
+	@Override
+	public Map<String, Double> getAnalyticsPercentiles(String metric, List<Double> percentiles, AnalyticsFilter filter) {
+	    if (percentiles == null || percentiles.isEmpty()) {
+	        throw new IllegalArgumentException("Specify at least one percentile");
+	    }
+	    double[] values = percentiles.stream().mapToDouble(Double::doubleValue).toArray();
+	    return lawyerSnapshot.percentiles(ColumnarLawyers.Metric.from(metric), values, filter);
+	}
+
+	/**
+	 * @return Row count and heap footprint of the analytics snapshot.
+	 */
+	@Override
+	public SnapshotStatistics getSnapshotStatistics() {
+	    return lawyerSnapshot.statistics();
+	}
 }
@@ -0,0 +1,131 @@
+package com.pro.lrms.sharding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Global secondary index from license number to lawyer ID, kept on the home shard.
+ * <p>
+ * Records are placed by lawyer ID, so without it a lookup by license number would have to ask every shard.
+ * It also keeps license numbers unique across shards: a new record claims its license here, where the primary
+ * key rejects a second claim, before it is written to its own shard. The index is written outside the JPA
+ * transactions (each statement commits on its own), so it may briefly name a record that is not written yet or
+ * was just deleted; readers check the record they find.
+ */
+public class LicenseIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(LicenseIndex.class);
+
+    static final String TABLE = "lawyerlicenseindex";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate home;
+
+    LicenseIndex(DataSource home) {
+        this.home = new JdbcTemplate(home);
+    }
+
+    /**
+     * @param license The license number.
+     * @return The ID of the lawyer holding it, or null if no lawyer does.
+     */
+    public String find(String license) {
+        List<String> ids = home.queryForList("SELECT lawyerid FROM " + TABLE + " WHERE lawyerlicense = ?", String.class, license);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    /**
+     * Claims a license number for a lawyer.
+     *
+     * @param license The license number.
+     * @param lawyerID The lawyer ID.
+     * @throws org.springframework.dao.DuplicateKeyException if another lawyer holds the license.
+     */
+    public void put(String license, String lawyerID) {
+        home.update("INSERT INTO " + TABLE + " (lawyerlicense, lawyerid) VALUES (?, ?)", license, lawyerID);
+    }
+
+    /**
+     * Claims many license numbers with one JDBC batch.
+     *
+     * @param licenses License number to lawyer ID.
+     * @throws org.springframework.dao.DuplicateKeyException if another lawyer holds one of the licenses.
+     */
+    public void putAll(Map<String, String> licenses) {
+        List<Object[]> rows = new ArrayList<>(licenses.size());
+        licenses.forEach((license, lawyerID) -> rows.add(new Object[] { license, lawyerID }));
+        home.batchUpdate("INSERT INTO " + TABLE + " (lawyerlicense, lawyerid) VALUES (?, ?)", rows);
+    }
+
+    /**
+     * Releases a license number, if the given lawyer still holds it.
+     *
+     * @param license The license number.
+     * @param lawyerID The lawyer ID.
+     */
+    public void remove(String license, String lawyerID) {
+        home.update("DELETE FROM " + TABLE + " WHERE lawyerlicense = ? AND lawyerid = ?", license, lawyerID);
+    }
+
+    /**
+     * Releases many license numbers with one JDBC batch.
+     *
+     * @param licenses License number to lawyer ID.
+     */
+    public void removeAll(Map<String, String> licenses) {
+        List<Object[]> rows = new ArrayList<>(licenses.size());
+        licenses.forEach((license, lawyerID) -> rows.add(new Object[] { license, lawyerID }));
+        home.batchUpdate("DELETE FROM " + TABLE + " WHERE lawyerlicense = ? AND lawyerid = ?", rows);
+    }
+
+    /**
+     * Creates the index table on the home shard if it does not exist yet.
+     */
+    void createTable() {
+        home.execute("CREATE TABLE IF NOT EXISTS " + TABLE
+                + " (lawyerlicense VARCHAR(255) PRIMARY KEY, lawyerid VARCHAR(255) NOT NULL)");
+    }
+
+    /**
+     * Fills an empty index from a scan of every shard, e.g. the first time an existing database is sharded.
+     *
+     * @param shards The shards to scan.
+     */
+    void buildIfEmpty(ShardedDataSource shards) {
+        Long entries = home.queryForObject("SELECT COUNT(*) FROM " + TABLE, Long.class);
+        if (entries != null && entries > 0) {
+            return;
+        }
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        long[] built = { 0 };
+        for (int shard = 0; shard < shards.size(); shard++) {
+            JdbcTemplate source = new JdbcTemplate(shards.shard(shard));
+            source.setFetchSize(BATCH_SIZE);
+            source.query("SELECT lawyerlicense, lawyerid FROM lawyerrecord WHERE lawyerlicense IS NOT NULL", rs -> {
+                batch.add(new Object[] { rs.getString(1), rs.getString(2) });
+                if (batch.size() == BATCH_SIZE) {
+                    built[0] += insert(batch);
+                }
+            });
+        }
+        built[0] += insert(batch);
+        if (built[0] > 0) {
+            log.info("License index built from {} lawyers across {} shards", built[0], shards.size());
+        }
+    }
+
+    private int insert(List<Object[]> batch) {
+        int size = batch.size();
+        if (size > 0) {
+            home.batchUpdate("INSERT INTO " + TABLE + " (lawyerlicense, lawyerid) VALUES (?, ?)", batch);
+            batch.clear();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,82 @@
+package com.pro.lrms.sharding;
+
+import java.util.Locale;
+import org.hibernate.SessionFactory;
+import org.hibernate.relational.SchemaManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Prepares the schema of every shard once the application context is built, before the startup scans run.
+ * <p>
+ * Hibernate applies spring.jpa.hibernate.ddl-auto to the connection it starts with, which is the home shard;
+ * this applies the same action to the other shards through Hibernate's SchemaManager: create and create-drop
+ * recreate the mapped tables, update creates them on a shard that has none, validate validates them. With the
+ * Flyway migrations (the prod profile) every shard has already been migrated by MigrationConfiguration.
+ * Finally the license index table is created on the home shard, and filled from the shards if it is empty.
+ */
+public class ShardSchema implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardSchema.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ShardedDataSource dataSource;
+    private final LicenseIndex licenseIndex;
+
+    ShardSchema(EntityManagerFactory entityManagerFactory, ShardedDataSource dataSource, LicenseIndex licenseIndex) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.dataSource = dataSource;
+        this.licenseIndex = licenseIndex;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Object setting = entityManagerFactory.getProperties().get("hibernate.hbm2ddl.auto");
+        String action = setting == null ? "none" : setting.toString().trim().toLowerCase(Locale.ROOT);
+        SchemaManager schema = entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager();
+
+        Integer previous = ShardedDataSource.current();
+        try {
+            for (int shard = 1; shard < dataSource.size(); shard++) {
+                ShardedDataSource.route(shard);
+                switch (action) {
+                    case "create", "create-drop" -> {
+                        schema.dropMappedObjects(false);
+                        schema.exportMappedObjects(false);
+                    }
+                    case "create-only" -> schema.exportMappedObjects(false);
+                    case "update" -> {
+                        // Later changes to an existing shard's tables are applied by the Flyway migrations
+                        if (!hasLawyerTable(shard)) {
+                            log.info("Creating the lawyer tables on shard {}", shard);
+                            schema.exportMappedObjects(false);
+                        }
+                    }
+                    case "validate" -> schema.validateMappedObjects();
+                    default -> {
+                        // none: the schema is managed outside the application
+                    }
+                }
+            }
+        } finally {
+            ShardedDataSource.route(previous);
+        }
+
+        licenseIndex.createTable();
+        licenseIndex.buildIfEmpty(dataSource);
+        log.info("Sharding lawyer records across {} databases", dataSource.size());
+    }
+
+    private boolean hasLawyerTable(int shard) {
+        try {
+            new JdbcTemplate(dataSource.shard(shard)).queryForList("SELECT 1 FROM lawyerrecord WHERE 1 = 0");
+            return true;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.pro.lrms.sharding;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * The application DataSource in sharding mode: hands out connections of the shard selected for the current
+ * thread by {@link Shards}, or of the home shard (shard 0) when none is selected.
+ * <p>
+ * The shard is chosen when a connection is taken, which for JPA is when a transaction begins, so it must be
+ * selected before the transaction starts; Shards refuses to switch shards inside one. Everything that is not
+ * routed explicitly, such as the change log, runs on the home shard.
+ */
+public class ShardedDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private final List<DataSource> shards;
+    private final List<HikariDataSource> opened;
+
+    /**
+     * @param home The home shard, shard 0: the pool configured by spring.datasource.
+     * @param others Shards 1 to N-1, in configuration order; they are closed with this DataSource.
+     */
+    public ShardedDataSource(DataSource home, List<HikariDataSource> others) {
+        List<DataSource> list = new ArrayList<>(others.size() + 1);
+        list.add(home);
+        list.addAll(others);
+        this.shards = List.copyOf(list);
+        this.opened = List.copyOf(others);
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(home);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return The number of shards, including the home shard.
+     */
+    public int size() {
+        return shards.size();
+    }
+
+    /**
+     * @param shard The shard index.
+     * @return The DataSource of that shard, bypassing routing.
+     */
+    public DataSource shard(int shard) {
+        return shards.get(shard);
+    }
+
+    /**
+     * @return The shard selected for the current thread, or null for the home shard by default.
+     */
+    static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Selects the shard for connections taken by the current thread.
+     *
+     * @param shard The shard index, or null to fall back to the home shard.
+     */
+    static void route(Integer shard) {
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+    }
+
+    /**
+     * Closes the pools of shards 1 to N-1; the home pool is a bean of its own.
+     */
+    public void close() {
+        opened.forEach(HikariDataSource::close);
+    }
+}
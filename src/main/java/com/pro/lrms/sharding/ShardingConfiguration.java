@@ -0,0 +1,68 @@
+package com.pro.lrms.sharding;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hash sharding, enabled by listing the URLs of the additional shards in lrms.sharding.shard-urls.
+ * <p>
+ * The database configured by spring.datasource is the home shard, shard 0; the listed databases are shards 1
+ * to N-1. Lawyer records are spread over all of them by {@link Shards}; the change log and the license index stay
+ * on the home shard. The application DataSource is a {@link ShardedDataSource}, so it replaces the read/write
+ * routing of lrms.datasource.replica-urls, which cannot be enabled at the same time.
+ */
+@Configuration
+@ConditionalOnProperty("lrms.sharding.shard-urls")
+public class ShardingConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource homeShardDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("shard-0");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    public ShardedDataSource dataSource(HikariDataSource homeShardDataSource, MeterRegistry meterRegistry,
+                                        @Value("${lrms.sharding.shard-urls}") List<String> urls,
+                                        @Value("${lrms.sharding.username:${spring.datasource.username:}}") String username,
+                                        @Value("${lrms.sharding.password:${spring.datasource.password:}}") String password,
+                                        @Value("${lrms.sharding.pool-size:10}") int poolSize) {
+        List<HikariDataSource> shards = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource shard = new HikariDataSource();
+            shard.setPoolName("shard-" + (i + 1));
+            shard.setJdbcUrl(urls.get(i).trim());
+            shard.setUsername(username);
+            shard.setPassword(password);
+            shard.setMaximumPoolSize(poolSize);
+            shard.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            shards.add(shard);
+        }
+        return new ShardedDataSource(homeShardDataSource, shards);
+    }
+
+    @Bean
+    public LicenseIndex licenseIndex(HikariDataSource homeShardDataSource) {
+        return new LicenseIndex(homeShardDataSource);
+    }
+
+    @Bean
+    public ShardSchema shardSchema(EntityManagerFactory entityManagerFactory, ShardedDataSource dataSource,
+                                   LicenseIndex licenseIndex) {
+        return new ShardSchema(entityManagerFactory, dataSource, licenseIndex);
+    }
+}
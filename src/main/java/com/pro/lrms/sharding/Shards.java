@@ -0,0 +1,240 @@
+package com.pro.lrms.sharding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Places lawyer records on shards and runs work against one shard or all of them.
+ * <p>
+ * Present in every mode: without lrms.sharding.shard-urls there is a single shard, the work runs inline on the
+ * caller's thread and nothing changes. With it, a record lives on the shard given by a hash of its lawyer ID,
+ * point operations run against that shard only, and queries over the whole collection are scattered to every
+ * shard in parallel, one virtual thread per shard, and their results gathered by the caller.
+ * <p>
+ * The shard is selected per thread and decides which database the next transaction connects to, so callers
+ * select it first and start their transaction inside the work, never the other way round.
+ */
+@Component
+public class Shards implements AutoCloseable {
+
+    private final ShardedDataSource dataSource;
+    private final LicenseIndex licenses;
+    private final ExecutorService gather;
+    private final int count;
+
+    private final List<Counter> operations;
+    private final Timer scatterTimer;
+
+    public Shards(ObjectProvider<ShardedDataSource> dataSource, ObjectProvider<LicenseIndex> licenses, MeterRegistry meterRegistry) {
+        this.dataSource = dataSource.getIfAvailable();
+        this.licenses = licenses.getIfAvailable();
+        this.count = this.dataSource == null ? 1 : this.dataSource.size();
+        this.gather = this.dataSource == null ? null
+                : Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("shard-gather-", 0).factory());
+
+        List<Counter> counters = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            counters.add(meterRegistry.counter("lrms.sharding.operations", "shard", Integer.toString(shard)));
+        }
+        this.operations = List.copyOf(counters);
+        this.scatterTimer = Timer.builder("lrms.sharding.scatter")
+                .description("Time to run a query on every shard and gather the results")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return true if records are spread over more than one database.
+     */
+    public boolean isSharded() {
+        return dataSource != null;
+    }
+
+    /**
+     * @return The number of shards; 1 when sharding is off.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * The shard of a lawyer record. The hash of a string is fixed by the Java language specification, so the
+     * placement is stable across restarts and JVMs; changing the number of shards moves records, which then
+     * have to be redistributed offline.
+     *
+     * @param lawyerID The lawyer ID.
+     * @return The index of the shard holding that lawyer.
+     */
+    public int shardOf(String lawyerID) {
+        if (count == 1) {
+            return 0;
+        }
+        // Murmur3 finaliser, so sequential IDs (LID001, LID002, ...) spread evenly instead of in runs
+        int hash = lawyerID.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash, count);
+    }
+
+    /**
+     * Runs work against one shard on the calling thread.
+     *
+     * @param shard The shard index.
+     * @param work The work; it starts its own transaction if it needs one.
+     * @return The result of the work.
+     * @throws IllegalStateException if the calling thread is in a transaction on another shard.
+     */
+    public <T> T onShard(int shard, Supplier<T> work) {
+        if (dataSource == null) {
+            return work.get();
+        }
+        Integer previous = ShardedDataSource.current();
+        int active = previous == null ? 0 : previous;
+        if (active != shard && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Cannot switch to shard " + shard + " inside a transaction on shard " + active);
+        }
+        ShardedDataSource.route(shard);
+        operations.get(shard).increment();
+        try {
+            return work.get();
+        } finally {
+            ShardedDataSource.route(previous);
+        }
+    }
+
+    /**
+     * Runs work against the shard of a lawyer record on the calling thread.
+     *
+     * @param lawyerID The lawyer ID.
+     * @param work The work; it starts its own transaction if it needs one.
+     * @return The result of the work.
+     */
+    public <T> T onShardOf(String lawyerID, Supplier<T> work) {
+        return onShard(shardOf(lawyerID), work);
+    }
+
+    /**
+     * Runs work against every shard in parallel and waits for all of them.
+     *
+     * @param work The work; it runs once per shard, on its own thread, and starts its own transaction.
+     * @return The result of each shard, by shard index.
+     * @throws RuntimeException the failure of the first shard that failed, once every shard has finished.
+     */
+    public <T> List<T> scatter(Supplier<T> work) {
+        if (dataSource == null) {
+            return Collections.singletonList(work.get());
+        }
+        Timer.Sample sample = Timer.start();
+        List<CompletableFuture<T>> parts = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            int target = shard;
+            parts.add(CompletableFuture.supplyAsync(() -> onShard(target, work), gather));
+        }
+        try {
+            CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).join();
+            return parts.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException failure) {
+                throw failure;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        } finally {
+            sample.stop(scatterTimer);
+        }
+    }
+
+    /**
+     * Runs work against every shard in turn on the calling thread, e.g. to stream every shard into one output.
+     *
+     * @param work The work; it runs once per shard and starts its own transaction.
+     */
+    public void forEachShard(Runnable work) {
+        for (int shard = 0; shard < count; shard++) {
+            onShard(shard, () -> {
+                work.run();
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Groups items by the shard of their lawyer ID, keeping their order within each shard.
+     *
+     * @param items The items.
+     * @param idOf Extracts the lawyer ID of an item.
+     * @return The items of each shard that has any, by shard index.
+     */
+    public <T> Map<Integer, List<T>> byShard(Collection<T> items, Function<T, String> idOf) {
+        Map<Integer, List<T>> groups = new TreeMap<>();
+        if (dataSource == null) {
+            if (!items.isEmpty()) {
+                groups.put(0, new ArrayList<>(items));
+            }
+            return groups;
+        }
+        for (T item : items) {
+            groups.computeIfAbsent(shardOf(idOf.apply(item)), shard -> new ArrayList<>()).add(item);
+        }
+        return groups;
+    }
+
+    /**
+     * Merges the results gathered from the shards into one ordered list.
+     *
+     * @param parts The result of each shard.
+     * @param order The order of the merged list; each shard's part need not be sorted.
+     * @param limit The maximum number of rows to keep.
+     * @return The first limit rows of all parts in the given order; a single part is returned as it is, up to limit.
+     */
+    public static <T> List<T> merge(List<List<T>> parts, Comparator<? super T> order, int limit) {
+        if (parts.size() == 1) {
+            List<T> only = parts.get(0);
+            return only.size() <= limit ? only : only.subList(0, limit);
+        }
+        List<T> merged = new ArrayList<>();
+        parts.stream().filter(Objects::nonNull).forEach(merged::addAll);
+        merged.sort(order);
+        return merged.size() <= limit ? merged : new ArrayList<>(merged.subList(0, limit));
+    }
+
+    /**
+     * @return The global license number index on the home shard.
+     * @throws IllegalStateException if sharding is off; the lawyer table's own index serves then.
+     */
+    public LicenseIndex licenses() {
+        if (licenses == null) {
+            throw new IllegalStateException("The license index only exists when sharding is enabled");
+        }
+        return licenses;
+    }
+
+    @Override
+    public void close() {
+        if (gather != null) {
+            gather.shutdown();
+        }
+    }
+}
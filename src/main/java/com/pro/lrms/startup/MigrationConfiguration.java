@@ -0,0 +1,41 @@
+package com.pro.lrms.startup;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.pro.lrms.sharding.ShardedDataSource;
+
+/**
+ * Applies the Flyway migrations in db/migration when Flyway is enabled (the prod profile). Setting
+ * lrms.startup.migrate=false skips them; the class-data sharing training run in the prod Maven build uses this
+ * to start without a database, because AOT fixes the Flyway beans at build time and spring.flyway.enabled can
+ * no longer remove them. In sharding mode Flyway's own DataSource is the home shard, and the same migrations are
+ * then applied to each of the other shards.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MigrationConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(MigrationConfiguration.class);
+
+    @Bean
+    FlywayMigrationStrategy migrationStrategy(@Value("${lrms.startup.migrate:true}") boolean migrate,
+                                              ObjectProvider<ShardedDataSource> shards) {
+        return flyway -> {
+            if (migrate) {
+                flyway.migrate();
+                ShardedDataSource sharded = shards.getIfAvailable();
+                for (int shard = 1; sharded != null && shard < sharded.size(); shard++) {
+                    log.info("Migrating shard {}", shard);
+                    Flyway.configure().configuration(flyway.getConfiguration()).dataSource(sharded.shard(shard)).load().migrate();
+                }
+            } else {
+                log.info("Skipping database migrations (lrms.startup.migrate=false)");
+            }
+        };
+    }
+}
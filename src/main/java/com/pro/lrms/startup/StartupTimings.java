@@ -0,0 +1,80 @@
+package com.pro.lrms.startup;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Reports how long the application took to become ready and to serve its first request. Both are measured
+ * from JVM start rather than from SpringApplication.run, so class loading before the context exists (the part
+ * a class-data sharing archive speeds up) is included. Each is logged once and published as the
+ * lrms.startup.ready and lrms.startup.first-request gauges, which makes a fast-startup launch (see the prod
+ * Maven profile) directly comparable with a plain one.
+ */
+@Component
+public class StartupTimings extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimings.class);
+
+    private volatile long readyMillis = -1;
+    private volatile long firstRequestMillis = -1;
+    private final AtomicBoolean firstRequestSeen = new AtomicBoolean();
+
+    public StartupTimings(MeterRegistry meterRegistry) {
+        TimeGauge.builder("lrms.startup.ready", this, TimeUnit.MILLISECONDS, timings -> orNaN(timings.readyMillis))
+                .description("Time from JVM start until the application was ready")
+                .register(meterRegistry);
+        TimeGauge.builder("lrms.startup.first-request", this, TimeUnit.MILLISECONDS, timings -> orNaN(timings.firstRequestMillis))
+                .description("Time from JVM start until the first request was served")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        readyMillis = uptimeMillis();
+        log.info("Ready {} ms after JVM start ({} ms in SpringApplication.run; AOT {}, application CDS archive {})",
+                readyMillis, event.getTimeTaken().toMillis(),
+                AotDetector.useGeneratedArtifacts() ? "on" : "off", sharedArchive() ? "on" : "off");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (firstRequestMillis < 0 && firstRequestSeen.compareAndSet(false, true)) {
+                firstRequestMillis = uptimeMillis();
+                log.info("First request ({} {}) served {} ms after JVM start",
+                        request.getMethod(), request.getRequestURI(), firstRequestMillis);
+            }
+        }
+    }
+
+    private static long uptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+
+    private static boolean sharedArchive() {
+        return ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .anyMatch(argument -> argument.startsWith("-XX:SharedArchiveFile"));
+    }
+
+    private static double orNaN(long millis) {
+        return millis < 0 ? Double.NaN : millis;
+    }
+}
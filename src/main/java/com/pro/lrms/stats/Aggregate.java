@@ -0,0 +1,88 @@
+package com.pro.lrms.stats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.pro.lrms.dto.GroupStatistics;
+
+/**
+ * Running aggregates for one group of lawyers. Win ratios are kept in a 101-bin histogram (0.00 to 1.00)
+ * so percentiles can be read in constant time without keeping individual values.
+ */
+class Aggregate {
+
+    private static final int WIN_RATIO_BINS = 101;
+
+    /**
+     * Lower bounds (in years) of the experience bands.
+     */
+    private static final int[] EXPERIENCE_BANDS = {0, 1, 3, 5, 10, 15, 20, 30};
+
+    private long count;
+    private long totalCases;
+    private double winRatioSum;
+    private final long[] winRatioBins = new long[WIN_RATIO_BINS];
+    private final long[] experienceBins = new long[EXPERIENCE_BANDS.length];
+
+    /**
+     * Adds (sign = 1) or removes (sign = -1) one lawyer.
+     */
+    synchronized void apply(int sign, int cases, int experience, float winRatio) {
+        double effective = effectiveWinRatio(cases, winRatio);
+        count += sign;
+        totalCases += (long) sign * cases;
+        winRatioSum += sign * effective;
+        winRatioBins[winRatioBin(effective)] += sign;
+        experienceBins[experienceBand(experience)] += sign;
+    }
+
+    synchronized boolean isEmpty() {
+        return count <= 0;
+    }
+
+    synchronized GroupStatistics snapshot(String group) {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int b = 0; b < EXPERIENCE_BANDS.length; b++) {
+            String label = b + 1 < EXPERIENCE_BANDS.length
+                    ? EXPERIENCE_BANDS[b] + "-" + (EXPERIENCE_BANDS[b + 1] - 1)
+                    : EXPERIENCE_BANDS[b] + "+";
+            histogram.put(label, experienceBins[b]);
+        }
+        return new GroupStatistics(group, count, totalCases, count == 0 ? 0 : winRatioSum / count,
+                percentile(0.50), percentile(0.90), percentile(0.99), histogram);
+    }
+
+    private double percentile(double p) {
+        if (count <= 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(p * count);
+        long seen = 0;
+        for (int bin = 0; bin < WIN_RATIO_BINS; bin++) {
+            seen += winRatioBins[bin];
+            if (seen >= rank) {
+                return bin / 100.0;
+            }
+        }
+        return 1.0;
+    }
+
+    /**
+     * Same rule as the lawyer summary query: a lawyer with no cases has a win ratio of 0.
+     */
+    private static double effectiveWinRatio(int cases, float winRatio) {
+        return cases > 0 ? winRatio : 0;
+    }
+
+    private static int winRatioBin(double winRatio) {
+        return (int) Math.max(0, Math.min(WIN_RATIO_BINS - 1, Math.round(winRatio * 100)));
+    }
+
+    private static int experienceBand(int experience) {
+        for (int b = EXPERIENCE_BANDS.length - 1; b > 0; b--) {
+            if (experience >= EXPERIENCE_BANDS[b]) {
+                return b;
+            }
+        }
+        return 0;
+    }
+}
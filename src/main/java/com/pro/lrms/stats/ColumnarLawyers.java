@@ -0,0 +1,610 @@
+package com.pro.lrms.stats;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+import com.pro.lrms.dto.AnalyticsFilter;
+import com.pro.lrms.dto.AnalyticsGroup;
+
+/**
+ * Column store of the lawyer metrics used by the analytics queries.
+ * <p>
+ * Each lawyer is one row across primitive arrays: case count, experience and win ratio as int/int/float, domain
+ * and status as one-byte codes into small dictionaries, and the row version the values were read at. Rows are
+ * located by a 64-bit hash of the lawyer ID in an open-addressing index, so no String or boxed value is kept per
+ * row: about 40 bytes per lawyer in total.
+ * Queries are single passes over the arrays, split into chunks that run in parallel for large snapshots.
+ * <p>
+ * Not thread-safe: LawyerSnapshot guards it with a read/write lock.
+ */
+public class ColumnarLawyers {
+
+    /**
+     * Rows per parallel chunk; smaller snapshots are scanned on the calling thread.
+     */
+    private static final int CHUNK = 1 << 16;
+
+    /**
+     * Win ratios are binned to hundredths for histograms and percentiles, as in /stats.
+     */
+    private static final int WIN_RATIO_BINS = 101;
+
+    /**
+     * Upper bound on bins of the integer metrics; larger values share the last bin.
+     */
+    private static final int MAX_VALUE_BINS = 1 << 20;
+
+    /**
+     * Aggregated metric, named after the LawyerRecord property.
+     */
+    public enum Metric {
+        CASES("laywerCase"),
+        EXPERIENCE("lawyerExperienece"),
+        WIN_RATIO("lawyerWinRatio");
+
+        private final String property;
+
+        Metric(String property) {
+            this.property = property;
+        }
+
+        /**
+         * @throws IllegalArgumentException if the name is not a supported metric.
+         */
+        public static Metric from(String name) {
+            for (Metric metric : values()) {
+                if (metric.property.equalsIgnoreCase(name)) {
+                    return metric;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported metric: " + name + " (expected laywerCase, lawyerExperienece or lawyerWinRatio)");
+        }
+    }
+
+    /**
+     * Grouping of the group-by query.
+     */
+    public enum GroupBy {
+        DOMAIN,
+        STATUS,
+        EXPERIENCE;
+
+        /**
+         * @throws IllegalArgumentException if the name is not a supported grouping.
+         */
+        public static GroupBy from(String name) {
+            try {
+                return valueOf(name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported grouping: " + name + " (expected domain, status or experience)");
+            }
+        }
+    }
+
+    /**
+     * Maps domain or status strings to one-byte codes. Values beyond the 255th share the last code.
+     */
+    private static final class Dictionary {
+        private static final String NONE = "(none)";
+        private static final String OTHER = "(other)";
+        private static final int MAX_CODES = 256;
+
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+
+        byte code(String value) {
+            String key = value == null ? NONE : value;
+            Integer code = codes.get(key);
+            if (code == null) {
+                if (values.size() == MAX_CODES - 1) {
+                    values.add(OTHER);
+                }
+                if (values.size() >= MAX_CODES) {
+                    return (byte) (MAX_CODES - 1);
+                }
+                code = values.size();
+                values.add(key);
+                codes.put(key, code);
+            }
+            return (byte) (int) code;
+        }
+
+        String value(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        /**
+         * @return Codes whose value equals the given one, ignoring case; null to match every code.
+         */
+        boolean[] mask(String value) {
+            if (value == null) {
+                return null;
+            }
+            boolean[] mask = new boolean[MAX_CODES];
+            for (int code = 0; code < values.size(); code++) {
+                mask[code] = values.get(code).equalsIgnoreCase(value);
+            }
+            return mask;
+        }
+
+        long estimatedBytes() {
+            long bytes = 64;
+            for (String value : values) {
+                bytes += 96 + value.length();
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * A compiled AnalyticsFilter; any is false when no filter is set, so scans skip the checks.
+     */
+    private record Filter(boolean any, boolean[] domains, boolean[] statuses, int minExperience, int maxExperience,
+                          int minCases, int maxCases, float minWinRatio, float maxWinRatio) {
+    }
+
+    /**
+     * Per-group partial results of the group-by query; merged across chunks.
+     */
+    private static final class Groups {
+        final long[] count;
+        final double[] sum;
+        final double[] min;
+        final double[] max;
+
+        Groups(int groups) {
+            count = new long[groups];
+            sum = new double[groups];
+            min = new double[groups];
+            max = new double[groups];
+            Arrays.fill(min, Double.POSITIVE_INFINITY);
+            Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        }
+
+        Groups merge(Groups other) {
+            for (int g = 0; g < count.length; g++) {
+                count[g] += other.count[g];
+                sum[g] += other.sum[g];
+                min[g] = Math.min(min[g], other.min[g]);
+                max[g] = Math.max(max[g], other.max[g]);
+            }
+            return this;
+        }
+    }
+
+    private int size;
+    private int[] cases;
+    private int[] experience;
+    private float[] winRatio;
+    private byte[] domain;
+    private byte[] status;
+    private long[] idHash;
+    private long[] version;
+
+    private final Dictionary domains = new Dictionary();
+    private final Dictionary statuses = new Dictionary();
+    private int maxCases;
+    private int maxExperience;
+
+    /**
+     * Open-addressing index by lawyer ID hash, holding row + 1 (0 marks an empty slot); the hash itself is
+     * read from idHash, so each slot costs four bytes.
+     */
+    private int[] index;
+
+    public ColumnarLawyers(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        cases = new int[capacity];
+        experience = new int[capacity];
+        winRatio = new float[capacity];
+        domain = new byte[capacity];
+        status = new byte[capacity];
+        idHash = new long[capacity];
+        version = new long[capacity];
+        index = new int[Integer.highestOneBit(capacity - 1) << 2];
+    }
+
+    /**
+     * @return The number of lawyers in the snapshot.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if the lawyer is in the snapshot.
+     */
+    public boolean contains(String lawyerID) {
+        return find(hash(lawyerID)) >= 0;
+    }
+
+    /**
+     * Adds a lawyer, or replaces the row of a lawyer already present.
+     * The win ratio of a lawyer with no cases is stored as 0, the rule the summary and /stats use.
+     */
+    public void put(String lawyerID, long rowVersion, String lawyerDomain, String lawyerStatus, int caseCount, int years,
+                    float ratio) {
+        long hash = hash(lawyerID);
+        int row = find(hash);
+        if (row < 0) {
+            if (size == cases.length) {
+                grow();
+            }
+            row = size++;
+            idHash[row] = hash;
+            insert(hash, row);
+        }
+        version[row] = rowVersion;
+        cases[row] = caseCount;
+        experience[row] = years;
+        winRatio[row] = caseCount > 0 ? ratio : 0;
+        domain[row] = domains.code(lawyerDomain);
+        status[row] = statuses.code(lawyerStatus);
+        maxCases = Math.max(maxCases, caseCount);
+        maxExperience = Math.max(maxExperience, years);
+    }
+
+    /**
+     * Changes the status of a lawyer, unless its row is already at the same or a newer version.
+     *
+     * @return false if the lawyer is not in the snapshot or the change is not newer than its row.
+     */
+    public boolean setStatus(String lawyerID, String lawyerStatus, long rowVersion) {
+        int row = find(hash(lawyerID));
+        if (row < 0 || version[row] >= rowVersion) {
+            return false;
+        }
+        version[row] = rowVersion;
+        status[row] = statuses.code(lawyerStatus);
+        return true;
+    }
+
+    /**
+     * Removes a lawyer; the last row is moved into its place.
+     *
+     * @return false if the lawyer is not in the snapshot.
+     */
+    public boolean remove(String lawyerID) {
+        long hash = hash(lawyerID);
+        int row = find(hash);
+        if (row < 0) {
+            return false;
+        }
+        delete(hash);
+        int last = --size;
+        if (row != last) {
+            index[slot(idHash[last])] = row + 1;
+            cases[row] = cases[last];
+            experience[row] = experience[last];
+            winRatio[row] = winRatio[last];
+            domain[row] = domain[last];
+            status[row] = status[last];
+            idHash[row] = idHash[last];
+            version[row] = version[last];
+        }
+        return true;
+    }
+
+    /**
+     * @return Heap held by the arrays, the index and the dictionaries, in bytes.
+     */
+    public long estimatedBytes() {
+        long perRow = 4L + 4 + 4 + 1 + 1 + 8 + 8;
+        return cases.length * perRow + index.length * 4L + domains.estimatedBytes() + statuses.estimatedBytes();
+    }
+
+    public int domainCount() {
+        return domains.size();
+    }
+
+    public int statusCount() {
+        return statuses.size();
+    }
+
+    /**
+     * Count, sum, mean, min and max of a metric per group.
+     *
+     * @param by The grouping.
+     * @param band Width of the experience bands in years, for EXPERIENCE grouping.
+     * @param metric The aggregated metric.
+     * @param filter Rows to include.
+     * @return One entry per non-empty group, in dictionary or band order.
+     */
+    public List<AnalyticsGroup> groupBy(GroupBy by, int band, Metric metric, AnalyticsFilter filter) {
+        if (band <= 0) {
+            throw new IllegalArgumentException("band must be positive");
+        }
+        Filter compiled = compile(filter);
+        int groups = switch (by) {
+            case DOMAIN, STATUS -> Dictionary.MAX_CODES;
+            case EXPERIENCE -> Math.min(MAX_VALUE_BINS, Math.max(0, maxExperience) / band + 1);
+        };
+        Groups result = chunks().mapToObj(c -> accumulate(c, by, band, metric, compiled, new Groups(groups)))
+                .reduce(Groups::merge).orElseGet(() -> new Groups(groups));
+
+        List<AnalyticsGroup> entries = new ArrayList<>();
+        for (int g = 0; g < groups; g++) {
+            long count = result.count[g];
+            if (count > 0) {
+                String label = switch (by) {
+                    case DOMAIN -> domains.value(g);
+                    case STATUS -> statuses.value(g);
+                    case EXPERIENCE -> (g * band) + "-" + (g * band + band - 1);
+                };
+                entries.add(new AnalyticsGroup(label, count, result.sum[g], result.sum[g] / count, result.min[g], result.max[g]));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Number of lawyers per value range of a metric.
+     *
+     * @param metric The metric.
+     * @param width Bucket width in the metric's unit; rounded to whole years or cases, or to hundredths of win ratio.
+     * @param filter Rows to include.
+     * @return Counts of the non-empty buckets in ascending order, labelled by their inclusive bounds (e.g., "5-9").
+     */
+    public Map<String, Long> histogram(Metric metric, double width, AnalyticsFilter filter) {
+        if (!(width > 0)) {
+            throw new IllegalArgumentException("width must be positive");
+        }
+        long[] bins = countBins(metric, compile(filter));
+        int binsPerBucket = (int) Math.max(1, Math.round(metric == Metric.WIN_RATIO ? width * 100 : width));
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        for (int from = 0; from < bins.length; from += binsPerBucket) {
+            long count = 0;
+            int to = Math.min(bins.length, from + binsPerBucket);
+            for (int bin = from; bin < to; bin++) {
+                count += bins[bin];
+            }
+            if (count > 0) {
+                buckets.put(binLabel(metric, from) + "-" + binLabel(metric, to - 1), count);
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * Nearest-rank percentiles of a metric; win ratios are resolved to hundredths.
+     *
+     * @param metric The metric.
+     * @param percentiles Fractions between 0 and 1, e.g. 0.5 and 0.99.
+     * @param filter Rows to include.
+     * @return The value at each percentile, keyed by its label (e.g., "p99"); empty if no row matches.
+     */
+    public Map<String, Double> percentiles(Metric metric, double[] percentiles, AnalyticsFilter filter) {
+        for (double p : percentiles) {
+            if (!(p > 0 && p <= 1)) {
+                throw new IllegalArgumentException("Percentiles must be between 0 (exclusive) and 1");
+            }
+        }
+        long[] bins = countBins(metric, compile(filter));
+        long total = Arrays.stream(bins).sum();
+        Map<String, Double> result = new LinkedHashMap<>();
+        if (total == 0) {
+            return result;
+        }
+        for (double p : percentiles) {
+            long rank = (long) Math.ceil(p * total);
+            long seen = 0;
+            int bin = 0;
+            while (bin < bins.length - 1 && (seen += bins[bin]) < rank) {
+                bin++;
+            }
+            result.put("p" + percentLabel(p), metric == Metric.WIN_RATIO ? bin / 100.0 : bin);
+        }
+        return result;
+    }
+
+    private IntStream chunks() {
+        int chunks = (size + CHUNK - 1) / CHUNK;
+        IntStream range = IntStream.range(0, chunks);
+        return chunks > 1 ? range.parallel() : range;
+    }
+
+    private Groups accumulate(int chunk, GroupBy by, int band, Metric metric, Filter filter, Groups groups) {
+        // Loop-invariant choices and array references are taken once, so the loop body is plain array arithmetic
+        byte[] codes = by == GroupBy.DOMAIN ? domain : by == GroupBy.STATUS ? status : null;
+        int[] ints = metric == Metric.CASES ? cases : metric == Metric.EXPERIENCE ? experience : null;
+        float[] ratios = winRatio;
+        int[] years = experience;
+        long[] count = groups.count;
+        double[] sum = groups.sum;
+        double[] min = groups.min;
+        double[] max = groups.max;
+        int lastGroup = count.length - 1;
+        int to = Math.min(size, (chunk + 1) * CHUNK);
+        int from = chunk * CHUNK;
+        if (ints != null) {
+            // Integer metrics are summed as longs, which avoids floating-point add latency in the per-group chains
+            long[] intSum = new long[count.length];
+            int[] intMin = new int[count.length];
+            int[] intMax = new int[count.length];
+            Arrays.fill(intMin, Integer.MAX_VALUE);
+            Arrays.fill(intMax, Integer.MIN_VALUE);
+            for (int i = from; i < to; i++) {
+                if (filter.any() && !matches(filter, i)) {
+                    continue;
+                }
+                int g = codes != null ? codes[i] & 0xFF : Math.min(lastGroup, Math.max(0, years[i]) / band);
+                int value = ints[i];
+                count[g]++;
+                intSum[g] += value;
+                intMin[g] = Math.min(intMin[g], value);
+                intMax[g] = Math.max(intMax[g], value);
+            }
+            for (int g = 0; g <= lastGroup; g++) {
+                if (count[g] > 0) {
+                    sum[g] = intSum[g];
+                    min[g] = intMin[g];
+                    max[g] = intMax[g];
+                }
+            }
+            return groups;
+        }
+        for (int i = from; i < to; i++) {
+            if (filter.any() && !matches(filter, i)) {
+                continue;
+            }
+            int g = codes != null ? codes[i] & 0xFF : Math.min(lastGroup, Math.max(0, years[i]) / band);
+            double value = ratios[i];
+            count[g]++;
+            sum[g] += value;
+            min[g] = Math.min(min[g], value);
+            max[g] = Math.max(max[g], value);
+        }
+        return groups;
+    }
+
+    /**
+     * @return Row counts per metric value: one bin per year or case, or per hundredth of win ratio.
+     */
+    private long[] countBins(Metric metric, Filter filter) {
+        int bins = switch (metric) {
+            case CASES -> Math.min(MAX_VALUE_BINS, Math.max(0, maxCases) + 1);
+            case EXPERIENCE -> Math.min(MAX_VALUE_BINS, Math.max(0, maxExperience) + 1);
+            case WIN_RATIO -> WIN_RATIO_BINS;
+        };
+        int[] ints = metric == Metric.CASES ? cases : metric == Metric.EXPERIENCE ? experience : null;
+        float[] ratios = winRatio;
+        return chunks().mapToObj(chunk -> {
+            long[] counts = new long[bins];
+            int lastBin = bins - 1;
+            int to = Math.min(size, (chunk + 1) * CHUNK);
+            for (int i = chunk * CHUNK; i < to; i++) {
+                if (filter.any() && !matches(filter, i)) {
+                    continue;
+                }
+                int bin = ints != null ? ints[i] : Math.round(ratios[i] * 100);
+                counts[Math.max(0, Math.min(lastBin, bin))]++;
+            }
+            return counts;
+        }).reduce((a, b) -> {
+            for (int bin = 0; bin < bins; bin++) {
+                a[bin] += b[bin];
+            }
+            return a;
+        }).orElseGet(() -> new long[bins]);
+    }
+
+    private boolean matches(Filter filter, int i) {
+        return (filter.domains == null || filter.domains[domain[i] & 0xFF])
+                && (filter.statuses == null || filter.statuses[status[i] & 0xFF])
+                && experience[i] >= filter.minExperience && experience[i] <= filter.maxExperience
+                && cases[i] >= filter.minCases && cases[i] <= filter.maxCases
+                && winRatio[i] >= filter.minWinRatio && winRatio[i] <= filter.maxWinRatio;
+    }
+
+    private Filter compile(AnalyticsFilter filter) {
+        AnalyticsFilter f = filter == null ? new AnalyticsFilter() : filter;
+        boolean any = f.getDomain() != null || f.getStatus() != null || f.getMinExperience() != null || f.getMaxExperience() != null
+                || f.getMinCases() != null || f.getMaxCases() != null || f.getMinWinRatio() != null || f.getMaxWinRatio() != null;
+        return new Filter(any, domains.mask(f.getDomain()), statuses.mask(f.getStatus()),
+                f.getMinExperience() == null ? Integer.MIN_VALUE : f.getMinExperience(),
+                f.getMaxExperience() == null ? Integer.MAX_VALUE : f.getMaxExperience(),
+                f.getMinCases() == null ? Integer.MIN_VALUE : f.getMinCases(),
+                f.getMaxCases() == null ? Integer.MAX_VALUE : f.getMaxCases(),
+                f.getMinWinRatio() == null ? Float.NEGATIVE_INFINITY : f.getMinWinRatio(),
+                f.getMaxWinRatio() == null ? Float.POSITIVE_INFINITY : f.getMaxWinRatio());
+    }
+
+    private static String binLabel(Metric metric, int bin) {
+        return metric == Metric.WIN_RATIO ? String.format(Locale.ROOT, "%.2f", bin / 100.0) : Integer.toString(bin);
+    }
+
+    private static String percentLabel(double p) {
+        return BigDecimal.valueOf(p * 100).stripTrailingZeros().toPlainString();
+    }
+
+    private void grow() {
+        int capacity = cases.length * 2;
+        cases = Arrays.copyOf(cases, capacity);
+        experience = Arrays.copyOf(experience, capacity);
+        winRatio = Arrays.copyOf(winRatio, capacity);
+        domain = Arrays.copyOf(domain, capacity);
+        status = Arrays.copyOf(status, capacity);
+        idHash = Arrays.copyOf(idHash, capacity);
+        version = Arrays.copyOf(version, capacity);
+        // Keep the index at most half full
+        index = new int[index.length * 2];
+        for (int row = 0; row < size; row++) {
+            insert(idHash[row], row);
+        }
+    }
+
+    /**
+     * FNV-1a over the ID's characters, finished with the MurmurHash3 mixer.
+     */
+    static long hash(String lawyerID) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < lawyerID.length(); i++) {
+            h = (h ^ lawyerID.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private int slot(long hash) {
+        int mask = index.length - 1;
+        int slot = (int) hash & mask;
+        while (index[slot] != 0) {
+            if (idHash[index[slot] - 1] == hash) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int find(long hash) {
+        int slot = slot(hash);
+        return slot < 0 ? -1 : index[slot] - 1;
+    }
+
+    private void insert(long hash, int row) {
+        int mask = index.length - 1;
+        int slot = (int) hash & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = row + 1;
+    }
+
+    /**
+     * Removes a key with backward-shift deletion, so probe sequences stay unbroken without tombstones.
+     */
+    private void delete(long hash) {
+        int mask = index.length - 1;
+        int hole = slot(hash);
+        int slot = hole;
+        while (true) {
+            slot = (slot + 1) & mask;
+            int entry = index[slot];
+            if (entry == 0) {
+                break;
+            }
+            int home = (int) idHash[entry - 1] & mask;
+            // Move the entry back if its home slot is not cyclically within (hole, slot]
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                index[hole] = entry;
+                hole = slot;
+            }
+        }
+        index[hole] = 0;
+    }
+}
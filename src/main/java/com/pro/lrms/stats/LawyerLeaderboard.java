@@ -0,0 +1,317 @@
+package com.pro.lrms.stats;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.pro.lrms.dto.LeaderboardEntry;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.event.LawyerChangeEvent;
+import com.pro.lrms.repository.LawyerRepository;
+import com.pro.lrms.sharding.Shards;
+
+/**
+ * Per-domain top-K leaderboards by win ratio, experience and case count.
+ * <p>
+ * For every domain and metric, lawyers are kept in two concurrent skip lists ordered best-first: one for
+ * active lawyers and one for everyone else. A top-K read walks the first K entries of the active list,
+ * or merges the two lists when inactive lawyers are included, so it costs O(K) and never re-sorts.
+ * Writes move a lawyer between lists in O(log N), driven by LawyerChangeEvent.
+ * <p>
+ * Each lawyer's ranked record is kept with its row version, and a change only applies if it is newer than the
+ * version already ranked, so a status change published out of order never brings back an older status.
+ * <p>
+ * Bulk changes request a rebuild that runs in the background. Events that arrive while its scan runs are kept
+ * and replayed onto the new leaderboards before they are swapped in; a replayed change the scan already saw
+ * is ignored by the same version check.
+ */
+@Component
+public class LawyerLeaderboard {
+
+    private static final Logger log = LoggerFactory.getLogger(LawyerLeaderboard.class);
+
+    /**
+     * Supported ranking metrics, named after the LawyerRecord properties they rank by.
+     */
+    public static final List<String> METRICS = List.of("lawyerWinRatio", "lawyerExperienece", "laywerCase");
+
+    private static final Comparator<Entry> BEST_FIRST =
+            Comparator.comparingDouble(Entry::value).reversed().thenComparing(Entry::lawyerID);
+
+    /**
+     * One lawyer's position on a leaderboard; immutable so it can be removed by value.
+     */
+    private record Entry(double value, String lawyerID, String lawyerName, String lawyerStatus) {
+    }
+
+    /**
+     * A lawyer as ranked on the leaderboards, at the row version it was ranked at.
+     */
+    private record Ranked(long version, LawyerRecord lawyer) {
+    }
+
+    /**
+     * Leaderboards of one domain: [metric][0 = active, 1 = other statuses].
+     */
+    private static final class Board {
+        @SuppressWarnings("unchecked")
+        private final NavigableSet<Entry>[][] sets = new NavigableSet[METRICS.size()][2];
+
+        Board() {
+            for (NavigableSet<Entry>[] metric : sets) {
+                metric[0] = new ConcurrentSkipListSet<>(BEST_FIRST);
+                metric[1] = new ConcurrentSkipListSet<>(BEST_FIRST);
+            }
+        }
+    }
+
+    /**
+     * Leaderboards of every domain, with the lawyers ranked on them; swapped as a whole by a rebuild.
+     */
+    private static final class Boards {
+        private final Map<String, Board> domains = new ConcurrentHashMap<>();
+        private final Map<String, Ranked> lawyers = new ConcurrentHashMap<>();
+    }
+
+    private final LawyerRepository lawyerRepo;
+    private final Shards shards;
+    private final TransactionTemplate readOnlyTx;
+    private final RebuildRequests rebuildRequests = new RebuildRequests("lawyer-leaderboard-rebuild", this::rebuild);
+    private final Lock rebuildLock = new ReentrantLock();
+    // Events apply under the read lock; starting to keep them and swapping in new boards take the write lock
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private volatile Boards boards = new Boards();
+    private volatile Queue<LawyerChangeEvent> pending;
+
+    @Autowired
+    public LawyerLeaderboard(LawyerRepository lawyerRepo, Shards shards, PlatformTransactionManager transactionManager) {
+        this.lawyerRepo = lawyerRepo;
+        this.shards = shards;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * Returns the best K lawyers of a domain for a metric.
+     *
+     * @param domain The domain (case-insensitive).
+     * @param metric One of METRICS.
+     * @param k The number of lawyers to return.
+     * @param activeOnly Whether to exclude lawyers that are not Active.
+     * @return Up to K entries, best first.
+     * @throws IllegalArgumentException if the metric is not supported.
+     */
+    public List<LeaderboardEntry> top(String domain, String metric, int k, boolean activeOnly) {
+        int m = METRICS.indexOf(metric);
+        if (m < 0) {
+            throw new IllegalArgumentException("Unsupported leaderboard metric: " + metric + " (expected one of " + METRICS + ")");
+        }
+        Board board = boards.domains.get(key(domain));
+        if (board == null || k <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<LeaderboardEntry> result = new ArrayList<>(k);
+        Iterator<Entry> active = board.sets[m][0].iterator();
+        Iterator<Entry> other = activeOnly ? Collections.emptyIterator() : board.sets[m][1].iterator();
+        Entry nextActive = active.hasNext() ? active.next() : null;
+        Entry nextOther = other.hasNext() ? other.next() : null;
+        // Two-way merge of already ordered lists: stops after K entries
+        while (result.size() < k && (nextActive != null || nextOther != null)) {
+            Entry best;
+            if (nextOther == null || (nextActive != null && BEST_FIRST.compare(nextActive, nextOther) <= 0)) {
+                best = nextActive;
+                nextActive = active.hasNext() ? active.next() : null;
+            } else {
+                best = nextOther;
+                nextOther = other.hasNext() ? other.next() : null;
+            }
+            result.add(new LeaderboardEntry(result.size() + 1, best.lawyerID(), best.lawyerName(), best.lawyerStatus(), best.value()));
+        }
+        return result;
+    }
+
+    /**
+     * Applies a committed change to the leaderboards.
+     *
+     * @param event The change published by the service layer.
+     */
+    @EventListener
+    public void onLawyerChange(LawyerChangeEvent event) {
+        if (event.getType() == LawyerChangeEvent.Type.BULK_CHANGED) {
+            rebuildRequests.request();
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            apply(boards, event);
+            Queue<LawyerChangeEvent> replay = pending;
+            if (replay != null) {
+                replay.add(event);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Builds the leaderboards once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds every leaderboard from a streaming scan and swaps them in.
+     * If a rebuild is already running, waits for it and then runs a fresh one.
+     */
+    @Scheduled(fixedDelayString = "${lrms.stats.reconcile-interval:15m}",
+               initialDelayString = "${lrms.stats.reconcile-interval:15m}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.nanoTime();
+            keepEvents(new ConcurrentLinkedQueue<>());
+            Boards next = new Boards();
+            shards.forEachShard(() -> readOnlyTx.executeWithoutResult(tx -> {
+                try (Stream<Object[]> rows = lawyerRepo.streamMetricRows()) {
+                    rows.forEach(row -> {
+                        LawyerRecord lawyer = new LawyerRecord((String) row[0], (String) row[1], null, null,
+                                (String) row[2], ((Number) row[4]).intValue(), ((Number) row[5]).intValue(),
+                                ((Number) row[6]).floatValue(), null, (String) row[3]);
+                        add(next.domains, lawyer);
+                        next.lawyers.put(lawyer.getLawyerID(), new Ranked(((Number) row[7]).longValue(), lawyer));
+                    });
+                }
+            }));
+            swapLock.writeLock().lock();
+            try {
+                // Events that arrived during the scan were applied to the old boards only
+                pending.forEach(event -> apply(next, event));
+                pending = null;
+                boards = next;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            log.info("Lawyer leaderboards rebuilt in {} ms ({} domains)", (System.nanoTime() - start) / 1_000_000, next.domains.size());
+        } catch (RuntimeException e) {
+            keepEvents(null);
+            log.warn("Lawyer leaderboard rebuild failed; keeping the previous leaderboards", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void keepEvents(Queue<LawyerChangeEvent> queue) {
+        swapLock.writeLock().lock();
+        try {
+            pending = queue;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies an event if it is newer than the version ranked of its lawyer. The check and the update run under
+     * the lawyer's entry, so concurrent events of one lawyer apply one after the other.
+     */
+    private static void apply(Boards boards, LawyerChangeEvent event) {
+        LawyerRecord after = event.getAfter();
+        LawyerRecord lawyer = after != null ? after : event.getBefore();
+        if (lawyer == null) {
+            return;
+        }
+        boards.lawyers.compute(lawyer.getLawyerID(), (lawyerID, current) -> switch (event.getType()) {
+            case CREATED -> {
+                if (current != null) {
+                    yield current;
+                }
+                add(boards.domains, after);
+                yield new Ranked(versionOf(after), after);
+            }
+            case STATUS_CHANGED -> {
+                if (current == null || current.version() >= versionOf(after)) {
+                    yield current;
+                }
+                // Remove the entry as ranked, which is not "before" if an older event was overtaken
+                remove(boards.domains, current.lawyer());
+                add(boards.domains, after);
+                yield new Ranked(versionOf(after), after);
+            }
+            case DELETED -> {
+                if (current != null) {
+                    remove(boards.domains, current.lawyer());
+                }
+                yield null;
+            }
+            default -> current;
+        });
+    }
+
+    private static long versionOf(LawyerRecord lawyer) {
+        // Rows inserted without the entity (bulk import) start at the column default
+        return lawyer.getLawyerVersion() == null ? 0 : lawyer.getLawyerVersion();
+    }
+
+    private static void add(Map<String, Board> boards, LawyerRecord lawyer) {
+        if (lawyer == null) {
+            return;
+        }
+        Board board = boards.computeIfAbsent(key(lawyer.getLawyerDomain()), k -> new Board());
+        int list = "Active".equals(lawyer.getLawyerStatus()) ? 0 : 1;
+        for (int m = 0; m < METRICS.size(); m++) {
+            board.sets[m][list].add(entry(lawyer, m));
+        }
+    }
+
+    private static void remove(Map<String, Board> boards, LawyerRecord lawyer) {
+        if (lawyer == null) {
+            return;
+        }
+        Board board = boards.get(key(lawyer.getLawyerDomain()));
+        if (board == null) {
+            return;
+        }
+        int list = "Active".equals(lawyer.getLawyerStatus()) ? 0 : 1;
+        for (int m = 0; m < METRICS.size(); m++) {
+            board.sets[m][list].remove(entry(lawyer, m));
+        }
+    }
+
+    private static Entry entry(LawyerRecord lawyer, int metric) {
+        double value = switch (metric) {
+            case 0 -> lawyer.getLawyerWinRatio();
+            case 1 -> lawyer.getLawyerExperienece();
+            default -> lawyer.getLaywerCase();
+        };
+        return new Entry(value, lawyer.getLawyerID(), lawyer.getLawyerName(), lawyer.getLawyerStatus());
+    }
+
+    private static String key(String domain) {
+        return domain == null ? "" : domain.toLowerCase(Locale.ROOT);
+    }
+}
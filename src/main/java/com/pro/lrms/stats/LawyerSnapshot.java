@@ -0,0 +1,199 @@
+package com.pro.lrms.stats;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.pro.lrms.dto.AnalyticsFilter;
+import com.pro.lrms.dto.AnalyticsGroup;
+import com.pro.lrms.dto.SnapshotStatistics;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.event.LawyerChangeEvent;
+import com.pro.lrms.repository.LawyerRepository;
+import com.pro.lrms.sharding.Shards;
+
+/**
+ * In-memory columnar snapshot of the lawyer table for analytics (group-by, histogram, percentile).
+ * <p>
+ * The snapshot is a ColumnarLawyers store, built from a streaming scan of the metric columns and kept current
+ * from LawyerChangeEvent, so queries never touch the database or materialise LawyerRecord entities.
+ * Queries share a read lock and writes take the write lock, which is held for a single row update.
+ * It is rebuilt and swapped in on the statistics reconcile interval, like the other in-memory views, and in the
+ * background after bulk changes. Events that arrive while a rebuild scans are kept and replayed onto the new
+ * snapshot before it is swapped in.
+ * <p>
+ * Rows are keyed by lawyer ID and carry the row version they were read at. A creation applies only to a lawyer
+ * not in the snapshot and a status change only if it is newer than the row, so a change the scan already saw,
+ * or one published out of order, never brings back an older status.
+ */
+@Component
+public class LawyerSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(LawyerSnapshot.class);
+
+    private final LawyerRepository lawyerRepo;
+    private final Shards shards;
+    private final TransactionTemplate readOnlyTx;
+    private final RebuildRequests rebuildRequests = new RebuildRequests("lawyer-snapshot-rebuild", this::rebuild);
+    private final Lock rebuildLock = new ReentrantLock();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private ColumnarLawyers columns = new ColumnarLawyers(0);
+    // Events kept for the running rebuild; guarded by the write lock
+    private List<LawyerChangeEvent> pending;
+    private volatile long builtAt;
+
+    @Autowired
+    public LawyerSnapshot(LawyerRepository lawyerRepo, Shards shards, PlatformTransactionManager transactionManager) {
+        this.lawyerRepo = lawyerRepo;
+        this.shards = shards;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * Applies a committed change to the snapshot.
+     *
+     * @param event The change published by the service layer.
+     */
+    @EventListener
+    public void onLawyerChange(LawyerChangeEvent event) {
+        if (event.getType() == LawyerChangeEvent.Type.BULK_CHANGED) {
+            rebuildRequests.request();
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            apply(columns, event);
+            if (pending != null) {
+                pending.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<AnalyticsGroup> groupBy(ColumnarLawyers.GroupBy by, int band, ColumnarLawyers.Metric metric, AnalyticsFilter filter) {
+        return read(snapshot -> snapshot.groupBy(by, band, metric, filter));
+    }
+
+    public Map<String, Long> histogram(ColumnarLawyers.Metric metric, double width, AnalyticsFilter filter) {
+        return read(snapshot -> snapshot.histogram(metric, width, filter));
+    }
+
+    public Map<String, Double> percentiles(ColumnarLawyers.Metric metric, double[] percentiles, AnalyticsFilter filter) {
+        return read(snapshot -> snapshot.percentiles(metric, percentiles, filter));
+    }
+
+    public SnapshotStatistics statistics() {
+        return read(snapshot -> new SnapshotStatistics(snapshot.size(), snapshot.domainCount(), snapshot.statusCount(),
+                snapshot.estimatedBytes(), builtAt));
+    }
+
+    private <T> T read(Function<ColumnarLawyers, T> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(columns);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Builds the snapshot once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the snapshot from a streaming scan of the metric columns and swaps it in.
+     * If a rebuild is already running, waits for it and then runs a fresh one.
+     */
+    @Scheduled(fixedDelayString = "${lrms.stats.reconcile-interval:15m}",
+               initialDelayString = "${lrms.stats.reconcile-interval:15m}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.nanoTime();
+            keepEvents(new ArrayList<>());
+            long lawyers = shards.scatter(() -> lawyerRepo.count()).stream().mapToLong(Long::longValue).sum();
+            ColumnarLawyers next = new ColumnarLawyers((int) Math.min(Integer.MAX_VALUE / 2, lawyers));
+            shards.forEachShard(() -> readOnlyTx.executeWithoutResult(tx -> {
+                try (Stream<Object[]> rows = lawyerRepo.streamMetricRows()) {
+                    for (Iterator<Object[]> it = rows.iterator(); it.hasNext(); ) {
+                        Object[] row = it.next();
+                        next.put((String) row[0], ((Number) row[7]).longValue(), (String) row[2], (String) row[3],
+                                ((Number) row[4]).intValue(), ((Number) row[5]).intValue(), ((Number) row[6]).floatValue());
+                    }
+                }
+            }));
+            lock.writeLock().lock();
+            try {
+                // Events that arrived during the scan were applied to the old snapshot only
+                pending.forEach(event -> apply(next, event));
+                pending = null;
+                columns = next;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            builtAt = System.currentTimeMillis();
+            log.info("Lawyer snapshot built from {} lawyers in {} ms ({} KB)",
+                    next.size(), (System.nanoTime() - start) / 1_000_000, next.estimatedBytes() / 1024);
+        } catch (RuntimeException e) {
+            keepEvents(null);
+            log.warn("Lawyer snapshot rebuild failed; keeping the previous snapshot", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void keepEvents(List<LawyerChangeEvent> events) {
+        lock.writeLock().lock();
+        try {
+            pending = events;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(ColumnarLawyers columns, LawyerChangeEvent event) {
+        switch (event.getType()) {
+            case CREATED -> {
+                if (!columns.contains(event.getAfter().getLawyerID())) {
+                    put(columns, event.getAfter());
+                }
+            }
+            case STATUS_CHANGED -> columns.setStatus(event.getAfter().getLawyerID(), event.getAfter().getLawyerStatus(),
+                    versionOf(event.getAfter()));
+            case DELETED -> columns.remove(event.getBefore().getLawyerID());
+            default -> { }
+        }
+    }
+
+    private static void put(ColumnarLawyers columns, LawyerRecord lawyer) {
+        columns.put(lawyer.getLawyerID(), versionOf(lawyer), lawyer.getLawyerDomain(), lawyer.getLawyerStatus(),
+                lawyer.getLaywerCase(), lawyer.getLawyerExperienece(), lawyer.getLawyerWinRatio());
+    }
+
+    private static long versionOf(LawyerRecord lawyer) {
+        // Rows inserted without the entity (bulk import) start at the column default
+        return lawyer.getLawyerVersion() == null ? 0 : lawyer.getLawyerVersion();
+    }
+}
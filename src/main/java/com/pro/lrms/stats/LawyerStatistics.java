@@ -0,0 +1,263 @@
+package com.pro.lrms.stats;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.pro.lrms.dto.GroupStatistics;
+import com.pro.lrms.dto.LawyerStatisticsView;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.event.LawyerChangeEvent;
+import com.pro.lrms.repository.LawyerRepository;
+import com.pro.lrms.sharding.Shards;
+
+/**
+ * Per-domain and per-status lawyer statistics, kept in memory and updated on every create, status change
+ * and delete, so reads cost O(number of groups) instead of a full-table scan.
+ * <p>
+ * A periodic reconciliation rebuilds the aggregates from the database and swaps them in, correcting drift
+ * from writes made outside this instance. Bulk changes request a reconciliation that runs in the background.
+ * Events that arrive while a scan runs are applied to the current aggregates and also kept, then replayed onto
+ * the rebuilt ones just before the swap, so they are not lost with the old aggregates.
+ * <p>
+ * Unlike a set, an aggregate cannot tell whether a change is already counted, so the version and status of
+ * every counted lawyer are kept alongside, starting from the rows the scan read. An event is applied only if it
+ * is newer than what is counted of its lawyer: one whose change the scan already read, including one published
+ * only after the swap, and one overtaken by a later change of the same lawyer are ignored. This costs one
+ * small entry per lawyer.
+ */
+@Component
+public class LawyerStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(LawyerStatistics.class);
+
+    private static final String NONE = "(none)";
+
+    private final LawyerRepository lawyerRepo;
+    private final Shards shards;
+    private final TransactionTemplate readOnlyTx;
+    private final RebuildRequests reconcileRequests = new RebuildRequests("lawyer-statistics-reconcile", this::reconcile);
+    private final Lock reconcileLock = new ReentrantLock();
+    // Events apply under the read lock; starting to keep them and swapping in new aggregates take the write lock
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private volatile Map<String, Aggregate> byDomain = new ConcurrentHashMap<>();
+    private volatile Map<String, Aggregate> byStatus = new ConcurrentHashMap<>();
+    private volatile Map<String, Counted> counted = new ConcurrentHashMap<>();
+    private volatile Queue<LawyerChangeEvent> pending;
+    private volatile long reconciledAt;
+
+    @Autowired
+    public LawyerStatistics(LawyerRepository lawyerRepo, Shards shards, PlatformTransactionManager transactionManager) {
+        this.lawyerRepo = lawyerRepo;
+        this.shards = shards;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * Applies a committed change to the aggregates.
+     *
+     * @param event The change published by the service layer.
+     */
+    @EventListener
+    public void onLawyerChange(LawyerChangeEvent event) {
+        if (event.getType() == LawyerChangeEvent.Type.BULK_CHANGED) {
+            reconcileRequests.request();
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            apply(byDomain, byStatus, counted, event);
+            Queue<LawyerChangeEvent> replay = pending;
+            if (replay != null) {
+                replay.add(event);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The current per-domain and per-status aggregates, ordered by group name.
+     */
+    public LawyerStatisticsView view() {
+        return new LawyerStatisticsView(snapshot(byDomain), snapshot(byStatus), reconciledAt);
+    }
+
+    /**
+     * Builds the aggregates once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * Rebuilds the aggregates from a streaming scan of the lawyer table and swaps them in.
+     * If a reconciliation is already running, waits for it and then runs a fresh one.
+     */
+    @Scheduled(fixedDelayString = "${lrms.stats.reconcile-interval:15m}",
+               initialDelayString = "${lrms.stats.reconcile-interval:15m}")
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            long start = System.nanoTime();
+            keepEvents(new ConcurrentLinkedQueue<>());
+            Map<String, Aggregate> domains = new ConcurrentHashMap<>();
+            Map<String, Aggregate> statuses = new ConcurrentHashMap<>();
+            Map<String, Counted> scanned = new ConcurrentHashMap<>();
+            shards.forEachShard(() -> readOnlyTx.executeWithoutResult(tx -> {
+                try (Stream<Object[]> rows = lawyerRepo.streamMetricRows()) {
+                    for (Iterator<Object[]> it = rows.iterator(); it.hasNext(); ) {
+                        Object[] row = it.next();
+                        int cases = ((Number) row[4]).intValue();
+                        int experience = ((Number) row[5]).intValue();
+                        float winRatio = ((Number) row[6]).floatValue();
+                        domains.computeIfAbsent(key((String) row[2]), k -> new Aggregate()).apply(1, cases, experience, winRatio);
+                        statuses.computeIfAbsent(key((String) row[3]), k -> new Aggregate()).apply(1, cases, experience, winRatio);
+                        scanned.put((String) row[0], new Counted(((Number) row[7]).longValue(), (String) row[3]));
+                    }
+                }
+            }));
+            swapLock.writeLock().lock();
+            try {
+                // Events that arrived during the scan were applied to the old aggregates only
+                for (LawyerChangeEvent event : pending) {
+                    apply(domains, statuses, scanned, event);
+                }
+                pending = null;
+                byDomain = domains;
+                byStatus = statuses;
+                counted = scanned;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            reconciledAt = System.currentTimeMillis();
+            log.info("Lawyer statistics reconciled in {} ms ({} domains)", (System.nanoTime() - start) / 1_000_000, domains.size());
+        } catch (RuntimeException e) {
+            keepEvents(null);
+            log.warn("Lawyer statistics reconciliation failed; keeping the previous aggregates", e);
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private void keepEvents(Queue<LawyerChangeEvent> queue) {
+        swapLock.writeLock().lock();
+        try {
+            pending = queue;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The state of a lawyer the aggregates count: its row version and status.
+     */
+    private record Counted(long version, String status) {
+
+        static Counted of(LawyerRecord lawyer) {
+            return new Counted(versionOf(lawyer), lawyer.getLawyerStatus());
+        }
+    }
+
+    private static LawyerRecord lawyerOf(LawyerChangeEvent event) {
+        return event.getAfter() != null ? event.getAfter() : event.getBefore();
+    }
+
+    private static long versionOf(LawyerRecord lawyer) {
+        // Rows inserted without the entity (bulk import) start at the column default
+        return lawyer.getLawyerVersion() == null ? 0 : lawyer.getLawyerVersion();
+    }
+
+    /**
+     * Applies an event to aggregates that count lawyers as recorded in counted, if it is newer than what is
+     * counted of its lawyer, so events that arrive late or out of order, or whose change the scan already read,
+     * are not counted twice. The check and the update run under the lawyer's entry, so concurrent events of one
+     * lawyer apply one after the other.
+     */
+    private static void apply(Map<String, Aggregate> domains, Map<String, Aggregate> statuses,
+                              Map<String, Counted> counted, LawyerChangeEvent event) {
+        LawyerRecord before = event.getBefore();
+        LawyerRecord after = event.getAfter();
+        counted.compute(lawyerOf(event).getLawyerID(), (lawyerID, current) -> switch (event.getType()) {
+            case CREATED -> {
+                if (current != null) {
+                    yield current;
+                }
+                apply(domains, statuses, 1, after);
+                yield Counted.of(after);
+            }
+            case STATUS_CHANGED -> {
+                if (current == null || current.version() >= versionOf(after)) {
+                    yield current;
+                }
+                // Out of the status counted, which is not "before" if an older event was overtaken
+                apply(statuses, key(current.status()), -1, before);
+                apply(statuses, key(after.getLawyerStatus()), 1, after);
+                yield Counted.of(after);
+            }
+            case DELETED -> {
+                if (current != null) {
+                    apply(domains, key(before.getLawyerDomain()), -1, before);
+                    apply(statuses, key(current.status()), -1, before);
+                }
+                yield null;
+            }
+            default -> current;
+        });
+    }
+
+    private static void apply(Map<String, Aggregate> domains, Map<String, Aggregate> statuses, int sign, LawyerRecord lawyer) {
+        if (lawyer == null) {
+            return;
+        }
+        apply(domains, key(lawyer.getLawyerDomain()), sign, lawyer);
+        apply(statuses, key(lawyer.getLawyerStatus()), sign, lawyer);
+    }
+
+    private static void apply(Map<String, Aggregate> groups, String key, int sign, LawyerRecord lawyer) {
+        if (sign > 0) {
+            groups.compute(key, (k, aggregate) -> {
+                Aggregate target = aggregate == null ? new Aggregate() : aggregate;
+                target.apply(1, lawyer.getLaywerCase(), lawyer.getLawyerExperienece(), lawyer.getLawyerWinRatio());
+                return target;
+            });
+        } else {
+            // Drop the group once its last lawyer is removed
+            groups.computeIfPresent(key, (k, aggregate) -> {
+                aggregate.apply(-1, lawyer.getLaywerCase(), lawyer.getLawyerExperienece(), lawyer.getLawyerWinRatio());
+                return aggregate.isEmpty() ? null : aggregate;
+            });
+        }
+    }
+
+    private static List<GroupStatistics> snapshot(Map<String, Aggregate> groups) {
+        List<GroupStatistics> result = new ArrayList<>(groups.size());
+        groups.forEach((group, aggregate) -> result.add(aggregate.snapshot(group)));
+        result.sort((a, b) -> a.getGroup().compareTo(b.getGroup()));
+        return result;
+    }
+
+    private static String key(String value) {
+        return value == null ? NONE : value;
+    }
+}
@@ -0,0 +1,52 @@
+package com.pro.lrms.stats;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the rebuilds of an in-memory view on a virtual thread of its own, so the request whose change asked for
+ * one does not wait for a full scan.
+ * <p>
+ * A request made while a rebuild is running is never dropped: it forces one more pass once the running one
+ * has finished, because that scan may have started before the change committed. Any number of requests made
+ * in the meantime collapse into that single pass.
+ */
+final class RebuildRequests {
+
+    private final String name;
+    private final Runnable rebuild;
+    private final AtomicBoolean requested = new AtomicBoolean();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * @param name The name of the rebuild thread.
+     * @param rebuild Rebuilds the view; it must not throw, a failed pass keeps the previous view.
+     */
+    RebuildRequests(String name, Runnable rebuild) {
+        this.name = name;
+        this.rebuild = rebuild;
+    }
+
+    /**
+     * Asks for a rebuild and returns at once.
+     */
+    void request() {
+        requested.set(true);
+        if (running.compareAndSet(false, true)) {
+            Thread.ofVirtual().name(name).start(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (requested.getAndSet(false)) {
+                rebuild.run();
+            }
+        } finally {
+            running.set(false);
+        }
+        // A request made after the last check found the thread still running and left the pass to it
+        if (requested.get()) {
+            request();
+        }
+    }
+}
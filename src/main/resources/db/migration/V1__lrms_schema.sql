@@ -0,0 +1,108 @@
+-- Create the 'lawyerrecord' table if it does not already exist
+CREATE TABLE IF NOT EXISTS public.lawyerrecord
+(
+    -- Number of cases handled by the lawyer
+    lawyercase INTEGER,
+
+    -- Years of experience the lawyer has
+    lawyerexperience INTEGER,
+
+    -- Lawyer's win ratio
+    lawyerwr REAL,
+
+    -- Lawyer's phone number (up to 15 characters)
+    lawyerphonenumber CHARACTER VARYING(15) COLLATE pg_catalog."default",
+
+    -- Domain of law expertise of the lawyer (e.g., Civil, Criminal)
+    lawyerdomain CHARACTER VARYING(30) COLLATE pg_catalog."default",
+
+    -- License number of the lawyer
+    lawyerlicense CHARACTER VARYING(30) COLLATE pg_catalog."default",
+
+    -- Status of the lawyer (e.g., Active, Inactive)
+    lawyerstatus CHARACTER VARYING(30) COLLATE pg_catalog."default",
+
+    -- Unique ID of the lawyer (Primary Key, mandatory field)
+    lawyerid CHARACTER VARYING(40) COLLATE pg_catalog."default" NOT NULL,
+
+    -- Name of the lawyer (up to 50 characters)
+    lawyername CHARACTER VARYING(50) COLLATE pg_catalog."default",
+
+    -- Address of the lawyer (up to 200 characters)
+    lawyeraddress CHARACTER VARYING(200) COLLATE pg_catalog."default",
+
+    -- Primary Key constraint on the lawyerid column
+    CONSTRAINT lawyerrecord_pkey PRIMARY KEY (lawyerid)
+);
+
+-- Schemas created from earlier copies of this script name the win ratio column lawyerwl; the application maps lawyerwr
+ALTER TABLE public.lawyerrecord ADD COLUMN IF NOT EXISTS lawyerwr REAL;
+
+-- Indexes for the multi-criteria search (/lrms/lawyers/search).
+-- The search matches domain and name case-insensitively, so these are expression indexes on lower(...),
+-- which is why they live here rather than in the entity mapping.
+CREATE INDEX IF NOT EXISTS idx_lawyerrecord_domain_status_experience
+    ON public.lawyerrecord (lower(lawyerdomain), lawyerstatus, lawyerexperience);
+
+CREATE INDEX IF NOT EXISTS idx_lawyerrecord_domain_status_winratio
+    ON public.lawyerrecord (lower(lawyerdomain), lawyerstatus, lawyerwr);
+
+CREATE INDEX IF NOT EXISTS idx_lawyerrecord_status_winratio
+    ON public.lawyerrecord (lawyerstatus, lawyerwr);
+
+-- Name prefix search: text_pattern_ops lets LIKE 'prefix%' use the index under any collation
+CREATE INDEX IF NOT EXISTS idx_lawyerrecord_name_prefix
+    ON public.lawyerrecord (lower(lawyername) text_pattern_ops);
+
+-- Exact duplicate check on license number; unique, so it is the guard against duplicates across instances
+CREATE UNIQUE INDEX IF NOT EXISTS idx_lawyerrecord_license
+    ON public.lawyerrecord (lawyerlicense);
+
+-- Row version for ETags and optimistic locking; existing rows start at 0
+ALTER TABLE public.lawyerrecord ADD COLUMN IF NOT EXISTS lawyerversion BIGINT NOT NULL DEFAULT 0;
+
+-- Change log behind the change feed (/lrms/lawyers/changes)
+-- Drawn one number at a time, so positions follow commit order across instances
+CREATE SEQUENCE IF NOT EXISTS public.lawyerchange_seq INCREMENT BY 1;
+ALTER SEQUENCE public.lawyerchange_seq INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS public.lawyerchange
+(
+    -- Position of the change in the feed, allocated from lawyerchange_seq
+    sequence BIGINT NOT NULL,
+
+    -- CREATED, STATUS_CHANGED, DELETED or BULK_CHANGED
+    changetype CHARACTER VARYING(20) NOT NULL,
+
+    -- Lawyer that changed; NULL for BULK_CHANGED
+    lawyerid CHARACTER VARYING(40),
+
+    -- Status and row version after the change; NULL for DELETED and BULK_CHANGED
+    lawyerstatus CHARACTER VARYING(30),
+    lawyerversion BIGINT,
+
+    changedat TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    CONSTRAINT lawyerchange_pkey PRIMARY KEY (sequence)
+);
+
+CREATE INDEX IF NOT EXISTS idx_lawyerchange_changedat
+    ON public.lawyerchange (changedat);
+
+-- Single row locked by every writer of the change log while it draws sequence numbers and commits,
+-- so batches commit in sequence order even when the log is empty.
+-- The application also creates the row at startup.
+CREATE TABLE IF NOT EXISTS public.lawyerchangelock
+(
+    id INTEGER PRIMARY KEY
+);
+
+INSERT INTO public.lawyerchangelock (id) VALUES (1) ON CONFLICT DO NOTHING;
+
+-- Replication heartbeat: stamped on the primary and read back from replicas to measure their lag.
+-- The application also creates it on first use when read replicas are configured.
+CREATE TABLE IF NOT EXISTS public.lrmsheartbeat
+(
+    id INTEGER PRIMARY KEY,
+    beatat TIMESTAMP WITH TIME ZONE NOT NULL
+);
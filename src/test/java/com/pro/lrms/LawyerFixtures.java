@@ -0,0 +1,35 @@
+package com.pro.lrms;
+
+import com.pro.lrms.entity.LawyerRecord;
+
+/**
+ * Lawyer records for tests. Tests that need other values than these set them on the returned record.
+ */
+public final class LawyerFixtures {
+
+	private LawyerFixtures() {
+	}
+
+	/**
+	 * @return An active Civil lawyer named after its ID.
+	 */
+	public static LawyerRecord lawyer(String lawyerID, String license) {
+		return lawyer(lawyerID, license, "Active");
+	}
+
+	/**
+	 * @return A Civil lawyer named after its ID, with the given status.
+	 */
+	public static LawyerRecord lawyer(String lawyerID, String license, String status) {
+		return new LawyerRecord(lawyerID, "Lawyer " + lawyerID, "9000000001", "Udupi", "Civil", 10, 4, 0.5f, license, status);
+	}
+
+	/**
+	 * @return A Civil lawyer as at a row version, e.g. for the before and after records of a change event.
+	 */
+	public static LawyerRecord lawyer(String lawyerID, String license, String status, long version) {
+		LawyerRecord lawyer = lawyer(lawyerID, license, status);
+		lawyer.setLawyerVersion(version);
+		return lawyer;
+	}
+}
@@ -0,0 +1,54 @@
+package com.pro.lrms.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdmissionControlTests {
+
+	@Test
+	void rateLimiterAllowsBurstPerClientAndClass() {
+		ClientRateLimiter limiter = new ClientRateLimiter(100, 100, 100, 2, 1, Duration.ofSeconds(1), 10);
+
+		assertEquals(0, limiter.tryAcquire("a", RequestClass.HEAVY));
+		assertEquals(0, limiter.tryAcquire("a", RequestClass.HEAVY));
+		long wait = limiter.tryAcquire("a", RequestClass.HEAVY);
+		assertTrue(wait > 0 && wait <= Duration.ofMillis(500).toNanos());
+
+		assertEquals(0, limiter.tryAcquire("a", RequestClass.LOOKUP));
+		assertEquals(0, limiter.tryAcquire("b", RequestClass.HEAVY));
+		assertEquals(2, limiter.clientCount());
+	}
+
+	@Test
+	void concurrencyLimitShrinksWithLatencyAndShedsHeavyFirst() {
+		ConcurrencyLimit limit = new ConcurrencyLimit(new SimpleMeterRegistry(), 20, 10, 100, 1.5);
+		for (int i = 0; i < 5; i++) {
+			limit.onLatency(Duration.ofMillis(2).toNanos());
+			limit.adjust();
+		}
+		assertEquals(20, limit.getLimit(), 0.001);
+
+		for (int i = 0; i < 20; i++) {
+			limit.onLatency(Duration.ofMillis(20).toNanos());
+			limit.adjust();
+		}
+		assertEquals(10, limit.getLimit(), 0.001);
+
+		for (int i = 0; i < 4; i++) {
+			assertTrue(limit.tryAcquire(RequestClass.HEAVY));
+		}
+		assertFalse(limit.tryAcquire(RequestClass.HEAVY));
+		for (int i = 0; i < 6; i++) {
+			assertTrue(limit.tryAcquire(RequestClass.LOOKUP));
+		}
+		assertFalse(limit.tryAcquire(RequestClass.LOOKUP));
+		limit.release();
+		assertTrue(limit.tryAcquire(RequestClass.LOOKUP));
+	}
+}
@@ -0,0 +1,38 @@
+package com.pro.lrms.cache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTests {
+
+	@Test
+	void addedValuesAreNeverReportedAbsent() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.add("KA" + i);
+		}
+		for (int i = 0; i < 10_000; i++) {
+			assertTrue(filter.mightContain("KA" + i));
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (filter.mightContain("TN" + i)) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+	}
+
+	@Test
+	void emptyFilterReportsEverythingAbsent() {
+		BloomFilter filter = new BloomFilter(1_000, 0.01);
+		assertFalse(filter.mightContain("KA129032"));
+		filter.add("KA129033");
+		assertFalse(filter.mightContain("KA129032"));
+		assertTrue(filter.mightContain("KA129033"));
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.pro.lrms.cache;
+
+import static com.pro.lrms.LawyerFixtures.lawyer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import com.pro.lrms.entity.LawyerRecord;
+
+class LawyerCacheTests {
+
+	@Test
+	void negativeEntriesAreCountedOnLoadAndRemoval() {
+		LawyerCache cache = new LawyerCache(new RequestCoalescing(new SimpleMeterRegistry(), Duration.ofSeconds(5)),
+				100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+
+		cache.getById("LID001", id -> null);
+		cache.getById("LID002", id -> null);
+		cache.getByLicense("KA700001", license -> null);
+		assertEquals(2, negatives(cache, 0));
+		assertEquals(1, negatives(cache, 1));
+
+		// A hit on a cached "not found" adds nothing
+		cache.getById("LID001", id -> null);
+		assertEquals(2, negatives(cache, 0));
+
+		// Creating the lawyer replaces both "not found" entries
+		cache.put(new LawyerRecord("LID001", "Lawyer", "9000000001", "Udupi", "Civil", 1, 1, 0.5f, "KA700001", "Active"));
+		assertEquals(1, negatives(cache, 0));
+		assertEquals(0, negatives(cache, 1));
+
+		cache.invalidate("LID002", null);
+		assertEquals(0, negatives(cache, 0));
+
+		cache.getById("LID003", id -> null);
+		cache.invalidateAll();
+		assertEquals(0, negatives(cache, 0));
+	}
+
+	@Test
+	void pendingLoadNeitherBlocksWritersNorOutlivesInvalidation() throws Exception {
+		LawyerCache cache = new LawyerCache(new RequestCoalescing(new SimpleMeterRegistry(), Duration.ofSeconds(5)),
+				100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<LawyerRecord> stale = CompletableFuture.supplyAsync(() -> cache.getById("LID001", id -> {
+			loading.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return lawyer("LID001", "KA7LID001");
+		}));
+		loading.await();
+
+		// A load waiting for a database connection must not hold up writers, which may already hold theirs
+		assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+			cache.invalidate("LID001", null);
+			cache.put(lawyer("LID002", "KA7LID002"));
+		});
+
+		release.countDown();
+		assertEquals("Active", stale.get().getLawyerStatus());
+		// The load predates the invalidation, so it answered its own caller but was not cached
+		assertNull(cache.getById("LID001", id -> null));
+	}
+
+	private static long negatives(LawyerCache cache, int index) {
+		return cache.statistics().get(index).getNegativeEntries();
+	}
+}
@@ -0,0 +1,156 @@
+package com.pro.lrms.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import com.pro.lrms.dto.CoalescingStatistics;
+import com.pro.lrms.exception.CoalescingTimeoutException;
+
+class SingleFlightTests {
+
+	private static final int WAITERS = 7;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(WAITERS + 1);
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentCallersShareOneLoad() throws Exception {
+		SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), new SimpleMeterRegistry());
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loads = new AtomicInteger();
+
+		List<Future<String>> results = startWaiters(flight, () -> {
+			loads.incrementAndGet();
+			await(release);
+			return "LID001";
+		});
+		release.countDown();
+
+		for (Future<String> result : results) {
+			assertEquals("LID001", result.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, loads.get());
+		CoalescingStatistics stats = flight.statistics();
+		assertEquals(1, stats.getExecuted());
+		assertEquals(WAITERS, stats.getShared());
+		assertEquals(0, stats.getInFlight());
+	}
+
+	@Test
+	void failureIsPropagatedToEveryWaiter() throws Exception {
+		SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), new SimpleMeterRegistry());
+		CountDownLatch release = new CountDownLatch(1);
+		IllegalStateException failure = new IllegalStateException("database down");
+
+		List<Future<String>> results = startWaiters(flight, () -> {
+			await(release);
+			throw failure;
+		});
+		release.countDown();
+
+		for (Future<String> result : results) {
+			Exception thrown = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+			assertSame(failure, thrown.getCause());
+		}
+		assertEquals(1, flight.statistics().getFailed());
+		// The failure is not remembered: the next caller loads again
+		assertEquals("LID001", flight.execute("LID001", () -> "LID001"));
+	}
+
+	@Test
+	void waiterGivesUpAfterTimeout() throws Exception {
+		SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofMillis(50), new SimpleMeterRegistry());
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<String> leader = executor.submit(() -> flight.execute("LID001", () -> {
+			started.countDown();
+			await(release);
+			return "LID001";
+		}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		assertThrows(CoalescingTimeoutException.class, () -> flight.execute("LID001", () -> "other"));
+		release.countDown();
+		assertEquals("LID001", leader.get(5, TimeUnit.SECONDS));
+		assertEquals(1, flight.statistics().getTimedOut());
+	}
+
+	@Test
+	void forgottenLoadIsNotJoined() throws Exception {
+		SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), new SimpleMeterRegistry());
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<String> stale = executor.submit(() -> flight.execute("LID001", () -> {
+			started.countDown();
+			await(release);
+			return "before write";
+		}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		flight.forget("LID001");
+		assertEquals("after write", flight.execute("LID001", () -> "after write"));
+		release.countDown();
+		assertEquals("before write", stale.get(5, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Starts a leader running the loader, then WAITERS callers for the same key, and returns once all of them
+	 * are blocked waiting for the leader's load.
+	 */
+	private List<Future<String>> startWaiters(SingleFlight<String, String> flight, Supplier<String> loader)
+			throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		List<Future<String>> results = new ArrayList<>();
+		results.add(executor.submit(() -> flight.execute("LID001", () -> {
+			started.countDown();
+			return loader.get();
+		})));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		List<Thread> waiters = new CopyOnWriteArrayList<>();
+		for (int i = 0; i < WAITERS; i++) {
+			results.add(executor.submit(() -> {
+				waiters.add(Thread.currentThread());
+				return flight.execute("LID001", () -> "second load");
+			}));
+		}
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!allBlocked(waiters) && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		return results;
+	}
+
+	private static boolean allBlocked(List<Thread> waiters) {
+		return waiters.size() == WAITERS
+				&& waiters.stream().allMatch(thread -> thread.getState() == Thread.State.TIMED_WAITING);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
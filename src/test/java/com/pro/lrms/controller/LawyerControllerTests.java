@@ -0,0 +1,288 @@
+package com.pro.lrms.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.pro.lrms.cache.RequestCoalescing;
+import com.pro.lrms.cache.SingleFlight;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.event.LawyerChangeFeed;
+import com.pro.lrms.repository.LawyerRepository;
+import com.pro.lrms.service.LawyerService;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {
+		"lrms.admission.trusted-proxies=" + LawyerControllerTests.TRUSTED_PROXY,
+		"lrms.coalescing.timeout=200ms"
+})
+@AutoConfigureMockMvc
+class LawyerControllerTests {
+
+	static final String TRUSTED_PROXY = "10.0.0.1";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private LawyerService lawyerService;
+
+	@Autowired
+	private LawyerRepository lawyerRepo;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private LawyerChangeFeed lawyerChangeFeed;
+
+	@Autowired
+	private RequestCoalescing requestCoalescing;
+
+	@BeforeEach
+	void seed() {
+		lawyerRepo.deleteAll();
+		lawyerService.createLawyerProfile(new LawyerRecord("LID001", "Lawyer 1", "9000000001", "Bengaluru",
+				"Civil", 10, 1, 0.5f, "KA100001", "Active"));
+	}
+
+	@Test
+	void conditionalGetAndUpdateUseRecordVersion() throws Exception {
+		String etag = mockMvc.perform(get("/lrms/lawyers/LID001"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/lrms/lawyers/LID001").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+
+		String newEtag = mockMvc.perform(put("/lrms/lawyers/status/LID001").header(HttpHeaders.IF_MATCH, etag))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(put("/lrms/lawyers/status/LID001").header(HttpHeaders.IF_MATCH, etag))
+				.andExpect(status().isPreconditionFailed());
+		mockMvc.perform(get("/lrms/lawyers/LID001").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, newEtag));
+	}
+
+	@Test
+	void timedOutCoalescedLookupIsServiceUnavailable() throws Exception {
+		// Holds a lookup of LID404 in flight, as a slow database query would, so the request below joins it
+		SingleFlight<String, Optional<LawyerRecord>> lookups = requestCoalescing.flight("lawyerById");
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Optional<LawyerRecord>> slow = CompletableFuture.supplyAsync(() -> lookups.execute("LID404", () -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return Optional.empty();
+		}));
+		started.await();
+		try {
+			mockMvc.perform(get("/lrms/lawyers/LID404"))
+					.andExpect(status().isServiceUnavailable())
+					.andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+		} finally {
+			release.countDown();
+			slow.join();
+		}
+		mockMvc.perform(get("/lrms/lawyers/LID404"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void listEndpointsUseCollectionVersion() throws Exception {
+		String etag = mockMvc.perform(get("/lrms/lawyers/active"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/lrms/lawyers/active").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+
+		lawyerService.changeLawyerStatus("LID001");
+		mockMvc.perform(get("/lrms/lawyers/domain/civil").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk());
+
+		// Once the change is in the change log, the tag is its position, the same on every instance
+		lawyerChangeFeed.flush();
+		mockMvc.perform(get("/lrms/lawyers/domain/civil"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"" + lawyerChangeFeed.persistedSequence() + "\""));
+	}
+
+	@Test
+	void fieldsSelectSparseFieldsets() throws Exception {
+		mockMvc.perform(get("/lrms/lawyers/active").param("fields", "lawyerName, lawyerDomain"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].lawyerID").value("LID001"))
+				.andExpect(jsonPath("$.content[0].lawyerName").value("Lawyer 1"))
+				.andExpect(jsonPath("$.content[0].lawyerDomain").value("Civil"))
+				.andExpect(jsonPath("$.content[0].lawyerNumber").doesNotExist())
+				.andExpect(jsonPath("$.content[0].lawyerStatus").doesNotExist());
+		mockMvc.perform(get("/lrms/lawyers/domain/civil").param("fields", "lawyerWinRatio"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].lawyerWinRatio").value(0.5))
+				.andExpect(jsonPath("$.content[0].lawyerName").doesNotExist());
+		mockMvc.perform(get("/lrms/lawyers/search").param("status", "Active").param("fields", "lawyerStatus"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].lawyerStatus").value("Active"))
+				.andExpect(jsonPath("$.content[0].laywerAddress").doesNotExist());
+		mockMvc.perform(get("/lrms/lawyers/LID001").param("fields", "lawyerLicenseNumber"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.lawyerLicenseNumber").value("KA100001"))
+				.andExpect(jsonPath("$.lawyerName").doesNotExist());
+
+		// Only mapped entity attributes are accepted
+		mockMvc.perform(get("/lrms/lawyers/getlawyer").param("fields", "lawyerName,lawyerphonenumber"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/lrms/lawyers/getlawyer").param("fields", "l.lawyerName) FROM LawyerRecord l --"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/lrms/lawyers/getlawyer").param("fields", "lawyerName").param("view", "compact"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void duplicateLicenseMissedByTheCheckIsRejectedByTheConstraint() throws Exception {
+		// Cache "not found" for the license, then let another instance create it behind this one's back
+		assertEquals(null, lawyerService.getLawyerByLicenseNumber("KA100002"));
+		lawyerRepo.save(new LawyerRecord("LID002", "Lawyer 2", "9000000002", "Udupi",
+				"Civil", 5, 1, 0.5f, "KA100002", "Active"));
+
+		mockMvc.perform(post("/lrms/lawyers/postdata").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"lawyerID\":\"LID003\",\"lawyerName\":\"Lawyer 3\",\"lawyerLicenseNumber\":\"KA100002\"}"))
+				.andExpect(status().isConflict())
+				.andExpect(content().string(containsString("KA100002")));
+		assertEquals("LID002", lawyerService.getLawyerByLicenseNumber("KA100002").getLawyerID());
+	}
+
+	@Test
+	void acceptHeaderSelectsEncoding() throws Exception {
+		mockMvc.perform(get("/lrms/lawyers/LID001"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+				.andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)));
+
+		byte[] smile = mockMvc.perform(get("/lrms/lawyers/LID001").accept("application/x-jackson-smile"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith("application/x-jackson-smile"))
+				// Every encoding of the record carries the same weak tag
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"0\""))
+				.andReturn().getResponse().getContentAsByteArray();
+		ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+		assertEquals("KA100001", smileMapper.readValue(smile, LawyerRecord.class).getLawyerLicenseNumber());
+
+		mockMvc.perform(get("/lrms/lawyers/active").accept(MediaType.APPLICATION_CBOR))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+	}
+
+	@Test
+	void startupTimingsAreReported() throws Exception {
+		mockMvc.perform(get("/lrms/lawyers/LID001")).andExpect(status().isOk());
+
+		double ready = meterRegistry.get("lrms.startup.ready").timeGauge().value();
+		double firstRequest = meterRegistry.get("lrms.startup.first-request").timeGauge().value();
+		assertTrue(ready > 0);
+		assertTrue(firstRequest >= ready);
+	}
+
+	@Test
+	void heavyRequestsOverClientRateAreThrottled() throws Exception {
+		// A client cannot escape its bucket by sending a new client ID with every request
+		for (int i = 0; i < 2; i++) {
+			mockMvc.perform(get("/lrms/lawyers/summary").with(from("10.0.0.7")).header("X-Client-Id", "client-" + i))
+					.andExpect(status().isOk());
+		}
+		mockMvc.perform(get("/lrms/lawyers/summary").with(from("10.0.0.7")).header("X-Client-Id", "client-2"))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+		mockMvc.perform(get("/lrms/lawyers/LID001").with(from("10.0.0.7")))
+				.andExpect(status().isOk());
+
+		// Behind a trusted proxy, the clients it names have buckets of their own
+		for (int i = 0; i < 2; i++) {
+			mockMvc.perform(get("/lrms/lawyers/summary").with(from(TRUSTED_PROXY)).header("X-Client-Id", "proxied-a"))
+					.andExpect(status().isOk());
+		}
+		mockMvc.perform(get("/lrms/lawyers/summary").with(from(TRUSTED_PROXY)).header("X-Client-Id", "proxied-a"))
+				.andExpect(status().isTooManyRequests());
+		mockMvc.perform(get("/lrms/lawyers/summary").with(from(TRUSTED_PROXY)).header("X-Client-Id", "proxied-b"))
+				.andExpect(status().isOk());
+
+		assertEquals(2, meterRegistry.get("lrms.admission.requests").tag("class", "heavy").tag("outcome", "throttled")
+				.counter().count());
+	}
+
+	private static RequestPostProcessor from(String address) {
+		return request -> {
+			request.setRemoteAddr(address);
+			return request;
+		};
+	}
+
+	@Test
+	void asyncRequestsHoldConcurrencySlotUntilComplete() throws Exception {
+		MvcResult started = mockMvc.perform(get("/lrms/lawyers/async/LID001"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		started.getAsyncResult();
+		mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+
+		assertEquals(0, meterRegistry.get("lrms.admission.in-flight").gauge().value());
+	}
+
+	@Test
+	void reportJobIsPolledAndDownloaded() throws Exception {
+		String location = mockMvc.perform(post("/lrms/lawyers/reports").param("type", "roster")
+						.param("format", "csv").param("domain", "Civil"))
+				.andExpect(status().isAccepted())
+				.andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+
+		String state = "QUEUED";
+		for (int i = 0; i < 500 && !state.equals("COMPLETED"); i++) {
+			Thread.sleep(10);
+			state = JsonPath.read(mockMvc.perform(get(location)).andExpect(status().isOk())
+					.andReturn().getResponse().getContentAsString(), "$.state");
+		}
+		mockMvc.perform(get(location))
+				.andExpect(jsonPath("$.state").value("COMPLETED"))
+				.andExpect(jsonPath("$.rowsWritten").value(1));
+
+		String report = mockMvc.perform(get(location + "/file"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith("text/csv"))
+				.andReturn().getResponse().getContentAsString();
+		assertTrue(report.startsWith("lawyerID,"));
+		assertTrue(report.contains("LID001,Lawyer 1"));
+	}
+}
@@ -0,0 +1,118 @@
+package com.pro.lrms.event;
+
+import static com.pro.lrms.LawyerFixtures.lawyer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import com.pro.lrms.entity.LawyerChange;
+import com.pro.lrms.repository.LawyerChangeLockRepository;
+import com.pro.lrms.repository.LawyerRepository;
+import com.pro.lrms.service.LawyerService;
+
+// A ring of two changes, so most of the history has to come from the change log;
+// no retention, so a purge removes everything it may
+@SpringBootTest(properties = {"lrms.changes.buffer-size=2", "lrms.changes.retention=0s"})
+@AutoConfigureMockMvc
+class LawyerChangeFeedTests {
+
+	@Autowired
+	private LawyerService lawyerService;
+
+	@Autowired
+	private LawyerRepository lawyerRepo;
+
+	@Autowired
+	private LawyerChangeFeed lawyerChangeFeed;
+
+	@Autowired
+	private LawyerChangeLockRepository lockRepo;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void clear() {
+		lawyerRepo.deleteAll();
+		lawyerChangeFeed.flush();
+	}
+
+	@Test
+	void readsFromRingAndChangeLogInOrder() {
+		long since = lawyerChangeFeed.lastSequence();
+		lawyerService.createLawyerProfile(lawyer("LID001", "KA500001"));
+		lawyerService.createLawyerProfile(lawyer("LID002", "KA500002"));
+		lawyerService.changeLawyerStatus("LID001");
+		lawyerService.deleteLaywer("LID002");
+		lawyerChangeFeed.flush();
+
+		List<LawyerChange> changes = lawyerChangeFeed.read(since, 100);
+		assertEquals(List.of(LawyerChangeEvent.Type.CREATED, LawyerChangeEvent.Type.CREATED,
+				LawyerChangeEvent.Type.STATUS_CHANGED, LawyerChangeEvent.Type.DELETED),
+				changes.stream().map(LawyerChange::getChangeType).toList());
+		assertEquals(List.of("LID001", "LID002", "LID001", "LID002"), changes.stream().map(LawyerChange::getLawyerID).toList());
+		assertEquals("Inactive", changes.get(2).getLawyerStatus());
+		assertEquals(1L, changes.get(2).getLawyerVersion());
+
+		// Resuming from the third change is served by the ring
+		assertEquals(List.of(changes.get(3)), lawyerChangeFeed.read(changes.get(2).getSequence(), 100));
+		assertEquals(List.of(), lawyerChangeFeed.read(changes.get(3).getSequence(), 100));
+	}
+
+	@Test
+	void streamResumesFromSince() throws Exception {
+		long since = lawyerChangeFeed.lastSequence();
+		lawyerService.createLawyerProfile(lawyer("LID003", "KA500003"));
+		lawyerChangeFeed.flush();
+
+		MockHttpServletResponse response = mockMvc.perform(get("/lrms/lawyers/changes").param("since", Long.toString(since)))
+				.andExpect(request().asyncStarted())
+				.andReturn().getResponse();
+		lawyerService.changeLawyerStatus("LID003");
+		lawyerChangeFeed.flush();
+
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!response.getContentAsString().contains("event:STATUS_CHANGED") && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		String events = response.getContentAsString();
+		assertTrue(events.indexOf("event:CREATED") >= 0, events);
+		assertTrue(events.indexOf("event:STATUS_CHANGED") > events.indexOf("event:CREATED"), events);
+	}
+
+	@Test
+	void purgeKeepsTheLatestChange() {
+		lawyerService.createLawyerProfile(lawyer("LID004", "KA500004"));
+		lawyerService.changeLawyerStatus("LID004");
+		lawyerChangeFeed.flush();
+		long last = lawyerChangeFeed.persistedSequence();
+
+		lawyerChangeFeed.purge();
+		List<LawyerChange> kept = lawyerChangeFeed.read(0, 100);
+		assertEquals(1, kept.size());
+		assertEquals(last, kept.get(0).getSequence());
+		assertEquals(last, lawyerChangeFeed.persistedSequence());
+	}
+
+	@Test
+	void lostLockRowIsCreatedAgain() {
+		lockRepo.deleteAll();
+		lawyerService.createLawyerProfile(lawyer("LID005", "KA500005"));
+		lawyerChangeFeed.flush();
+		assertTrue(lawyerChangeFeed.hasUnwrittenChanges());
+
+		lawyerChangeFeed.flush();
+		assertFalse(lawyerChangeFeed.hasUnwrittenChanges());
+		assertEquals("LID005", lawyerChangeFeed.read(lawyerChangeFeed.persistedSequence() - 1, 1).get(0).getLawyerID());
+	}
+}
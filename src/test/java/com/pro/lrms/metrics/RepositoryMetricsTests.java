@@ -0,0 +1,66 @@
+package com.pro.lrms.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import com.pro.lrms.dto.BulkStatusRequest;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.repository.LawyerRepository;
+import com.pro.lrms.service.LawyerService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+class RepositoryMetricsTests {
+
+	@Autowired
+	private LawyerRepository lawyerRepo;
+
+	@Autowired
+	private LawyerService lawyerService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@BeforeEach
+	void seed() {
+		lawyerRepo.deleteAll();
+		for (int i = 1; i <= 3; i++) {
+			lawyerRepo.save(new LawyerRecord("LID00" + i, "Lawyer " + i, "900000000" + i, "Bengaluru",
+					"Civil", 10 * i, i, 0.5f, "KA10000" + i, "Active"));
+		}
+	}
+
+	@Test
+	void repositoryCallsRecordRowCounts() {
+		// The registry is shared with other tests in the same context, so compare against the totals before
+		double pageRows = rows("findPageAfter");
+		double lookupRows = rows("findByLawyerID");
+		double updatedRows = rows("updateStatusByIDs");
+
+		List<LawyerRecord> page = lawyerRepo.findPageAfter("", Limit.of(10));
+		assertEquals(3, page.size());
+		assertNull(lawyerRepo.findByLawyerID("LID404"));
+		lawyerService.changeLawyerStatus(new BulkStatusRequest("Inactive", List.of("LID001", "LID002"), null, null));
+
+		assertEquals(pageRows + 3, rows("findPageAfter"));
+		assertEquals(lookupRows, rows("findByLawyerID"));
+		assertNotNull(meterRegistry.find("lrms.repository.rows").tag("method", "findByLawyerID").summary());
+		assertEquals(updatedRows + 2, rows("updateStatusByIDs"));
+		assertNotNull(meterRegistry.find("spring.data.repository.invocations").tag("method", "findPageAfter").timer());
+	}
+
+	private double rows(String method) {
+		DistributionSummary summary = meterRegistry.find("lrms.repository.rows")
+				.tags("repository", "LawyerRepository", "method", method).summary();
+		return summary == null ? 0 : summary.totalAmount();
+	}
+}
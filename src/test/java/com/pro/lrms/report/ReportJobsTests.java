@@ -0,0 +1,89 @@
+package com.pro.lrms.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.pro.lrms.dto.ExportFormat;
+import com.pro.lrms.dto.ReportType;
+import com.pro.lrms.exception.AdmissionRejectedException;
+
+class ReportJobsTests {
+
+	@TempDir
+	Path directory;
+
+	private ReportJobs reportJobs;
+
+	@AfterEach
+	void shutdown() {
+		reportJobs.shutdown();
+	}
+
+	@Test
+	void identicalSubmissionsShareRunningJob() throws Exception {
+		reportJobs = new ReportJobs(directory.toString(), 1, 1, Duration.ofHours(1));
+		ReportKey key = new ReportKey(ReportType.ROSTER, ExportFormat.CSV, "civil");
+		CountDownLatch release = new CountDownLatch(1);
+		ReportGenerator blocked = (out, job) -> {
+			job.setExpectedRows(1);
+			await(release);
+			out.write("row\n");
+			job.rowWritten();
+		};
+
+		ReportJob first = reportJobs.submit(key, blocked);
+		ReportJob second = reportJobs.submit(key, blocked);
+		ReportJob other = reportJobs.submit(new ReportKey(ReportType.SUMMARY, ExportFormat.CSV, null), blocked);
+		assertSame(first, second);
+		assertNotEquals(first.getId(), other.getId());
+		assertEquals(2, first.toStatus(reportJobs.getTtl()).getRequests());
+		assertThrows(AdmissionRejectedException.class,
+				() -> reportJobs.submit(new ReportKey(ReportType.SUMMARY, ExportFormat.NDJSON, null), blocked));
+
+		release.countDown();
+		awaitFinished(first);
+		assertEquals(ReportJob.State.COMPLETED, first.getState());
+		assertEquals("row\n", Files.readString(first.getFile()));
+		assertEquals(1.0, first.toStatus(reportJobs.getTtl()).getProgress());
+		assertNotEquals(first.getId(), reportJobs.submit(key, blocked).getId());
+	}
+
+	@Test
+	void finishedJobsExpireWithTheirFiles() throws Exception {
+		reportJobs = new ReportJobs(directory.toString(), 1, 1, Duration.ZERO);
+		ReportJob job = reportJobs.submit(new ReportKey(ReportType.SUMMARY, ExportFormat.NDJSON, null),
+				(out, progress) -> out.write("{}\n"));
+		awaitFinished(job);
+		Path file = job.getFile();
+		assertEquals(true, Files.exists(file));
+
+		reportJobs.expire();
+		assertNull(reportJobs.find(job.getId()));
+		assertEquals(false, Files.exists(file));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void awaitFinished(ReportJob job) throws InterruptedException {
+		for (int i = 0; i < 500 && !job.isFinished(); i++) {
+			Thread.sleep(10);
+		}
+	}
+}
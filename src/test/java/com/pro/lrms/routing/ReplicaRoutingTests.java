@@ -0,0 +1,129 @@
+package com.pro.lrms.routing;
+
+import static com.pro.lrms.LawyerFixtures.lawyer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.pro.lrms.cache.CollectionVersion;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.event.LawyerChangeFeed;
+import com.pro.lrms.repository.LawyerRepository;
+import com.pro.lrms.service.LawyerService;
+import com.zaxxer.hikari.HikariDataSource;
+
+// Two embedded H2 databases stand in for the primary and a replica; nothing replicates between them,
+// so which database a read went to shows in what it returns
+@SpringBootTest(properties = {
+		"lrms.datasource.replica-urls=" + ReplicaRoutingTests.REPLICA_URL,
+		"lrms.datasource.replica-username=sa",
+		"lrms.datasource.replica-password=",
+		"lrms.datasource.max-lag=5s",
+		"lrms.datasource.heartbeat-interval=1h",
+		"lrms.datasource.health-check-interval=1h"
+})
+class ReplicaRoutingTests {
+
+	static final String REPLICA_URL = "jdbc:h2:mem:lrms_replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+	@Autowired
+	private LawyerService lawyerService;
+
+	@Autowired
+	private LawyerRepository lawyerRepo;
+
+	@Autowired
+	private HikariDataSource primaryDataSource;
+
+	@Autowired
+	private ReplicaDataSource replicaDataSource;
+
+	@Autowired
+	private LawyerChangeFeed lawyerChangeFeed;
+
+	@Autowired
+	private CollectionVersion collectionVersion;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private JdbcTemplate primary;
+
+	private JdbcTemplate replica;
+
+	@BeforeEach
+	void copySchemaToReplica() {
+		replicaDataSource.heartbeat();
+		primary = new JdbcTemplate(primaryDataSource);
+		replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+		replica.execute("DROP ALL OBJECTS");
+		for (String statement : primary.queryForList("SCRIPT NODATA", String.class)) {
+			replica.execute(statement);
+		}
+		lawyerRepo.deleteAll();
+		setReplicaHeartbeat(Instant.now());
+	}
+
+	@Test
+	void readOnlyServiceMethodsUseTheReplica() {
+		lawyerService.createLawyerProfile(familyLawyer("LID001", "KA600001"));
+
+		// Not yet on the replica: read-only list methods miss it, by-ID lookups read the primary
+		assertEquals(List.of(), ids(lawyerService.getLawyerByDomain("Family", null, null).getContent()));
+		assertEquals("LID001", lawyerService.getLawyerByID("LID001").getLawyerID());
+
+		replica.update("INSERT INTO lawyerrecord (lawyerid, lawyername, lawyerdomain, lawyerstatus, lawyerlicense, lawyercase, "
+				+ "lawyerexperience, lawyerwr, lawyerversion) VALUES ('LID001', 'Lawyer LID001', 'Family', 'Active', 'KA600001', 0, 0, 0, 0)");
+		assertEquals(List.of("LID001"), ids(lawyerService.getLawyerByDomain("Family", null, null).getContent()));
+	}
+
+	@Test
+	void laggingReplicaFallsBackToPrimary() {
+		lawyerService.createLawyerProfile(familyLawyer("LID002", "KA600002"));
+		assertEquals(List.of(), ids(lawyerService.getLawyerByDomain("Family", null, null).getContent()));
+
+		setReplicaHeartbeat(Instant.now().minusSeconds(60));
+		assertEquals(List.of(), replicaDataSource.eligibleReplicas());
+		assertEquals(List.of("LID002"), ids(lawyerService.getLawyerByDomain("Family", null, null).getContent()));
+	}
+
+	@Test
+	void collectionVersionIsReadFromThePrimary() {
+		lawyerService.createLawyerProfile(lawyer("LID003", "KA600003"));
+		lawyerChangeFeed.flush();
+
+		// The replica's change log is empty; the tag must not be older than the records read from the primary,
+		// even when it is taken inside a read-only transaction
+		assertEquals(0, replica.queryForObject("SELECT COUNT(*) FROM lawyerchange", Long.class));
+		TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+		readOnlyTx.setReadOnly(true);
+		String version = readOnlyTx.execute(tx -> collectionVersion.current());
+		assertEquals(primary.queryForObject("SELECT MAX(sequence) FROM lawyerchange", Long.class).toString(), version);
+	}
+
+	private void setReplicaHeartbeat(Instant beatAt) {
+		replica.update("DELETE FROM " + ReplicaDataSource.HEARTBEAT_TABLE);
+		replica.update("INSERT INTO " + ReplicaDataSource.HEARTBEAT_TABLE + " (id, beatat) VALUES (1, ?)", Timestamp.from(beatAt));
+		replicaDataSource.checkHealth();
+	}
+
+	private static List<String> ids(List<LawyerRecord> lawyers) {
+		return lawyers.stream().map(LawyerRecord::getLawyerID).toList();
+	}
+
+	private static LawyerRecord familyLawyer(String lawyerID, String license) {
+		LawyerRecord lawyer = lawyer(lawyerID, license);
+		lawyer.setLawyerDomain("Family");
+		return lawyer;
+	}
+}
@@ -0,0 +1,122 @@
+package com.pro.lrms.serviceimp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import com.pro.lrms.concurrency.ExecutionModeConfiguration;
+import com.pro.lrms.concurrency.PinningMonitor;
+import com.pro.lrms.concurrency.ServiceExecutor;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.exception.LawyerDetailsNotFoundException;
+import com.pro.lrms.service.LawyerService;
+
+class LawyerAsyncServiceImpTests {
+
+	private static final int REQUESTS = 200;
+	private static final int POOL_SIZE = 8;
+	private static final long DB_LATENCY_MS = 50;
+
+	/**
+	 * The platform pool can only overlap POOL_SIZE database waits, whatever the number of requests.
+	 */
+	@Test
+	void platformPoolOverlapsAtMostPoolSizeLookups() throws Exception {
+		Overlap overlap = new Overlap();
+		LawyerService slowService = mock(LawyerService.class);
+		when(slowService.getLawyerByID(anyString())).thenAnswer(invocation -> overlap.during(() -> Thread.sleep(DB_LATENCY_MS)));
+
+		runBurst(slowService, false);
+
+		assertTrue(overlap.max() <= POOL_SIZE, "max in flight " + overlap.max());
+	}
+
+	/**
+	 * On virtual threads more lookups than the platform pool size wait on the database at once: every call
+	 * holds until POOL_SIZE + 1 of them are in flight together, which a pool of POOL_SIZE could never reach.
+	 */
+	@Test
+	void virtualThreadsOverlapMoreLookupsThanThePool() throws Exception {
+		Overlap overlap = new Overlap();
+		CountDownLatch together = new CountDownLatch(POOL_SIZE + 1);
+		LawyerService slowService = mock(LawyerService.class);
+		when(slowService.getLawyerByID(anyString())).thenAnswer(invocation -> overlap.during(() -> {
+			together.countDown();
+			together.await(5, TimeUnit.SECONDS);
+		}));
+
+		runBurst(slowService, true);
+
+		assertEquals(0, together.getCount());
+		assertTrue(overlap.max() > POOL_SIZE, "max in flight " + overlap.max());
+	}
+
+	@Test
+	void asyncVariantFailsWithServiceException() throws Exception {
+		LawyerService service = mock(LawyerService.class);
+		when(service.getLawyerByID("LID404")).thenThrow(new LawyerDetailsNotFoundException("Lawyer Not Found"));
+
+		try (ServiceExecutor executor = new ExecutionModeConfiguration().serviceExecutor(true, POOL_SIZE, 100)) {
+			LawyerAsyncServiceImp asyncService = new LawyerAsyncServiceImp(service, executor, monitor());
+			CompletionException failure = assertThrows(CompletionException.class, () -> asyncService.getLawyerByID("LID404").join());
+			assertInstanceOf(LawyerDetailsNotFoundException.class, failure.getCause());
+			assertEquals(1, asyncService.getThreadStatistics().getServiceExecutor().getSubmitted());
+		}
+	}
+
+	private static void runBurst(LawyerService service, boolean virtual) throws Exception {
+		try (ServiceExecutor executor = new ExecutionModeConfiguration().serviceExecutor(virtual, POOL_SIZE, REQUESTS)) {
+			LawyerAsyncServiceImp asyncService = new LawyerAsyncServiceImp(service, executor, monitor());
+			List<CompletableFuture<LawyerRecord>> calls = new ArrayList<>(REQUESTS);
+			for (int i = 0; i < REQUESTS; i++) {
+				calls.add(asyncService.getLawyerByID("LID" + i));
+			}
+			CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+			assertEquals(REQUESTS, asyncService.getThreadStatistics().getServiceExecutor().getSubmitted());
+		}
+	}
+
+	/**
+	 * Counts the simulated database calls in flight and the most that were in flight at once.
+	 */
+	private static final class Overlap {
+
+		interface Wait {
+			void run() throws InterruptedException;
+		}
+
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final AtomicInteger max = new AtomicInteger();
+
+		LawyerRecord during(Wait wait) throws InterruptedException {
+			max.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try {
+				wait.run();
+			} finally {
+				inFlight.decrementAndGet();
+			}
+			return new LawyerRecord();
+		}
+
+		int max() {
+			return max.get();
+		}
+	}
+
+	private static PinningMonitor monitor() {
+		return new PinningMonitor(false, false, Duration.ofMillis(20));
+	}
+}
@@ -0,0 +1,56 @@
+package com.pro.lrms.serviceimp;
+
+import static com.pro.lrms.LawyerFixtures.lawyer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import com.pro.lrms.dto.ImportReport;
+import com.pro.lrms.dto.ImportRowResult.Status;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.repository.LawyerRepository;
+import com.pro.lrms.service.LawyerImportService;
+
+@SpringBootTest(properties = "lrms.import.chunk-size=3")
+class LawyerImportServiceImpTests {
+
+	@Autowired
+	private LawyerImportService lawyerImportService;
+
+	@Autowired
+	private LawyerRepository lawyerRepo;
+
+	@BeforeEach
+	void seed() {
+		lawyerRepo.deleteAll();
+		lawyerRepo.save(lawyer("LID001", "KA100001"));
+	}
+
+	@Test
+	void importRejectsDuplicatesAcrossDatabaseAndPayload() {
+		List<LawyerRecord> rows = new ArrayList<>();
+		rows.add(lawyer("LID002", "KA100002"));
+		rows.add(lawyer("LID001", "KA100009"));  // ID already in the database
+		rows.add(lawyer("LID003", "KA100001"));  // license already in the database
+		rows.add(lawyer("LID004", "KA100002"));  // license repeated in the payload
+		rows.add(lawyer(null, "KA100005"));
+		rows.add(lawyer("LID006", "KA100006"));
+
+		ImportReport report = lawyerImportService.importLawyers(rows.iterator());
+
+		assertEquals(6, report.getTotal());
+		assertEquals(2, report.getCreated());
+		assertEquals(Status.CREATED, report.getRows().get(0).getStatus());
+		assertEquals(Status.DUPLICATE_ID, report.getRows().get(1).getStatus());
+		assertEquals(Status.DUPLICATE_LICENSE, report.getRows().get(2).getStatus());
+		assertEquals(Status.DUPLICATE_LICENSE, report.getRows().get(3).getStatus());
+		assertEquals(Status.INVALID, report.getRows().get(4).getStatus());
+		assertEquals(5, report.getRows().get(5).getRow());
+		assertEquals(3, lawyerRepo.count());
+	}
+
+}
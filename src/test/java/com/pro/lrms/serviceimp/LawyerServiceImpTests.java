@@ -0,0 +1,189 @@
+package com.pro.lrms.serviceimp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import com.pro.lrms.dto.BulkStatusRequest;
+import com.pro.lrms.dto.ExportFormat;
+import com.pro.lrms.dto.LawyerListItem;
+import com.pro.lrms.dto.LawyerPage;
+import com.pro.lrms.dto.LawyerSummary;
+import com.pro.lrms.dto.LawyerSearchCriteria;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.exception.LawyerVersionConflictException;
+import com.pro.lrms.repository.LawyerRepository;
+import com.pro.lrms.service.LawyerService;
+
+@SpringBootTest
+class LawyerServiceImpTests {
+
+	@Autowired
+	private LawyerService lawyerService;
+
+	@Autowired
+	private LawyerRepository lawyerRepo;
+
+	@BeforeEach
+	void seed() {
+		lawyerRepo.deleteAll();
+		for (int i = 1; i <= 5; i++) {
+			lawyerRepo.save(new LawyerRecord("LID00" + i, "Lawyer " + i, "900000000" + i, "Bengaluru",
+					i % 2 == 0 ? "Civil" : "Crime", 10 * i, i, 0.5f, "KA10000" + i, i == 3 ? "Inactive" : "Active"));
+		}
+	}
+
+	@Test
+	void keysetPagesCoverAllRecordsInOrder() {
+		LawyerPage<LawyerRecord> first = lawyerService.getAllLawyer(null, 2);
+		assertEquals(2, first.getContent().size());
+		assertEquals("LID001", first.getContent().get(0).getLawyerID());
+		assertNotNull(first.getNextCursor());
+
+		LawyerPage<LawyerRecord> second = lawyerService.getAllLawyer(first.getNextCursor(), 2);
+		assertEquals("LID003", second.getContent().get(0).getLawyerID());
+
+		LawyerPage<LawyerRecord> last = lawyerService.getAllLawyer(second.getNextCursor(), 2);
+		assertEquals(1, last.getContent().size());
+		assertNull(last.getNextCursor());
+	}
+
+	@Test
+	void activeAndDomainPagesApplyFilters() {
+		assertEquals(4, lawyerService.getActiveLawyers(null, 10).getContent().size());
+		assertEquals(3, lawyerService.getLawyerByDomain("crime", null, 10).getContent().size());
+	}
+
+	@Test
+	void exportStreamsEveryRecord() throws Exception {
+		ByteArrayOutputStream csv = new ByteArrayOutputStream();
+		lawyerService.exportLawyers(ExportFormat.CSV, csv);
+		String[] lines = csv.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(6, lines.length);
+		assertTrue(lines[1].startsWith("LID001,Lawyer 1,"));
+
+		ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+		lawyerService.exportLawyers(ExportFormat.NDJSON, ndjson);
+		assertEquals(5, ndjson.toString(StandardCharsets.UTF_8).split("\n").length);
+	}
+
+	@Test
+	void cachedLookupsFollowWrites() {
+		LawyerRecord fresh = new LawyerRecord("LID100", "New Lawyer", "9000000100", "Hubballi", "Civil", 0, 1, 0f, "KA200100", "Active");
+		assertNull(lawyerService.getLawyerByLicenseNumber("KA200100"));  // cached as "not found"
+
+		lawyerService.createLawyerProfile(fresh);
+		assertEquals("LID100", lawyerService.getLawyerByLicenseNumber("KA200100").getLawyerID());
+
+		assertEquals("Active", lawyerService.getLawyerByID("LID100").getLawyerStatus());
+		lawyerService.changeLawyerStatus("LID100");
+		assertEquals("Inactive", lawyerService.getLawyerByID("LID100").getLawyerStatus());
+
+		lawyerService.deleteLaywer("LID100");
+		assertNull(lawyerService.getLawyerByLicenseNumber("KA200100"));
+	}
+
+	@Test
+	void statusToggleAndBulkChange() {
+		assertEquals("Active", lawyerService.changeLawyerStatus("LID003"));
+		assertEquals("Inactive", lawyerService.changeLawyerStatus("LID003"));
+
+		assertEquals(2, lawyerService.changeLawyerStatus(new BulkStatusRequest("Inactive", List.of("LID001", "LID002", "LID003"), null, null)));
+		assertEquals(1, lawyerService.changeLawyerStatus(new BulkStatusRequest("Inactive", null, "crime", "Active")));
+		assertEquals("Inactive", lawyerService.getLawyerByID("LID005").getLawyerStatus());
+		assertEquals(1, lawyerService.getActiveLawyers(null, 10).getContent().size());
+	}
+
+	@Test
+	void searchCombinesFiltersAndSorts() {
+		LawyerSearchCriteria criteria = new LawyerSearchCriteria("CRIME", "Active", 2, null, 10, null, null, null, "law",
+				"laywerCase", "desc");
+		LawyerPage<LawyerRecord> page = lawyerService.searchLawyers(criteria, null, 10);
+		assertEquals(1, page.getContent().size());
+		assertEquals("LID005", page.getContent().get(0).getLawyerID());
+
+		LawyerSearchCriteria all = new LawyerSearchCriteria();
+		all.setSort("lawyerExperienece");
+		all.setDirection("desc");
+		LawyerPage<LawyerRecord> first = lawyerService.searchLawyers(all, null, 3);
+		assertEquals("LID005", first.getContent().get(0).getLawyerID());
+		LawyerPage<LawyerRecord> second = lawyerService.searchLawyers(all, first.getNextCursor(), 3);
+		assertEquals(2, second.getContent().size());
+		assertNull(second.getNextCursor());
+	}
+
+	@Test
+	void searchPagesSeekPastTiesAndNulls() {
+		// Every win ratio is equal, so pages continue by lawyerID within the tie
+		LawyerSearchCriteria byRatio = new LawyerSearchCriteria();
+		byRatio.setSort("lawyerWinRatio");
+		byRatio.setDirection("desc");
+		assertEquals(List.of("LID001", "LID002", "LID003", "LID004", "LID005"), searchAll(byRatio, 2));
+
+		// Nulls sort last ascending and first descending
+		LawyerRecord unnamed = lawyerRepo.findByLawyerID("LID002");
+		unnamed.setLawyerName(null);
+		lawyerRepo.save(unnamed);
+		LawyerSearchCriteria byName = new LawyerSearchCriteria();
+		byName.setSort("lawyerName");
+		assertEquals(List.of("LID001", "LID003", "LID004", "LID005", "LID002"), searchAll(byName, 2));
+		byName.setDirection("desc");
+		assertEquals(List.of("LID002", "LID005", "LID004", "LID003", "LID001"), searchAll(byName, 1));
+
+		// A cursor only continues the order it was issued for, and a crafted one is rejected
+		String cursor = lawyerService.searchLawyers(byRatio, null, 2).getNextCursor();
+		assertThrows(IllegalArgumentException.class, () -> lawyerService.searchLawyers(byName, cursor, 2));
+		String crafted = Base64.getUrlEncoder().withoutPadding().encodeToString("off:2147483647".getBytes(StandardCharsets.UTF_8));
+		assertThrows(IllegalArgumentException.class, () -> lawyerService.searchLawyers(byRatio, crafted, 2));
+	}
+
+	private List<String> searchAll(LawyerSearchCriteria criteria, int size) {
+		List<String> ids = new ArrayList<>();
+		String cursor = null;
+		do {
+			LawyerPage<Map<String, Object>> page = lawyerService.searchLawyers(criteria, "lawyerStatus", cursor, size);
+			page.getContent().forEach(row -> ids.add((String) row.get("lawyerID")));
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+		assertEquals(ids, lawyerService.searchLawyers(criteria, null, 10).getContent().stream().map(LawyerRecord::getLawyerID).toList());
+		return ids;
+	}
+
+	@Test
+	void projectionsReturnTypedRows() {
+		LawyerPage<LawyerListItem> compact = lawyerService.getCompactLawyers(null, "civil", null, 1);
+		assertEquals("LID002", compact.getContent().get(0).lawyerID());
+		assertEquals("LID004", lawyerService.getCompactLawyers(null, "civil", compact.getNextCursor(), 1).getContent().get(0).lawyerID());
+		assertEquals(4, lawyerService.getCompactLawyers("Active", null, null, 10).getContent().size());
+
+		List<LawyerSummary> summary = lawyerService.getLawyerSummary();
+		assertEquals(5, summary.size());
+		assertEquals(0.5f, summary.get(0).winRatio());
+	}
+
+	@Test
+	void statusChangeChecksExpectedVersion() {
+		long version = lawyerService.getLawyerByID("LID001").getLawyerVersion();
+		LawyerRecord updated = lawyerService.changeLawyerStatus("LID001", version);
+		assertEquals("Inactive", updated.getLawyerStatus());
+		assertEquals(version + 1, updated.getLawyerVersion());
+
+		// A second writer still holding the old version is refused and changes nothing
+		assertThrows(LawyerVersionConflictException.class, () -> lawyerService.changeLawyerStatus("LID001", version));
+		assertEquals("Inactive", lawyerService.getLawyerByID("LID001").getLawyerStatus());
+	}
+
+}
@@ -0,0 +1,164 @@
+package com.pro.lrms.sharding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.pro.lrms.LawyerFixtures;
+import com.pro.lrms.cache.LawyerCache;
+import com.pro.lrms.dto.LawyerPage;
+import com.pro.lrms.dto.LawyerSearchCriteria;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.exception.LawyerDetailsNotFoundException;
+import com.pro.lrms.service.LawyerService;
+
+// Three embedded H2 databases: the test database is the home shard, the two listed ones are shards 1 and 2.
+// Each keeps its own rows, so which database a record went to shows in what each of them holds
+@SpringBootTest(properties = {
+		"lrms.sharding.shard-urls=" + ShardingTests.SHARD_1_URL + "," + ShardingTests.SHARD_2_URL,
+		"lrms.sharding.username=sa",
+		"lrms.sharding.password="
+})
+class ShardingTests {
+
+	static final String SHARD_1_URL = "jdbc:h2:mem:lrms_shard1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+	static final String SHARD_2_URL = "jdbc:h2:mem:lrms_shard2;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+	private static final int LAWYERS = 30;
+
+	@Autowired
+	private LawyerService lawyerService;
+
+	@Autowired
+	private LawyerCache lawyerCache;
+
+	@Autowired
+	private ShardedDataSource dataSource;
+
+	@Autowired
+	private Shards shards;
+
+	@BeforeEach
+	void clearShards() {
+		for (int shard = 0; shard < dataSource.size(); shard++) {
+			shard(shard).update("DELETE FROM lawyerrecord");
+		}
+		shard(0).update("DELETE FROM " + LicenseIndex.TABLE);
+		lawyerCache.invalidateAll();
+		IntStream.rangeClosed(1, LAWYERS).forEach(i -> lawyerService.createLawyerProfile(lawyer(i)));
+	}
+
+	@Test
+	void pointOperationsUseTheShardOfTheLawyerID() {
+		int[] perShard = new int[shards.count()];
+		for (int i = 1; i <= LAWYERS; i++) {
+			int home = shards.shardOf(id(i));
+			for (int shard = 0; shard < shards.count(); shard++) {
+				assertEquals(shard == home ? 1 : 0, rows(shard, id(i)));
+			}
+			perShard[home]++;
+		}
+		for (int count : perShard) {
+			assertTrue(count > 0);
+		}
+
+		assertEquals("LID007", lawyerService.getLawyerByID("LID007").getLawyerID());
+		assertEquals("Inactive", lawyerService.changeLawyerStatus("LID007"));
+		assertEquals("Inactive", shard(shards.shardOf("LID007"))
+				.queryForObject("SELECT lawyerstatus FROM lawyerrecord WHERE lawyerid = 'LID007'", String.class));
+
+		lawyerService.deleteLaywer("LID008");
+		assertEquals(0, rows(shards.shardOf("LID008"), "LID008"));
+		assertThrows(LawyerDetailsNotFoundException.class, () -> lawyerService.getLawyerByID("LID008"));
+	}
+
+	@Test
+	void scatterGatherMergesEveryShardInOrder() {
+		List<String> all = IntStream.rangeClosed(1, LAWYERS).mapToObj(ShardingTests::id).toList();
+		assertEquals(all, ids(lawyerService.getAllLawyer()));
+		assertEquals(LAWYERS, lawyerService.getLawyerSummary().size());
+
+		// Keyset pages cut across shards without skipping or repeating a record
+		List<String> paged = new ArrayList<>();
+		String cursor = null;
+		do {
+			LawyerPage<LawyerRecord> page = lawyerService.getAllLawyer(cursor, 7);
+			paged.addAll(ids(page.getContent()));
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+		assertEquals(all, paged);
+
+		lawyerService.changeLawyerStatus("LID003");
+		assertEquals(all.stream().filter(id -> !id.equals("LID003")).toList(), ids(lawyerService.getActiveLawyers()));
+		assertEquals(IntStream.rangeClosed(1, LAWYERS).filter(i -> i % 3 == 0).mapToObj(ShardingTests::id).toList(),
+				ids(lawyerService.getLawyerByDomain("Family")));
+
+		// Keyset pages of a search ordered by another property, most experienced first
+		LawyerSearchCriteria criteria = new LawyerSearchCriteria();
+		criteria.setSort("lawyerExperienece");
+		criteria.setDirection("desc");
+		List<String> searched = new ArrayList<>();
+		cursor = null;
+		do {
+			LawyerPage<LawyerRecord> page = lawyerService.searchLawyers(criteria, cursor, 4);
+			searched.addAll(ids(page.getContent()));
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+		assertEquals(all.reversed(), searched);
+	}
+
+	@Test
+	void licenseLookupsGoThroughTheGlobalIndex() {
+		assertEquals("LID005", lawyerService.getLawyerByLicenseNumber(license(5)).getLawyerID());
+		assertEquals("LID005", shard(0).queryForObject("SELECT lawyerid FROM " + LicenseIndex.TABLE
+				+ " WHERE lawyerlicense = ?", String.class, license(5)));
+
+		// A license held on one shard cannot be taken by a record placed on another
+		LawyerRecord duplicate = lawyer(LAWYERS + 1);
+		duplicate.setLawyerLicenseNumber(license(5));
+		assertThrows(RuntimeException.class, () -> lawyerService.createLawyerProfile(duplicate));
+		for (int shard = 0; shard < shards.count(); shard++) {
+			assertEquals(0, rows(shard, duplicate.getLawyerID()));
+		}
+
+		lawyerService.deleteLaywer("LID005");
+		assertNull(lawyerService.getLawyerByLicenseNumber(license(5)));
+	}
+
+	private JdbcTemplate shard(int shard) {
+		return new JdbcTemplate(dataSource.shard(shard));
+	}
+
+	private int rows(int shard, String lawyerID) {
+		return shard(shard).queryForObject("SELECT COUNT(*) FROM lawyerrecord WHERE lawyerid = ?", Integer.class, lawyerID);
+	}
+
+	private static List<String> ids(List<LawyerRecord> lawyers) {
+		return lawyers.stream().map(LawyerRecord::getLawyerID).toList();
+	}
+
+	private static String id(int i) {
+		return String.format("LID%03d", i);
+	}
+
+	private static String license(int i) {
+		return String.format("KA7%05d", i);
+	}
+
+	private static LawyerRecord lawyer(int i) {
+		LawyerRecord lawyer = LawyerFixtures.lawyer(id(i), license(i));
+		lawyer.setLawyerDomain(i % 3 == 0 ? "Family" : "Civil");
+		lawyer.setLaywerCase(i);
+		lawyer.setLawyerExperienece(i);
+		return lawyer;
+	}
+}
@@ -0,0 +1,75 @@
+package com.pro.lrms.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import com.pro.lrms.dto.AnalyticsFilter;
+import com.pro.lrms.dto.AnalyticsGroup;
+
+class ColumnarLawyersTests {
+
+	@Test
+	void aggregatesMatchRowByRowComputation() {
+		ColumnarLawyers columns = new ColumnarLawyers(0);
+		Map<String, int[]> expected = new HashMap<>();  // lawyerID -> {domain, status, cases, experience}
+		String[] domains = {"Civil", "Criminal", "Family"};
+		Random random = new Random(42);
+		// Past the parallel chunk size, with updates and deletes that move rows around
+		for (int i = 0; i < 150_000; i++) {
+			String id = "LID" + random.nextInt(120_000);
+			if (random.nextInt(10) == 0) {
+				assertEquals(expected.remove(id) != null, columns.remove(id));
+			} else {
+				int[] row = {random.nextInt(3), random.nextInt(2), random.nextInt(50), random.nextInt(40)};
+				columns.put(id, 0, domains[row[0]], row[1] == 0 ? "Active" : "Inactive", row[2], row[3], 0.5f);
+				expected.put(id, row);
+			}
+		}
+		assertEquals(expected.size(), columns.size());
+
+		AnalyticsFilter activeCivil = new AnalyticsFilter("civil", "Active", 10, null, null, null, null, null);
+		long count = 0;
+		long cases = 0;
+		for (int[] row : expected.values()) {
+			if (row[0] == 0 && row[1] == 0 && row[3] >= 10) {
+				count++;
+				cases += row[2];
+			}
+		}
+		List<AnalyticsGroup> groups = columns.groupBy(ColumnarLawyers.GroupBy.DOMAIN, 5, ColumnarLawyers.Metric.CASES, activeCivil);
+		assertEquals(1, groups.size());
+		assertEquals("Civil", groups.get(0).getGroup());
+		assertEquals(count, groups.get(0).getCount());
+		assertEquals(cases, groups.get(0).getSum(), 1e-6);
+
+		Map<String, Long> histogram = columns.histogram(ColumnarLawyers.Metric.EXPERIENCE, 10, activeCivil);
+		assertEquals(List.of("10-19", "20-29", "30-39"), List.copyOf(histogram.keySet()));
+		assertEquals(count, histogram.values().stream().mapToLong(Long::longValue).sum());
+	}
+
+	@Test
+	void percentilesAndWinRatioRule() {
+		ColumnarLawyers columns = new ColumnarLawyers(0);
+		for (int i = 1; i <= 100; i++) {
+			columns.put("LID" + i, 0, "Civil", "Active", i, i % 10, i / 100f);
+		}
+		columns.put("LID0", 0, "Civil", "Active", 0, 0, 0.9f);  // no cases counts as a win ratio of 0
+		columns.setStatus("LID100", "Inactive", 2);
+		assertFalse(columns.setStatus("LID100", "Active", 1));  // older than the row
+
+		Map<String, Double> cases = columns.percentiles(ColumnarLawyers.Metric.CASES, new double[] {0.5, 0.99},
+				new AnalyticsFilter(null, "active", null, null, null, null, null, null));
+		assertEquals(Map.of("p50", 49.0, "p99", 98.0), cases);  // 100 active lawyers with 0..99 cases
+		assertEquals(0.5, columns.percentiles(ColumnarLawyers.Metric.WIN_RATIO, new double[] {0.5}, null).get("p50"), 1e-9);
+
+		AnalyticsGroup inactive = columns.groupBy(ColumnarLawyers.GroupBy.STATUS, 5, ColumnarLawyers.Metric.WIN_RATIO, null).get(1);
+		assertEquals("Inactive", inactive.getGroup());
+		assertEquals(1, inactive.getCount());
+		assertFalse(columns.remove("LID101"));
+	}
+}
@@ -0,0 +1,68 @@
+package com.pro.lrms.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import com.pro.lrms.dto.LeaderboardEntry;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.event.LawyerChangeEvent;
+import com.pro.lrms.repository.LawyerRepository;
+import com.pro.lrms.service.LawyerService;
+
+@SpringBootTest
+class LawyerLeaderboardTests {
+
+	@Autowired
+	private LawyerService lawyerService;
+
+	@Autowired
+	private LawyerRepository lawyerRepo;
+
+	@Autowired
+	private LawyerLeaderboard lawyerLeaderboard;
+
+	@BeforeEach
+	void seed() {
+		lawyerRepo.deleteAll();
+		lawyerRepo.save(new LawyerRecord("LID001", "A", "9000000001", "Mysuru", "Crime", 10, 4, 0.6f, "KA400001", "Active"));
+		lawyerRepo.save(new LawyerRecord("LID002", "B", "9000000002", "Mysuru", "Crime", 30, 12, 0.9f, "KA400002", "Inactive"));
+		lawyerRepo.save(new LawyerRecord("LID003", "C", "9000000003", "Mysuru", "Crime", 20, 8, 0.7f, "KA400003", "Active"));
+		lawyerLeaderboard.rebuild();
+	}
+
+	@Test
+	void topKFollowsStatusChanges() {
+		assertEquals(List.of("LID003", "LID001"), ids(lawyerService.getLeaderboard("crime", "lawyerWinRatio", 5, true)));
+		assertEquals(List.of("LID002", "LID003"), ids(lawyerService.getLeaderboard("Crime", "laywerCase", 2, false)));
+
+		lawyerService.changeLawyerStatus("LID002");
+		assertEquals(List.of("LID002", "LID003", "LID001"), ids(lawyerService.getLeaderboard("Crime", "lawyerExperienece", 5, true)));
+
+		lawyerService.deleteLaywer("LID003");
+		assertEquals(List.of("LID002", "LID001"), ids(lawyerService.getLeaderboard("Crime", "lawyerWinRatio", 5, true)));
+	}
+
+	@Test
+	void olderStatusChangesAreIgnored() {
+		// Two toggles of LID001 whose events are published in reverse order: the later one wins
+		lawyerLeaderboard.onLawyerChange(LawyerChangeEvent.statusChanged(lid001("Inactive", 1), lid001("Active", 2)));
+		lawyerLeaderboard.onLawyerChange(LawyerChangeEvent.statusChanged(lid001("Active", 0), lid001("Inactive", 1)));
+		assertEquals(List.of("LID003", "LID001"), ids(lawyerService.getLeaderboard("Crime", "lawyerWinRatio", 5, true)));
+		assertEquals(List.of("LID002", "LID003", "LID001"), ids(lawyerService.getLeaderboard("Crime", "lawyerWinRatio", 5, false)));
+	}
+
+	private static LawyerRecord lid001(String status, long version) {
+		LawyerRecord lawyer = new LawyerRecord("LID001", "A", "9000000001", "Mysuru", "Crime", 10, 4, 0.6f, "KA400001", status);
+		lawyer.setLawyerVersion(version);
+		return lawyer;
+	}
+
+	private static List<String> ids(List<LeaderboardEntry> entries) {
+		return entries.stream().map(LeaderboardEntry::getLawyerID).toList();
+	}
+
+}
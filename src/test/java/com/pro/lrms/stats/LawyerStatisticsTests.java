@@ -0,0 +1,101 @@
+package com.pro.lrms.stats;
+
+import static com.pro.lrms.LawyerFixtures.lawyer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import com.pro.lrms.dto.BulkStatusRequest;
+import com.pro.lrms.dto.GroupStatistics;
+import com.pro.lrms.dto.LawyerStatisticsView;
+import com.pro.lrms.entity.LawyerRecord;
+import com.pro.lrms.event.LawyerChangeEvent;
+import com.pro.lrms.repository.LawyerRepository;
+import com.pro.lrms.service.LawyerService;
+
+@SpringBootTest
+class LawyerStatisticsTests {
+
+	@Autowired
+	private LawyerService lawyerService;
+
+	@Autowired
+	private LawyerRepository lawyerRepo;
+
+	@Autowired
+	private LawyerStatistics lawyerStatistics;
+
+	@BeforeEach
+	void seed() {
+		lawyerRepo.deleteAll();
+		lawyerRepo.save(new LawyerRecord("LID001", "A", "9000000001", "Bengaluru", "Civil", 10, 4, 0.5f, "KA300001", "Active"));
+		lawyerRepo.save(new LawyerRecord("LID002", "B", "9000000002", "Bengaluru", "Civil", 0, 12, 0.9f, "KA300002", "Active"));
+		lawyerStatistics.reconcile();
+	}
+
+	@Test
+	void aggregatesFollowWrites() {
+		GroupStatistics civil = group(lawyerStatistics.view(), "Civil");
+		assertEquals(2, civil.getCount());
+		assertEquals(10, civil.getTotalCases());
+		assertEquals(0.25, civil.getMeanWinRatio(), 1e-6);  // no cases counts as 0, as in /summary
+		assertEquals(1L, civil.getExperienceHistogram().get("3-4"));
+
+		lawyerService.createLawyerProfile(new LawyerRecord("LID003", "C", "9000000003", "Mysuru", "Crime", 20, 6, 0.8f, "KA300003", "Active"));
+		lawyerService.changeLawyerStatus("LID001");
+		LawyerStatisticsView view = lawyerStatistics.view();
+		assertEquals(1, group(view, "Crime").getCount());
+		assertEquals(2, group(view, "Active").getCount());
+		assertEquals(1, group(view, "Inactive").getCount());
+
+		lawyerService.deleteLaywer("LID003");
+		assertEquals(1, lawyerStatistics.view().getByDomain().size());
+	}
+
+	@Test
+	void bulkChangesReconcileInTheBackground() throws InterruptedException {
+		assertEquals(2, lawyerService.changeLawyerStatus(new BulkStatusRequest("Inactive", null, "civil", "Active")));
+		lawyerService.createLawyerProfile(new LawyerRecord("LID003", "C", "9000000003", "Mysuru", "Crime", 20, 6, 0.8f, "KA300003", "Active"));
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (inactive() != 2 && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+		assertEquals(2, inactive());
+		assertEquals(1, group(lawyerStatistics.view(), "Active").getCount());
+		assertEquals(1, group(lawyerStatistics.view(), "Crime").getCount());
+	}
+
+	@Test
+	void eventsAlreadyCountedOrOvertakenAreIgnored() {
+		// Committed before the scan read the row, but published after it
+		lawyerStatistics.onLawyerChange(LawyerChangeEvent.statusChanged(lawyer("LID001", "KA300001", "Active", 0), lawyer("LID001", "KA300001", "Inactive", 0)));
+		assertEquals(0, inactive());
+
+		// Two toggles whose events are published in reverse order: the later one wins
+		lawyerStatistics.onLawyerChange(LawyerChangeEvent.statusChanged(lawyer("LID001", "KA300001", "Inactive", 1), lawyer("LID001", "KA300001", "Active", 2)));
+		lawyerStatistics.onLawyerChange(LawyerChangeEvent.statusChanged(lawyer("LID001", "KA300001", "Active", 0), lawyer("LID001", "KA300001", "Inactive", 1)));
+		assertEquals(0, inactive());
+		assertEquals(2, group(lawyerStatistics.view(), "Active").getCount());
+
+		lawyerStatistics.onLawyerChange(LawyerChangeEvent.statusChanged(lawyer("LID001", "KA300001", "Active", 2), lawyer("LID001", "KA300001", "Inactive", 3)));
+		assertEquals(1, inactive());
+		assertEquals(1, group(lawyerStatistics.view(), "Active").getCount());
+	}
+
+	private long inactive() {
+		return lawyerStatistics.view().getByStatus().stream()
+				.filter(g -> g.getGroup().equals("Inactive")).mapToLong(GroupStatistics::getCount).sum();
+	}
+
+	private static GroupStatistics group(LawyerStatisticsView view, String name) {
+		return Stream.concat(view.getByDomain().stream(), view.getByStatus().stream())
+				.filter(g -> g.getGroup().equals(name)).findFirst().orElseThrow();
+	}
+
+}